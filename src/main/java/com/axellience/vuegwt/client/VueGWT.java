@@ -7,6 +7,7 @@ import com.axellience.vuegwt.client.jsnative.html.HTMLElement;
 import com.axellience.vuegwt.client.jsnative.jsfunctions.JsRunnable;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
 import com.axellience.vuegwt.client.resources.VueGwtResources;
 import com.axellience.vuegwt.client.resources.VueLibResources;
 import com.axellience.vuegwt.client.tools.JsTools;
@@ -225,6 +226,19 @@ public class VueGWT
         onReadyCallbacksJava.push(callback);
     }
 
+    /**
+     * Run some mutations on observed Java objects, and notify Vue only once per modified object
+     * at the end.
+     * For example, adding elements one by one to an observed List in a batch re-renders it
+     * only once.
+     * @param mutations The code modifying the observed objects
+     */
+    @JsIgnore
+    public static void batch(Runnable mutations)
+    {
+        VueGWTObserverManager.batch(mutations);
+    }
+
     private static boolean isVueLibInjected()
     {
         return JsTools.getWindow().get("Vue") != null;
@@ -69,6 +69,8 @@ public abstract class VueComponent extends JsObject
     // Events
     public native void $on(String name, OnEvent callback);
     public native void $once(String name, OnEvent callback);
+    public native void $off();
+    public native void $off(String name);
     public native void $off(String name, OnEvent callback);
     public native void $emit(String name, Object... param);
 
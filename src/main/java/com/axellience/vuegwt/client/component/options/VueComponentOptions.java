@@ -8,9 +8,9 @@ import com.axellience.vuegwt.client.component.options.data.DataFactory;
 import com.axellience.vuegwt.client.component.options.props.PropOptions;
 import com.axellience.vuegwt.client.component.template.TemplateResource;
 import com.axellience.vuegwt.client.directive.options.VueDirectiveOptions;
-import com.axellience.vuegwt.client.jsnative.jstypes.JSON;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
 import com.axellience.vuegwt.client.tools.JsTools;
 import com.google.gwt.resources.client.CssResource;
 import jsinterop.annotations.JsOverlay;
@@ -39,7 +39,10 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject
     private ComponentJavaPrototype<T> componentJavaPrototype;
     private TemplateResource<T> templateResource;
     private Map<String, Provider<?>> dependenciesProvider;
-    private JsObject dataFields;
+    private JsArray<String> dataFields;
+    private JsObject shallowDataFields;
+    private JsArray<String> dataStyleNames;
+    private JsArray<CssResource> dataStyles;
 
     /**
      * Set the Java Prototype on this {@link VueComponentOptions}.
@@ -107,65 +110,137 @@ public class VueComponentOptions<T extends VueComponent> extends JsObject
     @JsOverlay
     private void initRenderFunctions()
     {
-        this.set("render", JsTools.createFunction(templateResource.getRenderFunction()));
-
-        JsArray<Object> staticRenderFns = new JsArray<>();
-        for (String staticRenderFunction : templateResource.getStaticRenderFunctions())
-        {
-            staticRenderFns.push(JsTools.createFunction(staticRenderFunction));
-        }
-        this.setStaticRenderFns(staticRenderFns);
+        this.set("render", templateResource.getRenderFunction());
+        this.setStaticRenderFns(templateResource.getStaticRenderFunctions());
     }
 
     /**
      * Add a data field to the Component. Vue.js will observe all this fields when the Component
      * will be bootstrapped.
      * @param fieldName Name of the field
+     * @deprecated Data fields are now created by the {@link DataFactory} given to {@link
+     * #initData(boolean, DataFactory)}. Only kept for Components generated by previous versions.
      */
+    @Deprecated
     @JsOverlay
     public final void addDataField(String fieldName)
     {
         if (dataFields == null)
-            dataFields = new JsObject();
+            dataFields = new JsArray<>();
+
+        dataFields.push(fieldName);
+    }
+
+    /**
+     * Add a shallow data field to the Component. Setting this field is reactive, but Vue.js won't
+     * observe the value it contains.
+     * @param fieldName Name of the field
+     */
+    @JsOverlay
+    public final void addShallowDataField(String fieldName)
+    {
+        if (shallowDataFields == null)
+            shallowDataFields = new JsObject();
 
-        dataFields.set(fieldName, null);
+        shallowDataFields.set(fieldName, true);
     }
 
     /**
      * Initialise the data structure, then set it to either a Factory or directly on the Component.
+     * The given {@link DataFactory} is generated for each Component, and directly creates an
+     * Object with all the data fields of the Component.
      * @param useFactory Boolean representing whether or not to use a Factory.
+     * @param dataFieldsFactory Factory creating an Object with the data fields of the Component
      */
     @JsOverlay
-    public final void initData(boolean useFactory)
+    public final void initData(boolean useFactory, DataFactory dataFieldsFactory)
     {
+        initDataStyles();
+
         if (useFactory)
         {
-            String dataFieldsJSON = JSON.stringify(dataFields);
             this.setData((DataFactory) () -> {
-                JsObject data = JSON.parse(dataFieldsJSON);
+                Object data = dataFieldsFactory.getData();
                 addStylesToData(data);
+                setShallowDataFields(data);
                 return data;
             });
         }
         else
         {
-            addStylesToData(dataFields);
-            this.setData((DataFactory) () -> dataFields);
+            Object data = dataFieldsFactory.getData();
+            addStylesToData(data);
+            setShallowDataFields(data);
+            this.setData((DataFactory) () -> data);
         }
     }
 
     /**
-     * Copy the Component styles from GWT to the data of the ComponentOptions.
+     * Initialise the data structure with the fields added with {@link #addDataField(String)} and
+     * {@link #addShallowDataField(String)}.
+     * @param useFactory Boolean representing whether or not to use a Factory.
+     * @deprecated Use {@link #initData(boolean, DataFactory)}. Only kept for Components generated
+     * by previous versions.
+     */
+    @Deprecated
+    @JsOverlay
+    public final void initData(boolean useFactory)
+    {
+        JsArray<String> fieldNames = dataFields == null ? new JsArray<>() : dataFields;
+        if (shallowDataFields != null)
+            fieldNames = fieldNames.concat(JsObject.getOwnPropertyNames(shallowDataFields));
+
+        JsArray<String> allFieldNames = fieldNames;
+        initData(useFactory, () -> {
+            JsObject data = new JsObject();
+            for (int i = 0; i < allFieldNames.length; i++)
+                data.set(allFieldNames.get(i), null);
+            return data;
+        });
+    }
+
+    /**
+     * Tell the Vue GWT observer which fields of the data are shallow.
      * @param data The data of the ComponentOptions
      */
     @JsOverlay
-    private void addStylesToData(JsObject data)
+    private void setShallowDataFields(Object data)
+    {
+        if (shallowDataFields != null)
+            VueGWTObserverManager.setShallowReactiveFields(data, shallowDataFields);
+    }
+
+    /**
+     * Copy the Component styles from GWT once, so they can be added to each data object without
+     * going through the GWT Map.
+     */
+    @JsOverlay
+    private void initDataStyles()
     {
         if (templateResource.getTemplateStyles() == null)
             return;
 
+        dataStyleNames = new JsArray<>();
+        dataStyles = new JsArray<>();
         for (Entry<String, CssResource> style : templateResource.getTemplateStyles().entrySet())
-            data.set(style.getKey(), style.getValue());
+        {
+            dataStyleNames.push(style.getKey());
+            dataStyles.push(style.getValue());
+        }
+    }
+
+    /**
+     * Copy the Component styles to the data of the ComponentOptions.
+     * @param data The data of the ComponentOptions
+     */
+    @JsOverlay
+    private void addStylesToData(Object data)
+    {
+        if (dataStyleNames == null)
+            return;
+
+        for (int i = 0; i < dataStyleNames.length; i++)
+            JsTools.set(data, dataStyleNames.get(i), dataStyles.get(i));
     }
 
     /**
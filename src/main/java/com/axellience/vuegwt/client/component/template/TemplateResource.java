@@ -1,6 +1,7 @@
 package com.axellience.vuegwt.client.component.template;
 
 import com.axellience.vuegwt.client.component.VueComponent;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
 import com.axellience.vuegwt.template.TemplateResourceGwtGenerator;
 import com.google.gwt.resources.client.CssResource;
 import com.google.gwt.resources.client.ResourcePrototype;
@@ -20,8 +21,8 @@ public interface TemplateResource<T extends VueComponent> extends ResourceProtot
 {
     String EXPRESSION_PREFIX = "exp$";
 
-    String getRenderFunction();
-    String[] getStaticRenderFunctions();
+    Object getRenderFunction();
+    JsArray<Object> getStaticRenderFunctions();
     String[] getTemplateComputedProperties();
     String[] getTemplateMethods();
     Map<String, CssResource> getTemplateStyles();
@@ -0,0 +1,132 @@
+package com.axellience.vuegwt.client.component.virtuallist;
+
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.vnode.VNode;
+import com.axellience.vuegwt.client.vnode.VNodeData;
+import com.axellience.vuegwt.client.vnode.builder.VNodeBuilder;
+import jsinterop.annotations.JsMethod;
+
+import java.util.Collection;
+
+/**
+ * A list rendering only the rows visible in its viewport, to display very large lists.
+ * <br>
+ * The list is a Vue Component registered globally by Vue GWT as "vue-gwt-virtual-list". When
+ * scrolling, the rows already rendered are patched with the new items instead of being created
+ * again. Rows can have different heights, they are measured once rendered.
+ * <br>
+ * Java Collections are observed like in a v-for, {@link
+ * com.axellience.vuegwt.client.observer.ReactiveList} being the most efficient as it's not copied
+ * when it changes.
+ * <br>
+ * By default rows are not keyed: when scrolling, the content of a row is patched in place with
+ * another item. State that Vue doesn't get from the item, like the local data of a Component, the
+ * value of an input or the focus, stays on the row and shows up with the other item. Give a {@link
+ * VirtualListKeyProvider} if rows have such state, they will then only be reused for the same
+ * item.
+ * @author Adrien Baron
+ */
+public class VirtualList
+{
+    public static final String TAG_NAME = "vue-gwt-virtual-list";
+
+    /**
+     * Create a VNode for a virtual list displaying the given items.
+     * @param builder The {@link VNodeBuilder} of the render function
+     * @param items The items to display
+     * @param height The height of the list in pixels
+     * @param estimatedRowHeight The height in pixels of the rows that are not measured yet
+     * @param rowRenderer Render a row for a given item
+     * @param <T> The type of the items
+     * @return A new VNode of the virtual list
+     */
+    public static <T> VNode el(VNodeBuilder builder, Collection<T> items, int height,
+        int estimatedRowHeight, VirtualListRowRenderer<T> rowRenderer)
+    {
+        return createVNode(builder, items, height, estimatedRowHeight, null, rowRenderer);
+    }
+
+    /**
+     * Create a VNode for a virtual list displaying the given items.
+     * Rows are keyed with the given {@link VirtualListKeyProvider}.
+     * @param builder The {@link VNodeBuilder} of the render function
+     * @param items The items to display
+     * @param height The height of the list in pixels
+     * @param estimatedRowHeight The height in pixels of the rows that are not measured yet
+     * @param keyProvider Give a unique key to each item
+     * @param rowRenderer Render a row for a given item
+     * @param <T> The type of the items
+     * @return A new VNode of the virtual list
+     */
+    public static <T> VNode el(VNodeBuilder builder, Collection<T> items, int height,
+        int estimatedRowHeight, VirtualListKeyProvider<T> keyProvider,
+        VirtualListRowRenderer<T> rowRenderer)
+    {
+        return createVNode(builder, items, height, estimatedRowHeight, keyProvider, rowRenderer);
+    }
+
+    /**
+     * Create a VNode for a virtual list displaying the given items.
+     * @param builder The {@link VNodeBuilder} of the render function
+     * @param items The items to display
+     * @param height The height of the list in pixels
+     * @param estimatedRowHeight The height in pixels of the rows that are not measured yet
+     * @param rowRenderer Render a row for a given item
+     * @param <T> The type of the items
+     * @return A new VNode of the virtual list
+     */
+    public static <T> VNode el(VNodeBuilder builder, JsArray<T> items, int height,
+        int estimatedRowHeight, VirtualListRowRenderer<T> rowRenderer)
+    {
+        return createVNode(builder, items, height, estimatedRowHeight, null, rowRenderer);
+    }
+
+    /**
+     * Create a VNode for a virtual list displaying the given items.
+     * Rows are keyed with the given {@link VirtualListKeyProvider}.
+     * @param builder The {@link VNodeBuilder} of the render function
+     * @param items The items to display
+     * @param height The height of the list in pixels
+     * @param estimatedRowHeight The height in pixels of the rows that are not measured yet
+     * @param keyProvider Give a unique key to each item
+     * @param rowRenderer Render a row for a given item
+     * @param <T> The type of the items
+     * @return A new VNode of the virtual list
+     */
+    public static <T> VNode el(VNodeBuilder builder, JsArray<T> items, int height,
+        int estimatedRowHeight, VirtualListKeyProvider<T> keyProvider,
+        VirtualListRowRenderer<T> rowRenderer)
+    {
+        return createVNode(builder, items, height, estimatedRowHeight, keyProvider, rowRenderer);
+    }
+
+    private static <T> VNode createVNode(VNodeBuilder builder, Object items, int height,
+        int estimatedRowHeight, VirtualListKeyProvider<T> keyProvider,
+        VirtualListRowRenderer<T> rowRenderer)
+    {
+        // Integers are Java objects in GWT, Vue expects JS numbers
+        VNodeData data = VNodeData
+            .get()
+            .prop("items", items)
+            .prop("height", (double) height)
+            .prop("estimatedRowHeight", (double) estimatedRowHeight)
+            .prop("keyProvider", keyProvider)
+            .scopedSlot("default", props -> {
+                VirtualListRow<T> row = (VirtualListRow<T>) props;
+                return rowRenderer.render(row.item, row.index);
+            });
+
+        return builder.el(TAG_NAME, data);
+    }
+
+    /**
+     * Will be called from JS by the virtual list to get the items of a Java Collection.
+     * @param items The Collection passed to the list
+     * @return A JS array with the items of the Collection, only read by the virtual list
+     */
+    @JsMethod(namespace = "VueGWT.virtualList")
+    private static JsArray<Object> toJsArray(Object items)
+    {
+        return JsArray.fromReadOnly((Collection<Object>) items);
+    }
+}
@@ -0,0 +1,16 @@
+package com.axellience.vuegwt.client.component.virtuallist;
+
+import jsinterop.annotations.JsFunction;
+
+/**
+ * Give a unique key to each item of a {@link VirtualList}.
+ * Rows are then only reused for the same item, like a v-for with a key.
+ * @param <T> The type of the items in the list
+ * @author Adrien Baron
+ */
+@JsFunction
+@FunctionalInterface
+public interface VirtualListKeyProvider<T>
+{
+    String getKey(T item);
+}
@@ -0,0 +1,17 @@
+package com.axellience.vuegwt.client.component.virtuallist;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+/**
+ * Properties passed by the {@link VirtualList} to the scoped slot rendering a row.
+ * @param <T> The type of the items in the list
+ * @author Adrien Baron
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Object")
+class VirtualListRow<T>
+{
+    @JsProperty T item;
+    @JsProperty int index;
+}
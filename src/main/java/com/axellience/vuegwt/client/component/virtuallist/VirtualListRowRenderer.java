@@ -0,0 +1,15 @@
+package com.axellience.vuegwt.client.component.virtuallist;
+
+import com.axellience.vuegwt.client.vnode.VNode;
+
+/**
+ * Render a row of a {@link VirtualList}.
+ * It's only called for the rows visible in the list.
+ * @param <T> The type of the items in the list
+ * @author Adrien Baron
+ */
+@FunctionalInterface
+public interface VirtualListRowRenderer<T>
+{
+    VNode render(T item, int index);
+}
@@ -0,0 +1,107 @@
+package com.axellience.vuegwt.client.instrumentation;
+
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+/**
+ * Timings recorded by {@link VueGWTInstrumentation} for all the instances of a Component.
+ * Times are in milliseconds, and exclude the time spent in other Components. For example the
+ * patch time of a parent doesn't include the instantiation and render of its children.
+ * @author Adrien Baron
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Object")
+public class ComponentTimings
+{
+    @JsProperty protected String name;
+    @JsProperty protected Class<?> componentClass;
+    @JsProperty protected int instantiations;
+    @JsProperty protected double instantiationTime;
+    @JsProperty protected int renders;
+    @JsProperty protected int reRenders;
+    @JsProperty protected double renderTime;
+    @JsProperty protected int patches;
+    @JsProperty protected double patchTime;
+
+    /**
+     * @return The fully qualified name of the Component class, or the name of the Component for
+     * Components defined in JS. Class names are obfuscated in production builds unless class
+     * metadata is kept.
+     */
+    @JsOverlay
+    public final String getName()
+    {
+        return name;
+    }
+
+    /**
+     * @return The class of the Component, or null for Components defined in JS
+     */
+    @JsOverlay
+    public final Class<?> getComponentClass()
+    {
+        return componentClass;
+    }
+
+    @JsOverlay
+    public final int getInstantiations()
+    {
+        return instantiations;
+    }
+
+    @JsOverlay
+    public final double getInstantiationTime()
+    {
+        return instantiationTime;
+    }
+
+    /**
+     * @return The number of renders, including the first render of each instance
+     */
+    @JsOverlay
+    public final int getRenders()
+    {
+        return renders;
+    }
+
+    /**
+     * @return The number of renders of instances already mounted
+     */
+    @JsOverlay
+    public final int getReRenders()
+    {
+        return reRenders;
+    }
+
+    @JsOverlay
+    public final double getRenderTime()
+    {
+        return renderTime;
+    }
+
+    /**
+     * @return The number of times the DOM has been patched with the result of a render
+     */
+    @JsOverlay
+    public final int getPatches()
+    {
+        return patches;
+    }
+
+    @JsOverlay
+    public final double getPatchTime()
+    {
+        return patchTime;
+    }
+
+    /**
+     * @return The time spent instantiating, rendering and patching the instances, excluding the
+     * time spent in other Components
+     */
+    @JsOverlay
+    public final double getTotalTime()
+    {
+        return instantiationTime + renderTime + patchTime;
+    }
+}
@@ -0,0 +1,70 @@
+package com.axellience.vuegwt.client.instrumentation;
+
+import com.axellience.vuegwt.client.component.VueComponent;
+import jsinterop.annotations.JsOverlay;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+
+/**
+ * A re-render of a Component with the first mutation that caused it, recorded by
+ * {@link VueGWTInstrumentation} while tracing.
+ * @author Adrien Baron
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Object")
+public class ReRenderTrace
+{
+    @JsProperty protected VueComponent component;
+    @JsProperty protected String componentName;
+    @JsProperty protected Object object;
+    @JsProperty protected String methodName;
+    @JsProperty protected double timestamp;
+
+    /**
+     * @return The Component instance that will re-render
+     */
+    @JsOverlay
+    public final VueComponent getComponent()
+    {
+        return component;
+    }
+
+    /**
+     * @return The fully qualified name of the Component class, or the name of the Component for
+     * Components defined in JS
+     */
+    @JsOverlay
+    public final String getComponentName()
+    {
+        return componentName;
+    }
+
+    /**
+     * @return The mutated object, or null if the re-render wasn't caused by a Java method (for
+     * example when setting a reactive property)
+     */
+    @JsOverlay
+    public final Object getObject()
+    {
+        return object;
+    }
+
+    /**
+     * @return The name of the method that mutated the object, or null if the re-render wasn't
+     * caused by a Java method (for example when setting a reactive property)
+     */
+    @JsOverlay
+    public final String getMethodName()
+    {
+        return methodName;
+    }
+
+    /**
+     * @return The time of the mutation in milliseconds, from performance.now() when available
+     */
+    @JsOverlay
+    public final double getTimestamp()
+    {
+        return timestamp;
+    }
+}
@@ -0,0 +1,232 @@
+package com.axellience.vuegwt.client.instrumentation;
+
+import com.axellience.vuegwt.client.component.VueComponent;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.google.gwt.core.client.JavaScriptObject;
+import jsinterop.annotations.JsMethod;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Record the time spent instantiating, rendering and patching each Component.
+ * <br>
+ * Timings are aggregated by Component class, and can be queried from Java or dumped as JSON to
+ * be compared between two versions of your application. Components defined in JS are aggregated
+ * by Vue constructor, so two JS Components with the same name have their own timings. The instrumentation wraps Vue methods
+ * only while it's enabled, so it has no cost when disabled.
+ * <br>
+ * Re-renders can also be traced, to find which mutation of which object causes a Component to
+ * re-render.
+ * @author Adrien Baron
+ */
+public class VueGWTInstrumentation
+{
+    private static final int DEFAULT_TRACES_CAPACITY = 1000;
+
+    /**
+     * Start recording the timings of the Components.
+     */
+    @JsMethod(namespace = "VueGWT.instrumentation")
+    public static native void enable();
+
+    /**
+     * Stop recording the timings of the Components.
+     * Timings already recorded are kept until {@link #reset()} is called.
+     */
+    @JsMethod(namespace = "VueGWT.instrumentation")
+    public static native void disable();
+
+    @JsMethod(namespace = "VueGWT.instrumentation")
+    public static native boolean isEnabled();
+
+    /**
+     * Clear all the timings recorded.
+     */
+    @JsMethod(namespace = "VueGWT.instrumentation")
+    public static native void reset();
+
+    /**
+     * Dump the timings recorded, as a JSON array with one entry per Component.
+     * @return The timings as JSON
+     */
+    @JsMethod(namespace = "VueGWT.instrumentation", name = "toJSON")
+    public static native String getTimingsAsJSON();
+
+    @JsMethod(namespace = "VueGWT.instrumentation", name = "getTimings")
+    private static native JsArray<ComponentTimings> getTimingsArray();
+
+    /**
+     * Return the timings recorded, sorted by total time with the slowest Component first.
+     * @return The timings of each Component
+     */
+    public static List<ComponentTimings> getTimings()
+    {
+        List<ComponentTimings> timings = new ArrayList<>();
+        for (ComponentTimings componentTimings : getTimingsArray().iterate())
+            timings.add(componentTimings);
+
+        timings.sort((a, b) -> Double.compare(b.getTotalTime(), a.getTotalTime()));
+        return timings;
+    }
+
+    /**
+     * Return the timings recorded for a given Component.
+     * @param componentClass The class of the Component
+     * @return The timings of this Component, or null if none of its instances has been recorded
+     */
+    public static ComponentTimings getTimings(Class<? extends VueComponent> componentClass)
+    {
+        for (ComponentTimings componentTimings : getTimingsArray().iterate())
+        {
+            if (componentTimings.getComponentClass() == componentClass)
+                return componentTimings;
+        }
+        return null;
+    }
+
+    /**
+     * Return the timings recorded for a given Component.
+     * Class names are obfuscated in production builds unless class metadata is kept, prefer
+     * {@link #getTimings(Class)} for Java Components. If several JS Components have the same
+     * name, the first one recorded is returned.
+     * @param componentName The fully qualified name of the Component class, or the name of the
+     * Component for Components defined in JS
+     * @return The timings of this Component, or null if none of its instances has been recorded
+     */
+    public static ComponentTimings getTimings(String componentName)
+    {
+        for (ComponentTimings componentTimings : getTimingsArray().iterate())
+        {
+            if (componentTimings.getName().equals(componentName))
+                return componentTimings;
+        }
+        return null;
+    }
+
+    /**
+     * Start recording a trace for each re-render caused by a mutation.
+     * Mutations done before the Component re-renders are part of the same re-render, only the
+     * first one is recorded.
+     * Only the last traces are kept, older traces are dropped.
+     * @param capacity The number of traces to keep, must be positive
+     */
+    public static void enableTracing(int capacity)
+    {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("The capacity of the traces must be positive");
+
+        enableTracingNative(capacity);
+    }
+
+    /**
+     * Start recording a trace for each re-render caused by a mutation, keeping the last 1000
+     * traces.
+     */
+    public static void enableTracing()
+    {
+        enableTracing(DEFAULT_TRACES_CAPACITY);
+    }
+
+    /**
+     * Stop recording the re-render traces.
+     * Traces already recorded are kept until {@link #clearTraces()} is called.
+     */
+    @JsMethod(namespace = "VueGWT.instrumentation")
+    public static native void disableTracing();
+
+    @JsMethod(namespace = "VueGWT.instrumentation")
+    public static native boolean isTracingEnabled();
+
+    @JsMethod(namespace = "VueGWT.instrumentation", name = "enableTracing")
+    private static native void enableTracingNative(int capacity);
+
+    /**
+     * Clear all the re-render traces recorded.
+     */
+    @JsMethod(namespace = "VueGWT.instrumentation")
+    public static native void clearTraces();
+
+    @JsMethod(namespace = "VueGWT.instrumentation", name = "getTraces")
+    private static native JsArray<ReRenderTrace> getTracesArray();
+
+    /**
+     * Return the re-render traces recorded.
+     * @return The traces, the oldest first
+     */
+    public static List<ReRenderTrace> getTraces()
+    {
+        List<ReRenderTrace> traces = new ArrayList<>();
+        for (ReRenderTrace trace : getTracesArray().iterate())
+            traces.add(trace);
+
+        return traces;
+    }
+
+    /**
+     * Return the re-renders of a given Component.
+     * @param componentClass The class of the Component
+     * @return The traces of this Component, the oldest first
+     */
+    public static List<ReRenderTrace> getTraces(Class<? extends VueComponent> componentClass)
+    {
+        List<ReRenderTrace> traces = new ArrayList<>();
+        for (ReRenderTrace trace : getTracesArray().iterate())
+        {
+            if (getComponentClass(trace.getComponent()) == componentClass)
+                traces.add(trace);
+        }
+
+        return traces;
+    }
+
+    /**
+     * Return the re-renders caused by the mutations of a given object.
+     * @param object A mutated object, for example a Java Collection
+     * @return The traces caused by this object, the oldest first
+     */
+    public static List<ReRenderTrace> getTracesCausedBy(Object object)
+    {
+        List<ReRenderTrace> traces = new ArrayList<>();
+        for (ReRenderTrace trace : getTracesArray().iterate())
+        {
+            if (trace.getObject() == object)
+                traces.add(trace);
+        }
+
+        return traces;
+    }
+
+    /**
+     * Will be called from JS by the instrumentation to group the timings of a Component.
+     * Vue instances of Java Components have the prototype of the generated JsType, which extends
+     * the Component class.
+     * @param component A Vue instance
+     * @return The Component class, or null for JS Components
+     */
+    @JsMethod(namespace = "VueGWT.instrumentation")
+    private static Class<?> getComponentClass(Object component)
+    {
+        Class<?> componentClass = component.getClass();
+        if (componentClass == null || componentClass == JavaScriptObject.class)
+            return null;
+
+        return componentClass.getSuperclass();
+    }
+
+    /**
+     * Will be called from JS by the instrumentation to name a Component in the timings and
+     * traces.
+     * @param component A Vue instance
+     * @return The fully qualified name of the Component class, or null for JS Components
+     */
+    @JsMethod(namespace = "VueGWT.instrumentation")
+    private static String getComponentName(Object component)
+    {
+        Class<?> componentClass = getComponentClass(component);
+        if (componentClass == null)
+            return null;
+
+        return componentClass.getName();
+    }
+}
@@ -9,6 +9,7 @@ import com.axellience.vuegwt.client.jsnative.jstypes.arrayfunctions.JsPredicateW
 import com.axellience.vuegwt.client.jsnative.jstypes.arrayfunctions.JsReduce;
 import com.axellience.vuegwt.client.jsnative.jstypes.arrayfunctions.JsReduceWithIndex;
 import com.axellience.vuegwt.client.jsnative.jstypes.arrayfunctions.JsReduceWithIndexAndArray;
+import com.axellience.vuegwt.client.observer.ReactiveList;
 import com.axellience.vuegwt.client.tools.JsTools;
 import com.axellience.vuegwt.client.tools.VueGWTTools;
 import jsinterop.annotations.JsMethod;
@@ -57,6 +58,36 @@ public class JsArray<T>
         return jsArray;
     }
 
+    /**
+     * Return a JS array with the elements of a Collection, without copying them when possible.
+     * A {@link ReactiveList} returns its backing array, so the result must not be modified, Vue
+     * wouldn't be notified and the List would be left inconsistent. Use {@link #from(Collection)}
+     * to get an array you can modify.
+     * @param collection The Collection to read
+     * @param <T> The type of the elements
+     * @return A JS array that must only be read
+     */
+    @JsOverlay
+    public static <T> JsArray<T> fromReadOnly(Collection<T> collection)
+    {
+        if (collection instanceof ReactiveList)
+            return ((ReactiveList<T>) collection).asJsArray();
+
+        return from(collection);
+    }
+
+    @JsOverlay
+    public static <K, V> JsArray<V> fromReadOnly(Map<K, V> map)
+    {
+        return from(map);
+    }
+
+    @JsOverlay
+    public static <T> JsArray<T> fromReadOnly(JsArray<T> jsArray)
+    {
+        return jsArray;
+    }
+
     @JsOverlay
     public static <T> JsArray<T> empty()
     {
@@ -81,6 +112,9 @@ public class JsArray<T>
     @JsMethod
     public native void splice(int start, int length);
 
+    @JsMethod
+    public native JsArray<T> splice(int start, int length, T item);
+
     @JsMethod
     public native void unshift(T item);
 
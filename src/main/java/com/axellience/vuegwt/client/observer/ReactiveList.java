@@ -0,0 +1,270 @@
+package com.axellience.vuegwt.client.observer;
+
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.RandomAccess;
+import java.util.function.Predicate;
+import java.util.function.UnaryOperator;
+
+/**
+ * A {@link java.util.List} observable by Vue.
+ * <br>
+ * Unlike the Java Lists observed through the {@link VueGWTObserverManager}, this List notifies
+ * Vue directly when it's modified. Operations modifying several elements (addAll, removeIf,
+ * replaceAll, sort...) only notify Vue once.
+ * <br>
+ * Like {@link java.util.ArrayList}, its iterators are fail-fast, and sort is stable.
+ * <br>
+ * The elements are stored in a native JS array, which is used as is when iterating in a v-for.
+ * @param <T> The type of the elements in the List
+ * @author Adrien Baron
+ */
+public class ReactiveList<T> extends AbstractList<T> implements RandomAccess
+{
+    private final JsArray<T> array = new JsArray<>();
+
+    public ReactiveList()
+    {
+    }
+
+    public ReactiveList(Collection<? extends T> collection)
+    {
+        for (T element : collection)
+            array.push(element);
+    }
+
+    /**
+     * Return the native JS array backing this List.
+     * This array must not be modified directly, otherwise Vue won't be notified.
+     * @return The JS array containing the elements of this List
+     */
+    public JsArray<T> asJsArray()
+    {
+        return array;
+    }
+
+    @Override
+    public T get(int index)
+    {
+        checkIndex(index, size());
+        return array.get(index);
+    }
+
+    @Override
+    public int size()
+    {
+        return array.length;
+    }
+
+    @Override
+    public T set(int index, T element)
+    {
+        checkIndex(index, size());
+        T previous = array.get(index);
+        array.set(index, element);
+        notifyChange("set", element);
+        return previous;
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        array.push(element);
+        modCount++;
+        notifyChange("add", element);
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element)
+    {
+        checkIndex(index, size() + 1);
+        array.splice(index, 0, element);
+        modCount++;
+        notifyChange("add", element);
+    }
+
+    @Override
+    public T remove(int index)
+    {
+        checkIndex(index, size());
+        T removed = array.get(index);
+        array.splice(index, 1);
+        modCount++;
+        notifyChange("remove");
+        return removed;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection)
+    {
+        return addAll(size(), collection);
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection)
+    {
+        checkIndex(index, size() + 1);
+        if (collection.isEmpty())
+            return false;
+
+        Object[] elements = collection.toArray();
+        int length = array.length;
+        if (index == length)
+        {
+            for (Object element : elements)
+                array.push((T) element);
+        }
+        else
+        {
+            // Move the following elements once to make room for all the new ones
+            array.setLength(length + elements.length);
+            for (int i = length - 1; i >= index; i--)
+                array.set(i + elements.length, array.get(i));
+            for (int i = 0; i < elements.length; i++)
+                array.set(index + i, (T) elements[i]);
+        }
+        modCount++;
+
+        VueObserver observer = getObserver();
+        if (observer != null)
+        {
+            observer.notifyDep("addAll");
+            observer.observeArray(elements);
+        }
+        return true;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (array.length == 0)
+            return;
+
+        array.setLength(0);
+        modCount++;
+        notifyChange("clear");
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex)
+    {
+        if (fromIndex >= toIndex)
+            return;
+
+        array.splice(fromIndex, toIndex - fromIndex);
+        modCount++;
+        notifyChange("removeRange");
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter)
+    {
+        // Test all the elements before modifying the List, in case the filter throws
+        int length = array.length;
+        boolean[] removed = new boolean[length];
+        boolean hasRemoved = false;
+        for (int i = 0; i < length; i++)
+        {
+            if (filter.test(array.get(i)))
+            {
+                removed[i] = true;
+                hasRemoved = true;
+            }
+        }
+
+        if (!hasRemoved)
+            return false;
+
+        int kept = 0;
+        for (int i = 0; i < length; i++)
+        {
+            if (!removed[i])
+                array.set(kept++, array.get(i));
+        }
+
+        array.setLength(kept);
+        modCount++;
+        notifyChange("removeIf");
+        return true;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+        return removeIf(collection::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection)
+    {
+        return removeIf(element -> !collection.contains(element));
+    }
+
+    @Override
+    public void replaceAll(UnaryOperator<T> operator)
+    {
+        int length = array.length;
+        if (length == 0)
+            return;
+
+        for (int i = 0; i < length; i++)
+            array.set(i, operator.apply(array.get(i)));
+        modCount++;
+
+        VueObserver observer = getObserver();
+        if (observer != null)
+        {
+            observer.notifyDep("replaceAll");
+            observer.observeArray(array);
+        }
+    }
+
+    @Override
+    public void sort(Comparator<? super T> comparator)
+    {
+        // The JS sort is not stable in all the browsers, Arrays.sort is
+        T[] elements = (T[]) new Object[array.length];
+        for (int i = 0; i < elements.length; i++)
+            elements[i] = array.get(i);
+
+        Arrays.sort(elements, comparator);
+        for (int i = 0; i < elements.length; i++)
+            array.set(i, elements[i]);
+
+        modCount++;
+        notifyChange("sort");
+    }
+
+    private void notifyChange(String methodName)
+    {
+        VueObserver observer = getObserver();
+        if (observer != null)
+            observer.notifyDep(methodName);
+    }
+
+    private void notifyChange(String methodName, T newElement)
+    {
+        VueObserver observer = getObserver();
+        if (observer != null)
+        {
+            observer.notifyDep(methodName);
+            observer.observeArray(new Object[] { newElement });
+        }
+    }
+
+    private VueObserver getObserver()
+    {
+        return VueGWTObserverManager.getVueObserver(this);
+    }
+
+    private static void checkIndex(int index, int size)
+    {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+    }
+}
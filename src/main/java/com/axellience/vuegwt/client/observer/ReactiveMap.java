@@ -0,0 +1,211 @@
+package com.axellience.vuegwt.client.observer;
+
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * A {@link java.util.Map} observable by Vue.
+ * <br>
+ * Unlike the Java Maps observed through the {@link VueGWTObserverManager}, this Map notifies Vue
+ * directly when it's modified. Operations modifying several entries (putAll, replaceAll...) only
+ * notify Vue once.
+ * <br>
+ * Entries are iterated in insertion order.
+ * @param <K> The type of the keys
+ * @param <V> The type of the values
+ * @author Adrien Baron
+ */
+public class ReactiveMap<K, V> extends AbstractMap<K, V>
+{
+    private final Map<K, V> map = new LinkedHashMap<>();
+    private Set<Entry<K, V>> entrySet;
+
+    public ReactiveMap()
+    {
+    }
+
+    public ReactiveMap(Map<? extends K, ? extends V> map)
+    {
+        this.map.putAll(map);
+    }
+
+    @Override
+    public int size()
+    {
+        return map.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key)
+    {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value)
+    {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public V get(Object key)
+    {
+        return map.get(key);
+    }
+
+    @Override
+    public V put(K key, V value)
+    {
+        V previous = map.put(key, value);
+        notifyChange("put", value);
+        return previous;
+    }
+
+    @Override
+    public V remove(Object key)
+    {
+        if (!map.containsKey(key))
+            return null;
+
+        V removed = map.remove(key);
+        notifyChange("remove");
+        return removed;
+    }
+
+    @Override
+    public void putAll(Map<? extends K, ? extends V> map)
+    {
+        if (map.isEmpty())
+            return;
+
+        this.map.putAll(map);
+        VueObserver observer = getObserver();
+        if (observer != null)
+        {
+            observer.notifyDep("putAll");
+            observer.observeArray(map.values().toArray());
+        }
+    }
+
+    @Override
+    public void clear()
+    {
+        if (map.isEmpty())
+            return;
+
+        map.clear();
+        notifyChange("clear");
+    }
+
+    @Override
+    public void replaceAll(BiFunction<? super K, ? super V, ? extends V> function)
+    {
+        if (map.isEmpty())
+            return;
+
+        map.replaceAll(function);
+        VueObserver observer = getObserver();
+        if (observer != null)
+        {
+            observer.notifyDep("replaceAll");
+            observer.observeArray(JsArray.from(map));
+        }
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet()
+    {
+        if (entrySet == null)
+            entrySet = new EntrySet();
+        return entrySet;
+    }
+
+    private void notifyChange(String methodName)
+    {
+        VueObserver observer = getObserver();
+        if (observer != null)
+            observer.notifyDep(methodName);
+    }
+
+    private void notifyChange(String methodName, V newValue)
+    {
+        VueObserver observer = getObserver();
+        if (observer != null)
+        {
+            observer.notifyDep(methodName);
+            observer.observeArray(new Object[] { newValue });
+        }
+    }
+
+    private VueObserver getObserver()
+    {
+        return VueGWTObserverManager.getVueObserver(this);
+    }
+
+    /**
+     * View on the entries of the Map, notifying Vue when entries are removed or changed through
+     * it.
+     */
+    private class EntrySet extends AbstractSet<Entry<K, V>>
+    {
+        @Override
+        public int size()
+        {
+            return map.size();
+        }
+
+        @Override
+        public Iterator<Entry<K, V>> iterator()
+        {
+            Iterator<Entry<K, V>> iterator = map.entrySet().iterator();
+            return new Iterator<Entry<K, V>>()
+            {
+                @Override
+                public boolean hasNext()
+                {
+                    return iterator.hasNext();
+                }
+
+                @Override
+                public Entry<K, V> next()
+                {
+                    return new ReactiveEntry(iterator.next());
+                }
+
+                @Override
+                public void remove()
+                {
+                    iterator.remove();
+                    notifyChange("remove");
+                }
+            };
+        }
+    }
+
+    private class ReactiveEntry extends SimpleEntry<K, V>
+    {
+        private final Entry<K, V> entry;
+
+        private ReactiveEntry(Entry<K, V> entry)
+        {
+            super(entry);
+            this.entry = entry;
+        }
+
+        @Override
+        public V setValue(V value)
+        {
+            super.setValue(value);
+            V previous = entry.setValue(value);
+            notifyChange("setValue", value);
+            return previous;
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.axellience.vuegwt.client.observer;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * A {@link java.util.Set} observable by Vue.
+ * <br>
+ * Unlike the Java Sets observed through the {@link VueGWTObserverManager}, this Set notifies Vue
+ * directly when it's modified. Operations modifying several elements (addAll, removeAll,
+ * removeIf...) only notify Vue once.
+ * <br>
+ * Elements are iterated in insertion order.
+ * @param <T> The type of the elements in the Set
+ * @author Adrien Baron
+ */
+public class ReactiveSet<T> extends AbstractSet<T>
+{
+    private final Set<T> set = new LinkedHashSet<>();
+
+    public ReactiveSet()
+    {
+    }
+
+    public ReactiveSet(Collection<? extends T> collection)
+    {
+        set.addAll(collection);
+    }
+
+    @Override
+    public int size()
+    {
+        return set.size();
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return set.contains(o);
+    }
+
+    @Override
+    public Iterator<T> iterator()
+    {
+        Iterator<T> iterator = set.iterator();
+        return new Iterator<T>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next()
+            {
+                return iterator.next();
+            }
+
+            @Override
+            public void remove()
+            {
+                iterator.remove();
+                notifyChange("remove");
+            }
+        };
+    }
+
+    @Override
+    public boolean add(T element)
+    {
+        if (!set.add(element))
+            return false;
+
+        VueObserver observer = getObserver();
+        if (observer != null)
+        {
+            observer.notifyDep("add");
+            observer.observeArray(new Object[] { element });
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o)
+    {
+        if (!set.remove(o))
+            return false;
+
+        notifyChange("remove");
+        return true;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection)
+    {
+        if (!set.addAll(collection))
+            return false;
+
+        VueObserver observer = getObserver();
+        if (observer != null)
+        {
+            observer.notifyDep("addAll");
+            observer.observeArray(collection.toArray());
+        }
+        return true;
+    }
+
+    @Override
+    public void clear()
+    {
+        if (set.isEmpty())
+            return;
+
+        set.clear();
+        notifyChange("clear");
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter)
+    {
+        return notifyIfChanged("removeIf", set.removeIf(filter));
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection)
+    {
+        return notifyIfChanged("removeAll", set.removeAll(collection));
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection)
+    {
+        return notifyIfChanged("retainAll", set.retainAll(collection));
+    }
+
+    private boolean notifyIfChanged(String methodName, boolean changed)
+    {
+        if (changed)
+            notifyChange(methodName);
+        return changed;
+    }
+
+    private void notifyChange(String methodName)
+    {
+        VueObserver observer = getObserver();
+        if (observer != null)
+            observer.notifyDep(methodName);
+    }
+
+    private VueObserver getObserver()
+    {
+        return VueGWTObserverManager.getVueObserver(this);
+    }
+}
@@ -1,13 +1,17 @@
 package com.axellience.vuegwt.client.observer;
 
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
 import com.axellience.vuegwt.client.observer.vuegwtobservers.CollectionObserver;
 import com.axellience.vuegwt.client.observer.vuegwtobservers.MapObserver;
+import com.axellience.vuegwt.client.observer.vuegwtobservers.ReactiveCollectionObserver;
 import com.google.gwt.core.client.JavaScriptObject;
 import jsinterop.annotations.JsMethod;
 
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * This class allow extension of the default Vue Observer.
@@ -19,9 +23,40 @@ import java.util.List;
 public class VueGWTObserverManager
 {
     private static List<VueGWTObserver> observers = new LinkedList<>();
+    private static Map<Class<?>, VueGWTObserver> observersByClass = new HashMap<>();
+
+    // The observer chosen for each class of object already seen by Vue
+    private static Map<Class<?>, VueGWTObserver> classObserverCache = new HashMap<>();
+    private static final VueGWTObserver NO_OBSERVER = new VueGWTObserver()
+    {
+        @Override
+        public boolean observe(Object object)
+        {
+            return false;
+        }
+    };
+
+    // Stops Vue from walking the properties of the objects
+    private static final VueGWTObserver NON_REACTIVE_OBSERVER = new VueGWTObserver()
+    {
+        @Override
+        public boolean observe(Object object)
+        {
+            return true;
+        }
+    };
+
+    // Notifications waiting for the end of the current batch
+    private static int batchDepth = 0;
+    private static JsArray<VueObserver> pendingObservers = new JsArray<>();
 
     static
     {
+        ReactiveCollectionObserver reactiveCollectionObserver = new ReactiveCollectionObserver();
+        registerVueGWTObserver(ReactiveList.class, reactiveCollectionObserver);
+        registerVueGWTObserver(ReactiveSet.class, reactiveCollectionObserver);
+        registerVueGWTObserver(ReactiveMap.class, reactiveCollectionObserver);
+
         registerVueGWTObserver(new CollectionObserver());
         registerVueGWTObserver(new MapObserver());
     }
@@ -30,14 +65,114 @@ public class VueGWTObserverManager
      * Register a {@link VueGWTObserver}.
      * This allow custom observation mechanism for Java Collection or other object that might
      * not be observable by the Vue observation mechanism.
+     * <br>
+     * The observer chosen for an object is cached by class, so whether a {@link VueGWTObserver}
+     * observes an object must only depend on the class of this object.
      * @param observer A {@link VueGWTObserver} that will be called for every object to potentially
-     * observe.
+     * observe. Registering the same observer again does nothing.
      */
-    private static void registerVueGWTObserver(VueGWTObserver observer)
+    public static void registerVueGWTObserver(VueGWTObserver observer)
     {
+        if (observers.contains(observer))
+            return;
+
         observers.add(observer);
+        classObserverCache.clear();
+    }
+
+    /**
+     * Register a {@link VueGWTObserver} for a given class.
+     * This observer will be tried first for objects of this class and its subclasses, before the
+     * observers registered without a class.
+     * Registering the same observer again for a class does nothing, so the observers already
+     * chosen for the objects seen by Vue are kept.
+     * @param objectClass The class of objects handled by this observer
+     * @param observer A {@link VueGWTObserver} that will be called for objects of this class
+     */
+    public static void registerVueGWTObserver(Class<?> objectClass, VueGWTObserver observer)
+    {
+        if (observersByClass.get(objectClass) == observer)
+            return;
+
+        observersByClass.put(objectClass, observer);
+        classObserverCache.clear();
     }
 
+    /**
+     * Tell Vue not to make the instances of a class reactive.
+     * Vue won't walk the properties of those objects, so it won't create getters and setters
+     * for them, and won't observe the objects they reference.
+     * This also applies to the subclasses of the given class.
+     * @param objectClass The class of the objects that shouldn't be reactive
+     */
+    public static void registerNonReactiveClass(Class<?> objectClass)
+    {
+        registerVueGWTObserver(objectClass, NON_REACTIVE_OBSERVER);
+    }
+
+    /**
+     * Run some mutations on observed objects, notifying Vue only once per modified object at the
+     * end.
+     * Without this, each mutation of a Java collection notifies Vue. Batches can be nested, the
+     * notifications are sent at the end of the outermost one.
+     * @param mutations The code modifying the observed objects
+     */
+    public static void batch(Runnable mutations)
+    {
+        batchDepth++;
+        try
+        {
+            mutations.run();
+        }
+        finally
+        {
+            batchDepth--;
+            if (batchDepth == 0)
+                flushPendingNotifications();
+        }
+    }
+
+    /**
+     * Delay the notification of the given observer if we are in a batch.
+     * @param observer The observer to notify
+     * @param methodName The name of the method that changed the observed object
+     * @return true if the notification will be sent at the end of the batch, false if it should
+     * be sent now
+     */
+    static boolean delayNotification(VueObserver observer, String methodName)
+    {
+        if (batchDepth == 0)
+            return false;
+
+        if (!observer.vueGwtBatchPending)
+        {
+            observer.vueGwtBatchPending = true;
+            observer.vueGwtBatchMethodName = methodName;
+            pendingObservers.push(observer);
+        }
+        return true;
+    }
+
+    private static void flushPendingNotifications()
+    {
+        JsArray<VueObserver> observersToNotify = pendingObservers;
+        pendingObservers = new JsArray<>();
+        for (VueObserver observer : observersToNotify.iterate())
+        {
+            observer.vueGwtBatchPending = false;
+            observer.notifyDepNow(observer.vueGwtBatchMethodName);
+        }
+    }
+
+    /**
+     * Notify the dependency of the given observer.
+     * This goes through the instrumentation to record the method in the re-render traces.
+     * @param observer The observer to notify
+     * @param methodName The name of the method that changed the observed object
+     */
+    @JsMethod(namespace = "VueGWT.instrumentation")
+    static native void notifyMutation(VueObserver observer, String methodName);
+
     /**
      * Return the Vue Observer for the given object.
      * The object must be reactive (visible in a Vue Component) otherwise this method
@@ -64,18 +199,51 @@ public class VueGWTObserverManager
     private static boolean observeJavaObject(Object object)
     {
         // Ignore pure JS objects
-        if (object.getClass() == JavaScriptObject.class)
+        Class<?> objectClass = object.getClass();
+        if (objectClass == JavaScriptObject.class)
             return false;
 
         // Check if we have a custom Java observer
-        for (VueGWTObserver observer : observers)
-            if (observer.observe(object))
+        VueGWTObserver observer = classObserverCache.get(objectClass);
+        if (observer == null)
+        {
+            observer = findObserver(object, objectClass);
+            classObserverCache.put(objectClass, observer);
+            if (observer != NO_OBSERVER)
                 return true;
+        }
+        else if (observer.observe(object))
+        {
+            return true;
+        }
 
-        makeStaticallyInitializedPropertiesReactive(object, object.getClass().getCanonicalName());
+        makeStaticallyInitializedPropertiesReactive(object);
         return false;
     }
 
+    /**
+     * Find the {@link VueGWTObserver} for an object seen for the first time.
+     * The object is observed by the returned observer.
+     * @param object The object to observe
+     * @param objectClass The class of the object
+     * @return The observer that observed the object, or NO_OBSERVER if none did
+     */
+    private static VueGWTObserver findObserver(Object object, Class<?> objectClass)
+    {
+        for (Class<?> c = objectClass; c != null; c = c.getSuperclass())
+        {
+            VueGWTObserver observer = observersByClass.get(c);
+            if (observer != null && observer.observe(object))
+                return observer;
+        }
+
+        for (VueGWTObserver observer : observers)
+            if (observer.observe(object))
+                return observer;
+
+        return NO_OBSERVER;
+    }
+
     /**
      * Due to GWT optimizations, properties on java object defined like this are not observable in
      * Vue.js when not running in dev mode:
@@ -88,10 +256,33 @@ public class VueGWTObserverManager
      * Therefore Vue.js don't see those properties when initializing it's observer.
      * To fix the issue, we manually look for those properties and set them explicitly on the
      * object.
+     * The list of properties to set is computed once per class.
      * @param javaObject The Java object to observe
-     * @param className The Java class name to observe
      */
     @JsMethod(namespace = "VueGWT.observerManager")
-    private native static void makeStaticallyInitializedPropertiesReactive(Object javaObject,
-        String className);
+    private native static void makeStaticallyInitializedPropertiesReactive(Object javaObject);
+
+    /**
+     * Number of Java objects that had statically initialized properties set on them to make them
+     * reactive.
+     * @return The number of patched objects since the application started
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    public native static int getPatchedObjectsCount();
+
+    /**
+     * Number of statically initialized properties set on Java objects to make them reactive.
+     * @return The number of patched properties since the application started
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    public native static int getPatchedPropertiesCount();
+
+    /**
+     * Set the fields of a Component data object that are shallow: setting them is reactive, but
+     * Vue won't observe their value.
+     * @param data The data object of a Component, before it's observed by Vue
+     * @param shallowFields An object with the names of the shallow fields as keys
+     */
+    @JsMethod(namespace = "VueGWT.observerManager")
+    public native static void setShallowReactiveFields(Object data, JsObject shallowFields);
 }
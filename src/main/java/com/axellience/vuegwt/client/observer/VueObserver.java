@@ -1,7 +1,6 @@
 package com.axellience.vuegwt.client.observer;
 
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
-import jsinterop.annotations.JsMethod;
 import jsinterop.annotations.JsOverlay;
 import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsProperty;
@@ -13,20 +12,42 @@ import jsinterop.annotations.JsType;
 @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Object")
 public class VueObserver
 {
+    // Set while a notification for this observer is waiting for the end of a batch
     @JsProperty
-    private Dep dep;
+    boolean vueGwtBatchPending;
+    // Name of the first method that modified the object during the batch
+    @JsProperty
+    String vueGwtBatchMethodName;
 
     public native void walk(Object o);
     public native void observeArray(JsArray array);
     public native void observeArray(Object[] array);
 
+    /**
+     * Notify Vue that the observed object changed.
+     * During a {@link VueGWTObserverManager#batch(Runnable)}, the notification is delayed to
+     * the end of the batch.
+     */
     @JsOverlay
     public final void notifyDep() {
-        this.dep.notifySelf();
+        notifyDep(null);
     }
 
-    private class Dep {
-        @JsMethod(name = "notify")
-        public native void notifySelf();
+    /**
+     * Notify Vue that the observed object changed.
+     * During a {@link VueGWTObserverManager#batch(Runnable)}, the notification is delayed to
+     * the end of the batch.
+     * @param methodName The name of the method that changed the object, recorded when tracing
+     * re-renders
+     */
+    @JsOverlay
+    public final void notifyDep(String methodName) {
+        if (!VueGWTObserverManager.delayNotification(this, methodName))
+            notifyDepNow(methodName);
+    }
+
+    @JsOverlay
+    final void notifyDepNow(String methodName) {
+        VueGWTObserverManager.notifyMutation(this, methodName);
     }
 }
@@ -6,6 +6,7 @@ import com.axellience.vuegwt.client.observer.VueObserver;
 import com.axellience.vuegwt.client.tools.AfterMethodCall;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -17,69 +18,60 @@ import static com.axellience.vuegwt.client.tools.VueGWTTools.wrapMethod;
  * <br>
  * To observe the collection, it wraps the Java mutable methods and call Vue observer
  * when they are called.
+ * Methods are wrapped once per class, and the wrappers call the Vue observer of the collection
+ * they are called on. Collections that are not observed by Vue are left untouched.
  * @author Adrien Baron
  */
 public class CollectionObserver extends VueGWTObserver
 {
-    @Override
-    public boolean observe(Object object)
-    {
-        if (object instanceof List)
-        {
-            observeList((List) object);
-            return true;
-        }
+    private static final AfterMethodCall<Collection> notifyObserver =
+        (object, methodName, result, arguments) -> {
+            VueObserver observer = VueGWTObserverManager.getVueObserver(object);
+            if (observer != null)
+                observer.notifyDep(methodName);
+        };
 
-        if (object instanceof Set)
-        {
-            observeSet((Set) object);
-            return true;
-        }
+    private static final AfterMethodCall<Collection> notifyAndObserveElement =
+        (object, methodName, result, arguments) -> {
+            VueObserver observer = VueGWTObserverManager.getVueObserver(object);
+            if (observer != null)
+            {
+                observer.notifyDep(methodName);
+                observer.observeArray(new Object[] { arguments[arguments.length - 1] });
+            }
+        };
 
-        return false;
-    }
+    private static final AfterMethodCall<Collection> notifyAndObserveElements =
+        (object, methodName, result, arguments) -> {
+            VueObserver observer = VueGWTObserverManager.getVueObserver(object);
+            if (observer != null)
+            {
+                observer.notifyDep(methodName);
+                observer.observeArray(((Collection) arguments[arguments.length - 1]).toArray());
+            }
+        };
+
+    private final Set<Class<?>> observedClasses = new HashSet<>();
 
-    private void observeList(List list)
+    @Override
+    public boolean observe(Object object)
     {
-        VueObserver observer = VueGWTObserverManager.getVueObserver(list);
-        AfterMethodCall<List> callObserver =
-            ((object, methodName, result, arguments) -> observer.notifyDep());
+        if (!(object instanceof List) && !(object instanceof Set))
+            return false;
 
-        wrapMethod(list, "clear", callObserver);
-        wrapMethod(list, "remove", callObserver);
-        wrapMethod(list, "removeAll", callObserver);
-        wrapMethod(list, "retainAll", callObserver);
-        wrapMethod(list, "add", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(arguments);
-        }));
-        wrapMethod(list, "addAll", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(((Collection) arguments[0]).toArray());
-        }));
-        wrapMethod(list, "add", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { arguments[1] });
-        }));
+        if (observedClasses.add(object.getClass()))
+            wrapCollectionMethods((Collection) object);
+
+        return true;
     }
 
-    private void observeSet(Set set)
+    private void wrapCollectionMethods(Collection collection)
     {
-        VueObserver observer = VueGWTObserverManager.getVueObserver(set);
-        AfterMethodCall<Set> callObserver =
-            ((object, methodName, result, arguments) -> observer.notifyDep());
-
-        wrapMethod(set, "clear", callObserver);
-        wrapMethod(set, "remove", callObserver);
-        wrapMethod(set, "removeAll", callObserver);
-        wrapMethod(set, "retainAll", callObserver);
-        wrapMethod(set, "add", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(arguments);
-        }));
-        wrapMethod(set, "addAll", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(((Collection) arguments[0]).toArray());
-        }));
+        wrapMethod(collection, "clear", notifyObserver);
+        wrapMethod(collection, "remove", notifyObserver);
+        wrapMethod(collection, "removeAll", notifyObserver);
+        wrapMethod(collection, "retainAll", notifyObserver);
+        wrapMethod(collection, "add", notifyAndObserveElement);
+        wrapMethod(collection, "addAll", notifyAndObserveElements);
     }
 }
@@ -6,57 +6,81 @@ import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
 import com.axellience.vuegwt.client.observer.VueObserver;
 import com.axellience.vuegwt.client.tools.AfterMethodCall;
 
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import static com.axellience.vuegwt.client.tools.VueGWTTools.wrapMethod;
 
 /**
- * This observer is able to observe Java Collections.
- * For now it only support List and Set.
+ * This observer is able to observe Java Maps.
  * <br>
- * To observe the collection, it wraps the Java mutable methods and call Vue observer
+ * To observe the map, it wraps the Java mutable methods and call Vue observer
  * when they are called.
+ * Methods are wrapped once per class, and the wrappers call the Vue observer of the map they are
+ * called on. Maps that are not observed by Vue are left untouched.
  * @author Adrien Baron
  */
 public class MapObserver extends VueGWTObserver
 {
+    private static final AfterMethodCall<Map> notifyObserver =
+        (object, methodName, result, arguments) -> {
+            VueObserver observer = VueGWTObserverManager.getVueObserver(object);
+            if (observer != null)
+                observer.notifyDep(methodName);
+        };
+
+    private static final AfterMethodCall<Map> notifyAndObserveValue =
+        (object, methodName, result, arguments) -> {
+            VueObserver observer = VueGWTObserverManager.getVueObserver(object);
+            if (observer != null)
+            {
+                observer.notifyDep(methodName);
+                observer.observeArray(new Object[] { arguments[1] });
+            }
+        };
+
+    private static final AfterMethodCall<Map> notifyAndObserveValues =
+        (object, methodName, result, arguments) -> {
+            VueObserver observer = VueGWTObserverManager.getVueObserver(object);
+            if (observer != null)
+            {
+                observer.notifyDep(methodName);
+                observer.observeArray(JsArray.from(((Map) arguments[0])));
+            }
+        };
+
+    private static final AfterMethodCall<Map> notifyAndObserveReplacement =
+        (object, methodName, result, arguments) -> {
+            VueObserver observer = VueGWTObserverManager.getVueObserver(object);
+            if (observer != null)
+            {
+                observer.notifyDep(methodName);
+                observer.observeArray(new Object[] { arguments[1], arguments[2] });
+            }
+        };
+
+    private final Set<Class<?>> observedClasses = new HashSet<>();
+
     @Override
     public boolean observe(Object object)
     {
-        if (object instanceof Map)
-        {
-            observeMap((Map) object);
-            return true;
-        }
+        if (!(object instanceof Map))
+            return false;
+
+        if (observedClasses.add(object.getClass()))
+            wrapMapMethods((Map) object);
 
-        return false;
+        return true;
     }
 
-    private void observeMap(Map map)
+    private void wrapMapMethods(Map map)
     {
-        VueObserver observer = VueGWTObserverManager.getVueObserver(map);
-        AfterMethodCall<Map> callObserver =
-            ((object, methodName, result, arguments) -> observer.notifyDep());
-
-        wrapMethod(map, "clear", callObserver);
-        wrapMethod(map, "remove", callObserver);
-
-        wrapMethod(map, "put", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { arguments[1] });
-        }));
-        wrapMethod(map, "putIfAbsent", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { arguments[1] });
-        }));
-        wrapMethod(map, "putAll", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(JsArray.from(((Map) arguments[0])));
-        }));
-
-        wrapMethod(map, "replace", ((object, methodName, result, arguments) -> {
-            observer.notifyDep();
-            observer.observeArray(new Object[] { arguments[1], arguments[2] });
-        }));
+        wrapMethod(map, "clear", notifyObserver);
+        wrapMethod(map, "remove", notifyObserver);
+        wrapMethod(map, "put", notifyAndObserveValue);
+        wrapMethod(map, "putIfAbsent", notifyAndObserveValue);
+        wrapMethod(map, "putAll", notifyAndObserveValues);
+        wrapMethod(map, "replace", notifyAndObserveReplacement);
     }
 }
@@ -0,0 +1,48 @@
+package com.axellience.vuegwt.client.observer.vuegwtobservers;
+
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.observer.ReactiveList;
+import com.axellience.vuegwt.client.observer.ReactiveMap;
+import com.axellience.vuegwt.client.observer.ReactiveSet;
+import com.axellience.vuegwt.client.observer.VueGWTObserver;
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
+import com.axellience.vuegwt.client.observer.VueObserver;
+
+/**
+ * This observer observes the {@link ReactiveList}, {@link ReactiveSet} and {@link ReactiveMap}.
+ * <br>
+ * Those collections notify Vue themselves when they are modified, so this observer only has to
+ * observe their initial content.
+ * @author Adrien Baron
+ */
+public class ReactiveCollectionObserver extends VueGWTObserver
+{
+    @Override
+    public boolean observe(Object object)
+    {
+        if (object instanceof ReactiveList)
+        {
+            getVueObserver(object).observeArray(((ReactiveList) object).asJsArray());
+            return true;
+        }
+
+        if (object instanceof ReactiveSet)
+        {
+            getVueObserver(object).observeArray(((ReactiveSet) object).toArray());
+            return true;
+        }
+
+        if (object instanceof ReactiveMap)
+        {
+            getVueObserver(object).observeArray(JsArray.from((ReactiveMap) object));
+            return true;
+        }
+
+        return false;
+    }
+
+    private VueObserver getVueObserver(Object object)
+    {
+        return VueGWTObserverManager.getVueObserver(object);
+    }
+}
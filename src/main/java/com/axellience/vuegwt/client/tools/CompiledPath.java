@@ -0,0 +1,30 @@
+package com.axellience.vuegwt.client.tools;
+
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+
+/**
+ * Accessors for a dotted property path (for example "todo.owner.name"), returned by {@link
+ * JsTools#compilePath(String)}.
+ * The accessors are created once per path, and can be reused on any object.
+ * @author Adrien Baron
+ */
+@JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Object")
+public class CompiledPath
+{
+    /**
+     * Get the value at this path in the given object.
+     * @param object The object to read from
+     * @param <T> The type of the value
+     * @return The value at this path
+     */
+    public native <T> T get(Object object);
+
+    /**
+     * Set the value at this path in the given object.
+     * All the objects along the path must already exist.
+     * @param object The object to write to
+     * @param value The value to set
+     */
+    public native void set(Object object, Object value);
+}
@@ -50,6 +50,8 @@ public class JsTools
 
     public static native <T> T getDeepValue(Object object, String path);
 
+    public static native CompiledPath compilePath(String path);
+
     public static native <T> T getArrayItem(Object array, int index);
 
     public static native void setArrayItem(Object array, int index, Object value);
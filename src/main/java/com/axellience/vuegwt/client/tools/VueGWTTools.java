@@ -27,6 +27,12 @@ public class VueGWTTools
     public static native <T extends VueComponent, K extends T> VueJsConstructor<K> extendVueClass(
         VueJsConstructor<T> vueClassToExtend, VueComponentOptions<K> vueComponentOptions);
 
+    /**
+     * Wrap a method on the prototype of the given object, so it's wrapped for all the objects
+     * of the same class.
+     * The callback receives the object the method is called on. Wrapping the same method again
+     * with the same callback does nothing.
+     */
     @JsMethod(name = "wrapMethodWithBefore")
     public static native <T> String wrapMethod(T object, String methodName,
         BeforeMethodCall<T> afterMethodCall);
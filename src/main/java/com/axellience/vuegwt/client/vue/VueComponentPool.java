@@ -0,0 +1,225 @@
+package com.axellience.vuegwt.client.vue;
+
+import com.axellience.vuegwt.client.component.VueComponent;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
+import com.axellience.vuegwt.client.tools.JsTools;
+import com.google.gwt.dom.client.Element;
+
+/**
+ * A pool of {@link VueComponent} instances, created with {@link VueFactory#createPool(int)}.
+ * <br>
+ * Instances are mounted once, when they are created. Released instances are removed from the
+ * DOM and kept in the pool, and acquiring them only appends their element back to the DOM.
+ * When an instance is acquired from the pool its data is reset, its watchers are recreated and
+ * its Java constructor is called again, as if it was a new instance.
+ * This avoids creating new Vue instances for Components that are created and destroyed very
+ * often, like rows of a virtual list.
+ * @param <T> The type of the pooled {@link VueComponent}
+ * @author Adrien Baron
+ */
+public class VueComponentPool<T extends VueComponent>
+{
+    private static final String JAVA_CREATED_HOOK = "vuegwt$created";
+    private static final String RELEASED_FLAG = "vuegwt$released";
+
+    private final VueFactory<T> vueFactory;
+    private final int maxSize;
+    private final JsArray<T> pooledComponents = new JsArray<>();
+
+    private int hits = 0;
+    private int misses = 0;
+    private int discarded = 0;
+
+    VueComponentPool(VueFactory<T> vueFactory, int maxSize)
+    {
+        if (maxSize < 0)
+            throw new IllegalArgumentException("The max size of a pool can't be negative");
+
+        this.vueFactory = vueFactory;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Return an instance from the pool, or a new mounted instance if the pool is empty.
+     * The element of the instance is appended to the given parent.
+     * @param parent The element to append the instance to
+     * @return An instance of our {@link VueComponent}
+     */
+    public T acquire(Element parent)
+    {
+        T component;
+        if (pooledComponents.length == 0)
+        {
+            misses++;
+            component = vueFactory.create();
+            component.$mount();
+        }
+        else
+        {
+            hits++;
+            component = pooledComponents.pop();
+            JsTools.unsetObjectProperty(component, RELEASED_FLAG);
+            reset(component);
+        }
+
+        parent.appendChild(component.$el());
+        return component;
+    }
+
+    /**
+     * Give back an instance to the pool. It is removed from the DOM, but not destroyed.
+     * The watchers and event listeners of the instance are removed, so it doesn't react while in
+     * the pool.
+     * If the pool is full, the instance is destroyed instead.
+     * @param component An instance acquired from this pool
+     * @throws IllegalStateException If the instance has already been released
+     */
+    public void release(T component)
+    {
+        if (JsTools.objectHasProperty(component, RELEASED_FLAG))
+            throw new IllegalStateException("This instance has already been released");
+
+        JsTools.setObjectProperty(component, RELEASED_FLAG, true);
+        component.$el().removeFromParent();
+
+        if (pooledComponents.length >= maxSize)
+        {
+            discarded++;
+            component.$destroy();
+            return;
+        }
+
+        removeWatchersAndListeners(component);
+        pooledComponents.push(component);
+    }
+
+    /**
+     * Destroy all the instances in the pool.
+     */
+    public void clear()
+    {
+        while (pooledComponents.length > 0)
+            pooledComponents.pop().$destroy();
+    }
+
+    /**
+     * Remove the watchers created with $watch or declared in the options, and the event
+     * listeners of a released instance.
+     * The render and computed watchers are kept, so the instance stays mounted.
+     * @param component The released instance
+     */
+    private void removeWatchersAndListeners(T component)
+    {
+        JsArray<Object> watchers = JsTools.get(component, "_watchers");
+        // Teardown removes the watcher from the array
+        for (int i = watchers.length - 1; i >= 0; i--)
+        {
+            Object watcher = watchers.get(i);
+            if (Boolean.TRUE.equals(JsTools.get(watcher, "user")))
+                JsTools.call(JsTools.get(watcher, "teardown"), watcher);
+        }
+
+        component.$off();
+    }
+
+    /**
+     * Reset the data of a pooled instance, recreate the watchers declared in its options, then
+     * call its Java constructor again.
+     * @param component The instance to reset
+     */
+    private void reset(T component)
+    {
+        JsObject data = component.$data();
+        Object dataFactory = component.$options().get("data");
+        if (dataFactory != null)
+        {
+            JsObject initialData = (JsObject) JsTools.call(dataFactory, component);
+            for (String key : JsObject.getOwnPropertyNames(initialData).iterate())
+                data.set(key, initialData.get(key));
+        }
+
+        // The options of the instance only inherit the watchers of the constructor options
+        JsObject watch = vueFactory.getJsConstructor().getOptions().getWatch();
+        if (watch != null)
+        {
+            for (String key : JsObject.getOwnPropertyNames(watch).iterate())
+                createWatcher(component, key, watch.get(key));
+        }
+
+        Object javaCreatedHook = JsTools.get(component, JAVA_CREATED_HOOK);
+        if (javaCreatedHook != null)
+            JsTools.call(javaCreatedHook, component);
+    }
+
+    /**
+     * Create a watcher declared in the options, like Vue does when creating an instance.
+     * @param component The instance to watch
+     * @param expression The watched expression
+     * @param definition A function, an object with a handler, or an array of those when merged
+     * from mixins
+     */
+    private void createWatcher(T component, String expression, Object definition)
+    {
+        if (definition instanceof JsArray)
+        {
+            for (Object arrayDefinition : ((JsArray<Object>) definition).iterate())
+                createWatcher(component, expression, arrayDefinition);
+            return;
+        }
+
+        JsTools.call(JsTools.get(component, "$watch"), component, expression, definition);
+    }
+
+    /**
+     * @return The number of instances currently in the pool
+     */
+    public int getSize()
+    {
+        return pooledComponents.length;
+    }
+
+    /**
+     * @return The maximum number of instances kept in the pool
+     */
+    public int getMaxSize()
+    {
+        return maxSize;
+    }
+
+    /**
+     * @return The number of acquired instances that came from the pool
+     */
+    public int getHits()
+    {
+        return hits;
+    }
+
+    /**
+     * @return The number of acquired instances that had to be created
+     */
+    public int getMisses()
+    {
+        return misses;
+    }
+
+    /**
+     * @return The number of released instances destroyed because the pool was full
+     */
+    public int getDiscarded()
+    {
+        return discarded;
+    }
+
+    /**
+     * @return The ratio of acquired instances that came from the pool, between 0 and 1
+     */
+    public double getHitRate()
+    {
+        int acquired = hits + misses;
+        if (acquired == 0)
+            return 0;
+
+        return (double) hits / acquired;
+    }
+}
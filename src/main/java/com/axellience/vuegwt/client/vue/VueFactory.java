@@ -3,12 +3,14 @@ package com.axellience.vuegwt.client.vue;
 import com.axellience.vuegwt.client.component.VueComponent;
 import com.axellience.vuegwt.jsr69.component.annotations.Component;
 import com.axellience.vuegwt.jsr69.component.annotations.JsComponent;
+import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsType;
 
 /**
  * A factory to create {@link VueComponent}s.
  * All the {@link Component} and {@link JsComponent} get a generated {@link VueFactory}.
- * It wraps a {@link VueJsConstructor} that is configured when the factory is created.
+ * It wraps a {@link VueJsConstructor} that is configured the first time it is used, so
+ * Components that are never displayed don't cost anything at startup.
  * It can be injected with Gin or Dagger2.
  * @author Adrien Baron
  */
@@ -16,14 +18,66 @@ import jsinterop.annotations.JsType;
 public class VueFactory<T extends VueComponent>
 {
     protected VueJsConstructor<T> jsConstructor;
+    private Runnable jsConstructorInitializer;
+    private boolean initializingJsConstructor = false;
 
     public final T create()
     {
-        return jsConstructor.instantiate();
+        return getJsConstructor().instantiate();
+    }
+
+    /**
+     * Create a pool of instances for this factory.
+     * Released instances are kept and reused, instead of being destroyed and created again.
+     * @param maxSize The maximum number of instances kept in the pool
+     * @return A new {@link VueComponentPool}
+     */
+    @JsIgnore
+    public VueComponentPool<T> createPool(int maxSize)
+    {
+        return new VueComponentPool<>(this, maxSize);
     }
 
     public VueJsConstructor<T> getJsConstructor()
     {
+        if (jsConstructorInitializer != null)
+            initJsConstructor();
+
         return jsConstructor;
     }
+
+    /**
+     * Run the initializer of the {@link VueJsConstructor}.
+     * It is only dropped once it succeeded, so a failed initialization is tried again the next
+     * time the {@link VueJsConstructor} is needed.
+     */
+    private void initJsConstructor()
+    {
+        if (initializingJsConstructor)
+        {
+            throw new IllegalStateException(
+                "The VueJsConstructor of this factory has been requested while being created");
+        }
+
+        initializingJsConstructor = true;
+        try
+        {
+            jsConstructorInitializer.run();
+            jsConstructorInitializer = null;
+        }
+        finally
+        {
+            initializingJsConstructor = false;
+        }
+    }
+
+    /**
+     * Set the code creating the {@link VueJsConstructor} of this factory.
+     * It will be called the first time the {@link VueJsConstructor} is needed.
+     * @param jsConstructorInitializer Code setting the jsConstructor of this factory
+     */
+    protected void initJsConstructorLazily(Runnable jsConstructorInitializer)
+    {
+        this.jsConstructorInitializer = jsConstructorInitializer;
+    }
 }
@@ -17,6 +17,7 @@ import com.axellience.vuegwt.client.component.options.VueComponentOptions;
 import com.axellience.vuegwt.client.component.options.computed.ComputedKind;
 import com.axellience.vuegwt.client.component.template.TemplateResource;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.client.observer.VueGWTObserverManager;
 import com.axellience.vuegwt.client.tools.JsTools;
 import com.axellience.vuegwt.client.vnode.VNode;
 import com.axellience.vuegwt.client.vnode.builder.CreateElementFunction;
@@ -25,8 +26,10 @@ import com.axellience.vuegwt.client.vue.VueJsConstructor;
 import com.axellience.vuegwt.jsr69.GenerationUtil;
 import com.axellience.vuegwt.jsr69.component.annotations.Component;
 import com.axellience.vuegwt.jsr69.component.annotations.Computed;
+import com.axellience.vuegwt.jsr69.component.annotations.NonReactive;
 import com.axellience.vuegwt.jsr69.component.annotations.Prop;
 import com.axellience.vuegwt.jsr69.component.annotations.PropValidator;
+import com.axellience.vuegwt.jsr69.component.annotations.ShallowReactive;
 import com.axellience.vuegwt.jsr69.component.annotations.Watch;
 import com.squareup.javapoet.AnnotationSpec;
 import com.squareup.javapoet.ClassName;
@@ -36,7 +39,9 @@ import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
 import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeSpec.Builder;
+import jsinterop.annotations.JsIgnore;
 import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsPackage;
 import jsinterop.annotations.JsType;
 
 import javax.annotation.processing.Filer;
@@ -45,14 +50,21 @@ import javax.annotation.processing.ProcessingEnvironment;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
 import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.WildcardType;
 import javax.lang.model.util.ElementFilter;
 import javax.tools.Diagnostic.Kind;
 import java.lang.annotation.Annotation;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -76,6 +88,8 @@ public class ComponentJsTypeGenerator
     private final Filer filer;
     private final Messager messager;
 
+    private static final String DATA_CLASS_NAME = "DataFields";
+
     private static Map<String, Class> HOOKS_MAP = new HashMap<>();
 
     static
@@ -115,7 +129,7 @@ public class ComponentJsTypeGenerator
             new ComponentInjectedDependenciesBuilder(processingEnv, component);
 
         processConstructor(component, componentJsTypeBuilder);
-        processData(component, optionsBuilder);
+        processData(component, optionsBuilder, componentJsTypeBuilder);
         processProps(component, optionsBuilder);
         processComputed(component, optionsBuilder, componentJsTypeBuilder);
         processWatchers(component, optionsBuilder, componentJsTypeBuilder);
@@ -206,14 +220,18 @@ public class ComponentJsTypeGenerator
             .build());
 
         // Add a block that registers the VueFactory for the VueComponent
-        componentJsTypeBuilder.addStaticBlock(CodeBlock
-            .builder()
-            .addStatement("$T.onReady(() -> $T.register($S, () -> $T.get()))",
-                VueGWT.class,
-                VueGWT.class,
-                component.getQualifiedName(),
-                componentFactoryName(component))
-            .build());
+        // Async Components register their VueFactory once their code is loaded
+        if (!component.getAnnotation(Component.class).async())
+        {
+            componentJsTypeBuilder.addStaticBlock(CodeBlock
+                .builder()
+                .addStatement("$T.onReady(() -> $T.register($S, () -> $T.get()))",
+                    VueGWT.class,
+                    VueGWT.class,
+                    component.getQualifiedName(),
+                    componentFactoryName(component))
+                .build());
+        }
 
         return componentJsTypeBuilder;
     }
@@ -238,6 +256,10 @@ public class ComponentJsTypeGenerator
 
         Component annotation = component.getAnnotation(Component.class);
 
+        // Exported methods are always in the initial fragment, which would include the template
+        if (annotation.async())
+            optionsMethodBuilder.addAnnotation(JsIgnore.class);
+
         if (!"".equals(annotation.name()))
             optionsMethodBuilder.addStatement("options.setName($S)", annotation.name());
 
@@ -255,28 +277,117 @@ public class ComponentJsTypeGenerator
 
     /**
      * Process data fields from the {@link VueComponent} Class.
+     * Fields annotated with {@link NonReactive} are not part of the data, and the value of
+     * fields annotated with {@link ShallowReactive} is not observed.
+     * <br>
+     * A native JS Object type with the data fields is generated, so the data of each new instance
+     * is created by directly setting each field, instead of cloning a JSON representation.
      * @param component {@link VueComponent} to process
      * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
      * {@link VueComponentOptions}
+     * @param componentJsTypeBuilder Builder for the JsType class
      */
-    private void processData(TypeElement component, MethodSpec.Builder optionsBuilder)
+    private void processData(TypeElement component, MethodSpec.Builder optionsBuilder,
+        Builder componentJsTypeBuilder)
     {
         Component annotation = component.getAnnotation(Component.class);
 
-        List<String> fieldsName = ElementFilter
+        processNonReactiveClasses(component, optionsBuilder);
+
+        List<VariableElement> fields = ElementFilter
             .fieldsIn(component.getEnclosedElements())
             .stream()
             .filter(ComponentGenerationUtil::isFieldVisibleInJS)
             .filter(field -> field.getAnnotation(Prop.class) == null)
-            .map(field -> field.getSimpleName().toString())
+            .filter(field -> !hasAnnotation(field, NonReactive.class))
             .collect(Collectors.toList());
 
-        if (fieldsName.isEmpty())
+        if (fields.isEmpty())
             return;
 
-        fieldsName.forEach(fieldName -> optionsBuilder.addStatement("options.addDataField($S)",
-            fieldName));
-        optionsBuilder.addStatement("options.initData($L)", annotation.useFactory());
+        ClassName dataClassName = componentJsTypeName(component).nestedClass(DATA_CLASS_NAME);
+        Builder dataTypeBuilder = TypeSpec
+            .classBuilder(dataClassName)
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addAnnotation(AnnotationSpec
+                .builder(JsType.class)
+                .addMember("isNative", "true")
+                .addMember("namespace", "$T.GLOBAL", JsPackage.class)
+                .addMember("name", "$S", "Object")
+                .build());
+
+        CodeBlock.Builder dataFactoryBuilder =
+            CodeBlock.builder().addStatement("$T data = new $T()", dataClassName, dataClassName);
+
+        fields.forEach(field -> {
+            String fieldName = field.getSimpleName().toString();
+            dataTypeBuilder.addField(Object.class, fieldName, Modifier.PUBLIC);
+            dataFactoryBuilder.addStatement("data.$L = null", fieldName);
+
+            if (hasAnnotation(field, ShallowReactive.class))
+                optionsBuilder.addStatement("options.addShallowDataField($S)", fieldName);
+        });
+        dataFactoryBuilder.addStatement("return data");
+
+        componentJsTypeBuilder.addType(dataTypeBuilder.build());
+        optionsBuilder.addCode("options.initData($L, () -> {\n$>$L$<});\n",
+            annotation.useFactory(),
+            dataFactoryBuilder.build());
+    }
+
+    /**
+     * Register the classes annotated with {@link NonReactive} used in the types of the fields of
+     * the {@link VueComponent}, so Vue doesn't observe their instances.
+     * @param component {@link VueComponent} to process
+     * @param optionsBuilder A {@link MethodSpec.Builder} for the method that creates the
+     * {@link VueComponentOptions}
+     */
+    private void processNonReactiveClasses(TypeElement component,
+        MethodSpec.Builder optionsBuilder)
+    {
+        Set<TypeElement> nonReactiveClasses = new LinkedHashSet<>();
+        ElementFilter
+            .fieldsIn(component.getEnclosedElements())
+            .stream()
+            .filter(ComponentGenerationUtil::isFieldVisibleInJS)
+            .forEach(field -> collectNonReactiveClasses(field.asType(), nonReactiveClasses));
+
+        nonReactiveClasses.forEach(nonReactiveClass -> optionsBuilder.addStatement(
+            "$T.registerNonReactiveClass($T.class)",
+            VueGWTObserverManager.class,
+            ClassName.get(nonReactiveClass)));
+    }
+
+    /**
+     * Find the classes annotated with {@link NonReactive} in a type, including its type
+     * arguments.
+     * @param type The type to look into
+     * @param nonReactiveClasses The set where to add the classes found
+     */
+    private void collectNonReactiveClasses(TypeMirror type, Set<TypeElement> nonReactiveClasses)
+    {
+        if (type.getKind() == TypeKind.ARRAY)
+        {
+            collectNonReactiveClasses(((ArrayType) type).getComponentType(), nonReactiveClasses);
+        }
+        else if (type.getKind() == TypeKind.WILDCARD)
+        {
+            TypeMirror bound = ((WildcardType) type).getExtendsBound();
+            if (bound != null)
+                collectNonReactiveClasses(bound, nonReactiveClasses);
+        }
+        else if (type.getKind() == TypeKind.DECLARED)
+        {
+            DeclaredType declaredType = (DeclaredType) type;
+            TypeElement typeElement = (TypeElement) declaredType.asElement();
+            if (hasAnnotation(typeElement, NonReactive.class))
+                nonReactiveClasses.add(typeElement);
+
+            declaredType
+                .getTypeArguments()
+                .forEach(typeArgument -> collectNonReactiveClasses(typeArgument,
+                    nonReactiveClasses));
+        }
     }
 
     /**
@@ -37,4 +37,12 @@ public @interface Component
      * @return This list of {@link VueDirective} to register on this Component
      */
     Class<? extends VueDirective>[] directives() default {};
+
+    /**
+     * Load the code of this Component in a separate fragment, using a GWT.runAsync split point.
+     * The fragment is downloaded the first time the Component is used as a local Component, or
+     * when its generated factory is retrieved with getAsync.
+     * @return true if the Component code should be loaded asynchronously, false otherwise
+     */
+    boolean async() default false;
 }
\ No newline at end of file
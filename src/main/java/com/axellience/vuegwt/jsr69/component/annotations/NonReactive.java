@@ -0,0 +1,27 @@
+package com.axellience.vuegwt.jsr69.component.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.CLASS;
+
+/**
+ * Tell Vue not to observe some data.
+ * <br>
+ * On a class: Vue won't walk the properties of the instances of this class (and its subclasses)
+ * to make them reactive. Use it for large read-only objects, changing their properties won't
+ * update your Components. The class is registered when it's used in the type of a field of a
+ * Component (for example "MyDto myDto" or "List&lt;MyDto&gt; myDtos"), other classes can be
+ * registered using {@link com.axellience.vuegwt.client.observer.VueGWTObserverManager#registerNonReactiveClass(Class)}.
+ * <br>
+ * On a field of a Component: the field is not part of the Component data, neither the field
+ * nor its value are reactive.
+ * @author Adrien Baron
+ */
+@Target({ TYPE, FIELD })
+@Retention(CLASS)
+public @interface NonReactive
+{
+}
@@ -0,0 +1,19 @@
+package com.axellience.vuegwt.jsr69.component.annotations;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.RetentionPolicy.SOURCE;
+
+/**
+ * Mark a field of a Component as shallow reactive.
+ * Setting the field updates the Component, but Vue won't observe the value it contains.
+ * Use it for large values that are only replaced as a whole.
+ * @author Adrien Baron
+ */
+@Target(FIELD)
+@Retention(SOURCE)
+public @interface ShallowReactive
+{
+}
@@ -1,9 +1,11 @@
 package com.axellience.vuegwt.jsr69.component.factory;
 
 import com.axellience.vuegwt.client.Vue;
+import com.axellience.vuegwt.client.VueGWT;
 import com.axellience.vuegwt.client.component.VueComponent;
 import com.axellience.vuegwt.client.component.options.VueComponentOptions;
 import com.axellience.vuegwt.client.directive.options.VueDirectiveOptions;
+import com.axellience.vuegwt.client.jsnative.jsfunctions.JsConsumer;
 import com.axellience.vuegwt.client.jsnative.jstypes.JsObject;
 import com.axellience.vuegwt.client.vue.VueFactory;
 import com.axellience.vuegwt.client.vue.VueJsAsyncProvider;
@@ -11,15 +13,19 @@ import com.axellience.vuegwt.client.vue.VueJsConstructor;
 import com.axellience.vuegwt.jsr69.GenerationNameUtil;
 import com.axellience.vuegwt.jsr69.component.annotations.Component;
 import com.axellience.vuegwt.jsr69.component.annotations.VueCustomizeOptions;
+import com.google.gwt.core.client.GWT;
+import com.google.gwt.core.client.RunAsyncCallback;
 import com.squareup.javapoet.ClassName;
 import com.squareup.javapoet.CodeBlock;
 import com.squareup.javapoet.MethodSpec;
 import com.squareup.javapoet.ParameterizedTypeName;
 import com.squareup.javapoet.TypeName;
+import com.squareup.javapoet.TypeSpec;
 import com.squareup.javapoet.TypeSpec.Builder;
 
 import javax.annotation.processing.ProcessingEnvironment;
 import javax.inject.Inject;
+import javax.lang.model.element.Element;
 import javax.lang.model.element.ExecutableElement;
 import javax.lang.model.element.Modifier;
 import javax.lang.model.element.TypeElement;
@@ -105,12 +111,67 @@ public class VueComponentFactoryGenerator extends AbstractVueComponentFactoryGen
         registerLocalDirectives(componentAnnotation, initBuilder);
         processCustomizeOptionsMethods(component, initBuilder, initParametersCall);
 
-        MethodSpec initMethod = initBuilder.build();
+        // The jsConstructor is only created the first time the factory is used
+        MethodSpec eagerInitMethod = initBuilder.build();
+        MethodSpec initMethod = MethodSpec
+            .methodBuilder("init")
+            .addModifiers(Modifier.PRIVATE)
+            .addAnnotation(Inject.class)
+            .addParameters(eagerInitMethod.parameters)
+            .addCode("initJsConstructorLazily(() -> {\n$>$L$<});\n", eagerInitMethod.code)
+            .build();
         vueFactoryClassBuilder.addMethod(initMethod);
 
+        if (componentAnnotation.async())
+            createGetAsyncMethod(component, vueFactoryClassBuilder);
+
         return initParametersCall;
     }
 
+    /**
+     * Create a static getAsync method that loads the code of an async {@link VueComponent} through
+     * a GWT.runAsync split point, and then provides its {@link VueFactory}.
+     * The factory is only referenced from the split point, so GWT can move the Component
+     * template and options out of the initial fragment.
+     * @param component The Component we generate for
+     * @param vueFactoryClassBuilder The builder of the VueFactory we are generating
+     */
+    private void createGetAsyncMethod(TypeElement component, Builder vueFactoryClassBuilder)
+    {
+        ClassName vueFactoryClassName = componentFactoryName(component);
+
+        TypeSpec runAsyncCallback = TypeSpec
+            .anonymousClassBuilder("")
+            .addSuperinterface(RunAsyncCallback.class)
+            .addMethod(MethodSpec
+                .methodBuilder("onFailure")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addParameter(Throwable.class, "reason")
+                .addStatement("throw new $T($S, reason)",
+                    RuntimeException.class,
+                    "Couldn't load the code of the Component " + component.getQualifiedName())
+                .build())
+            .addMethod(MethodSpec
+                .methodBuilder("onSuccess")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .addStatement("$T factory = get()", vueFactoryClassName)
+                .addStatement("$T.register($S, factory)", VueGWT.class, component.getQualifiedName())
+                .addStatement("callback.accept(factory)")
+                .build())
+            .build();
+
+        vueFactoryClassBuilder.addMethod(MethodSpec
+            .methodBuilder("getAsync")
+            .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+            .addJavadoc("Load the code of the Component if needed, then return its factory.\n")
+            .addParameter(ParameterizedTypeName.get(ClassName.get(JsConsumer.class),
+                vueFactoryClassName), "callback")
+            .addStatement("$T.runAsync($T.class, $L)", GWT.class, component, runAsyncCallback)
+            .build());
+    }
+
     /**
      * Register the {@link VueComponent} dependencies provider.
      * <br>
@@ -158,15 +219,24 @@ public class VueComponentFactoryGenerator extends AbstractVueComponentFactoryGen
 
         localComponents.forEach(localComponent -> {
             ClassName factory = componentFactoryName(localComponent);
+            Element localComponentElement = ((DeclaredType) localComponent).asElement();
+            String tagName = componentToTagName(localComponentElement.getSimpleName().toString());
+
+            // Async Components are not injected, their factory must only be used once loaded
+            Component localAnnotation = localComponentElement.getAnnotation(Component.class);
+            if (localAnnotation != null && localAnnotation.async())
+            {
+                injectDependenciesBuilder.addStatement(
+                    "components.set($S, render -> $T.getAsync(factory -> render.accept(factory.getJsConstructor())))",
+                    tagName,
+                    factory);
+                return;
+            }
 
             String parameterName = factory.reflectionName().replaceAll("\\.", "_");
             injectDependenciesBuilder.addParameter(providerOf(factory), parameterName);
             staticInitParameters.add(CodeBlock.of("() -> $T.get()", factory));
 
-            String tagName = componentToTagName(((DeclaredType) localComponent)
-                .asElement()
-                .getSimpleName()
-                .toString());
             injectDependenciesBuilder.addStatement(
                 "components.set($S, render -> render.accept($L.get().getJsConstructor()))",
                 tagName,
@@ -0,0 +1,41 @@
+package com.axellience.vuegwt.template;
+
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.template.parser.result.TemplateParserResult;
+
+/**
+ * A template that has been parsed and compiled, ready to be written in a TemplateResource.
+ * @author Adrien Baron
+ */
+public class ProcessedTemplate
+{
+    private final String templateContent;
+    private final TemplateParserResult parserResult;
+    private final VueTemplateCompilerResult compilerResult;
+
+    public ProcessedTemplate(String templateContent, TemplateParserResult parserResult,
+        VueTemplateCompilerResult compilerResult)
+    {
+        this.templateContent = templateContent;
+        this.parserResult = parserResult;
+        this.compilerResult = compilerResult;
+    }
+
+    /**
+     * @return The HTML template this was processed from
+     */
+    public String getTemplateContent()
+    {
+        return templateContent;
+    }
+
+    public TemplateParserResult getParserResult()
+    {
+        return parserResult;
+    }
+
+    public VueTemplateCompilerResult getCompilerResult()
+    {
+        return compilerResult;
+    }
+}
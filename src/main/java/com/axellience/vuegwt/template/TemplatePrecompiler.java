@@ -0,0 +1,202 @@
+package com.axellience.vuegwt.template;
+
+import com.axellience.vuegwt.client.component.template.TemplateResource;
+import com.axellience.vuegwt.template.parser.TemplateParser;
+import com.axellience.vuegwt.template.parser.result.TemplateParserResult;
+import com.google.gwt.core.ext.BadPropertyValueException;
+import com.google.gwt.core.ext.ConfigurationProperty;
+import com.google.gwt.core.ext.TreeLogger;
+import com.google.gwt.core.ext.typeinfo.JClassType;
+import com.google.gwt.core.ext.typeinfo.JMethod;
+import com.google.gwt.core.ext.typeinfo.TypeOracle;
+import com.google.gwt.dev.resource.Resource;
+import com.google.gwt.dev.resource.ResourceOracle;
+import com.google.gwt.dev.util.Util;
+import com.google.gwt.resources.client.ClientBundle;
+import com.google.gwt.resources.client.ClientBundle.Source;
+import com.google.gwt.resources.ext.ResourceContext;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import static com.axellience.vuegwt.jsr69.GenerationNameUtil.COMPONENT_TEMPLATE_RESOURCE_SUFFIX;
+
+/**
+ * Parse and compile all the templates of the application in parallel.
+ * <br>
+ * GWT generates the {@link TemplateResource} one at a time. When enabled, the first generation
+ * finds all the templates in the {@link TypeOracle} and parses them. The {@link TypeOracle} and
+ * its types are not thread safe, so the parsing is done on the generator thread, and only the
+ * compilation to render functions runs on a {@link ForkJoinPool}.
+ * The {@link TemplateResourceGwtGenerator} then only has to write the precomputed results.
+ * <br>
+ * As the parsing stays serial, this mostly helps when the compilation is slow, for example with
+ * the Nashorn template compiler.
+ * It only applies to full compilations. In incremental compilations, like Super Dev Mode
+ * refreshes, GWT only generates the bundles that changed, so they are processed one by one.
+ * <br>
+ * This is enabled by setting the "vuegwt.parallelTemplates" configuration property to true in
+ * the GWT module:
+ * {@code <set-configuration-property name="vuegwt.parallelTemplates" value="true"/>}
+ * @author Adrien Baron
+ */
+public class TemplatePrecompiler
+{
+    private static final String PARALLEL_TEMPLATES_PROPERTY = "vuegwt.parallelTemplates";
+
+    private static final Map<String, Future<ProcessedTemplate>> processedTemplates =
+        new ConcurrentHashMap<>();
+    private static WeakReference<TypeOracle> precompiledTypeOracle = new WeakReference<>(null);
+
+    /**
+     * Check if the templates should be processed in parallel for this compilation.
+     * @param logger The logger for the generator
+     * @param context The context for the resource generation
+     * @return true if the "vuegwt.parallelTemplates" property is set to true
+     */
+    public static boolean isEnabled(TreeLogger logger, ResourceContext context)
+    {
+        try
+        {
+            ConfigurationProperty property = context
+                .getGeneratorContext()
+                .getPropertyOracle()
+                .getConfigurationProperty(PARALLEL_TEMPLATES_PROPERTY);
+            List<String> values = property.getValues();
+            return !values.isEmpty() && "true".equals(values.get(0));
+        }
+        catch (BadPropertyValueException e)
+        {
+            logger.log(TreeLogger.DEBUG,
+                "Vue GWT: " + PARALLEL_TEMPLATES_PROPERTY + " is not defined");
+            return false;
+        }
+    }
+
+    /**
+     * Parse all the templates of the application, and start compiling them in parallel.
+     * This only starts the processing once per {@link TypeOracle}, following calls return
+     * immediately. Nothing is processed in incremental compilations, where GWT reuses the
+     * bundles that didn't change.
+     * @param logger The logger for the generator
+     * @param context The context for the resource generation
+     */
+    public static synchronized void precompileAll(TreeLogger logger, ResourceContext context)
+    {
+        TypeOracle typeOracle = context.getGeneratorContext().getTypeOracle();
+        if (precompiledTypeOracle.get() == typeOracle)
+            return;
+
+        // A new compilation started, drop the results the previous one didn't use
+        precompiledTypeOracle = new WeakReference<>(typeOracle);
+        processedTemplates.clear();
+
+        if (context.getGeneratorContext().getCachedGeneratorResult() != null)
+        {
+            logger.log(TreeLogger.DEBUG,
+                "Vue GWT: incremental compilation, templates are processed one by one");
+            return;
+        }
+
+        JClassType clientBundleType = typeOracle.findType(ClientBundle.class.getCanonicalName());
+        JClassType templateResourceType =
+            typeOracle.findType(TemplateResource.class.getCanonicalName());
+        if (clientBundleType == null || templateResourceType == null)
+            return;
+
+        ResourceOracle resourceOracle = context.getGeneratorContext().getResourcesOracle();
+        ForkJoinPool pool = new ForkJoinPool();
+        for (JClassType bundleType : clientBundleType.getSubtypes())
+        {
+            for (JMethod method : bundleType.getMethods())
+            {
+                JClassType returnType = method.getReturnType().isClassOrInterface();
+                if (returnType == null || !returnType.isAssignableTo(templateResourceType))
+                    continue;
+
+                Source source = method.getAnnotation(Source.class);
+                if (source == null || source.value().length == 0)
+                    continue;
+
+                Resource resource = resourceOracle.getResource(source.value()[0]);
+                if (resource == null)
+                    continue;
+
+                String templateResourceTypeName = TemplateResourceGwtGenerator.getTypeName(method)
+                    + COMPONENT_TEMPLATE_RESOURCE_SUFFIX;
+                String templateContent = Util.readURLAsString(resource.getURL());
+
+                // The TypeOracle is not thread safe, so templates are parsed on this thread
+                TemplateParserResult templateParserResult;
+                try
+                {
+                    templateParserResult = new TemplateParser().parseHtmlTemplate(templateContent,
+                        typeOracle.findType(templateResourceTypeName));
+                }
+                catch (RuntimeException e)
+                {
+                    // Processing it again will report the error properly
+                    continue;
+                }
+
+                processedTemplates.put(templateResourceTypeName,
+                    pool.submit(() -> TemplateResourceGwtGenerator.compileTemplate(logger,
+                        templateContent,
+                        templateParserResult,
+                        resourceOracle)));
+            }
+        }
+        // Let the submitted tasks finish, the threads stop once they are done
+        pool.shutdown();
+
+        logger.log(TreeLogger.INFO,
+            "Vue GWT: processing "
+                + processedTemplates.size()
+                + " template(s) on "
+                + pool.getParallelism()
+                + " thread(s)");
+    }
+
+    /**
+     * Get the result of the parallel processing for a template.
+     * Each result is only returned once.
+     * @param templateResourceTypeName The name of the generated {@link TemplateResource} for the
+     * Component
+     * @param templateContent The current content of the HTML template
+     * @return The processed template, or null if it must be processed again (not found, failed,
+     * or template content changed)
+     */
+    public static ProcessedTemplate getProcessedTemplate(String templateResourceTypeName,
+        String templateContent)
+    {
+        Future<ProcessedTemplate> future = processedTemplates.remove(templateResourceTypeName);
+        if (future == null)
+            return null;
+
+        ProcessedTemplate processedTemplate;
+        try
+        {
+            processedTemplate = future.get();
+        }
+        catch (ExecutionException e)
+        {
+            // Processing it again will report the error properly
+            return null;
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        if (!processedTemplate.getTemplateContent().equals(templateContent))
+            return null;
+
+        return processedTemplate;
+    }
+}
@@ -17,21 +17,30 @@
 package com.axellience.vuegwt.template;
 
 import com.axellience.vuegwt.client.component.template.TemplateExpressionKind;
+import com.axellience.vuegwt.client.component.template.TemplateResource;
+import com.axellience.vuegwt.client.jsnative.jstypes.JsArray;
+import com.axellience.vuegwt.template.compiler.JavaTemplateCompiler;
+import com.axellience.vuegwt.template.compiler.TemplateDigest;
 import com.axellience.vuegwt.template.compiler.VueTemplateCompiler;
+import com.axellience.vuegwt.template.compiler.VueTemplateCompilerCache;
 import com.axellience.vuegwt.template.compiler.VueTemplateCompilerException;
 import com.axellience.vuegwt.template.compiler.VueTemplateCompilerResult;
+import com.axellience.vuegwt.template.compiler.WithStatementStripper;
+import com.axellience.vuegwt.template.parser.JavaExpressionCache;
 import com.axellience.vuegwt.template.parser.TemplateParser;
 import com.axellience.vuegwt.template.parser.result.TemplateExpression;
 import com.axellience.vuegwt.template.parser.result.TemplateParserResult;
-import com.google.gwt.core.ext.Generator;
 import com.google.gwt.core.ext.TreeLogger;
 import com.google.gwt.core.ext.UnableToCompleteException;
+import com.google.gwt.core.ext.typeinfo.JClassType;
 import com.google.gwt.core.ext.typeinfo.JMethod;
 import com.google.gwt.core.ext.typeinfo.TypeOracle;
+import com.google.gwt.dev.resource.ResourceOracle;
 import com.google.gwt.dev.util.Util;
 import com.google.gwt.resources.client.ClientBundle.Source;
 import com.google.gwt.resources.client.CssResource;
 import com.google.gwt.resources.ext.AbstractResourceGenerator;
+import com.google.gwt.resources.ext.ClientBundleRequirements;
 import com.google.gwt.resources.ext.ResourceContext;
 import com.google.gwt.resources.ext.ResourceGeneratorUtil;
 import com.google.gwt.resources.ext.SupportsGeneratorResultCaching;
@@ -40,8 +49,10 @@ import com.google.gwt.user.rebind.StringSourceWriter;
 
 import java.net.URL;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.axellience.vuegwt.client.component.template.TemplateExpressionKind.COMPUTED_PROPERTY;
@@ -61,11 +72,10 @@ public final class TemplateResourceGwtGenerator extends AbstractResourceGenerato
     implements SupportsGeneratorResultCaching
 {
     /**
-     * Java compiler has a limit of 2^16 bytes for encoding string constants in a
-     * class file. Since the max size of a character is 4 bytes, we'll limit the
-     * number of characters to (2^14 - 1) to fit within one record.
+     * Template compiler to use: "java" (default) for the Java port of vue-template-compiler, or
+     * "nashorn" to run the original vue-template-compiler in Nashorn.
      */
-    private static final int MAX_STRING_CHUNK = 16383;
+    private static final String TEMPLATE_COMPILER_PROPERTY = "vuegwt.templateCompiler";
 
     @Override
     public String createAssignment(TreeLogger logger, ResourceContext context, JMethod method)
@@ -97,13 +107,42 @@ public final class TemplateResourceGwtGenerator extends AbstractResourceGenerato
         // Get template content from HTML file
         String templateContent = Util.readURLAsString(resource);
 
-        // Process it
-        TemplateParserResult templateParserResult = new TemplateParser().parseHtmlTemplate(
-            templateContent,
-            typeOracle.findType(templateResourceTypeName));
-
-        // Compile the resulting HTML template String
-        compileTemplateString(sw, templateParserResult.getProcessedTemplate(), context);
+        // Parse and compile it, or get it from the templates processed in parallel
+        JClassType templateResourceType = typeOracle.findType(templateResourceTypeName);
+        ProcessedTemplate processedTemplate = null;
+        if (TemplatePrecompiler.isEnabled(logger, context))
+        {
+            TemplatePrecompiler.precompileAll(logger, context);
+            processedTemplate =
+                TemplatePrecompiler.getProcessedTemplate(templateResourceTypeName,
+                    templateContent);
+        }
+        if (processedTemplate == null)
+        {
+            processedTemplate = processTemplate(logger,
+                templateContent,
+                templateResourceType,
+                context.getGeneratorContext().getResourcesOracle());
+        }
+        TemplateParserResult templateParserResult = processedTemplate.getParserResult();
+
+        // Register what our result depends on, so GWT can reuse it while they don't change
+        addTemplateRequirements(context, method, templateResourceType, templateParserResult);
+
+        logger.log(TreeLogger.DEBUG,
+            "Vue GWT template cache: "
+                + VueTemplateCompilerCache.getHits()
+                + " hit(s), "
+                + VueTemplateCompilerCache.getMisses()
+                + " miss(es), expression cache: "
+                + JavaExpressionCache.getHits()
+                + " hit(s), "
+                + JavaExpressionCache.getMisses()
+                + " miss(es)");
+
+        // Add the render functions
+        generateGetRenderFunction(sw, processedTemplate.getCompilerResult());
+        generateGetStaticRenderFunctions(sw, processedTemplate.getCompilerResult());
 
         // Declare component styles
         processComponentStyles(sw, templateParserResult);
@@ -132,8 +171,10 @@ public final class TemplateResourceGwtGenerator extends AbstractResourceGenerato
         sw.indent();
         sw.println("public String getText() {return \"\";}");
         sw.println("public String getName() {return \"" + method.getName() + "\";}");
-        sw.println("public String getRenderFunction() {return null;}");
-        sw.println("public String[] getStaticRenderFunctions() {return null;}");
+        sw.println("public Object getRenderFunction() {return null;}");
+        sw.println("public "
+            + JsArray.class.getCanonicalName()
+            + "<Object> getStaticRenderFunctions() {return null;}");
         sw.println("public String[] getTemplateComputedProperties() {return null;}");
         sw.println("public String[] getTemplateMethods() {return null;}");
         sw.println(
@@ -143,12 +184,50 @@ public final class TemplateResourceGwtGenerator extends AbstractResourceGenerato
         return sw.toString();
     }
 
+    /**
+     * Register the types our generated template resource depends on.
+     * This lets GWT reuse our previous result when none of them changed (for example on Super Dev
+     * Mode refresh).
+     * The HTML template itself is already registered when looking up the resource.
+     * @param context The context for the resource generation
+     * @param method The resource method with the @Source annotation
+     * @param templateResourceType The generated {@link TemplateResource} for the Component
+     * @param templateParserResult Result from the parsing of the HTML Template
+     */
+    private void addTemplateRequirements(ResourceContext context, JMethod method,
+        JClassType templateResourceType, TemplateParserResult templateParserResult)
+    {
+        ClientBundleRequirements requirements = context.getRequirements();
+        if (requirements == null)
+            return;
+
+        TypeOracle typeOracle = context.getGeneratorContext().getTypeOracle();
+        Set<String> dependencies = new HashSet<>();
+        dependencies.add(getTypeName(method));
+        dependencies.addAll(templateParserResult.getClassImports());
+        for (String styleClassName : templateParserResult.getStyleImports().values())
+        {
+            dependencies.add(styleClassName);
+            dependencies.add(styleBundleName(styleClassName).toString());
+        }
+
+        if (templateResourceType != null)
+            requirements.addTypeHierarchy(templateResourceType);
+
+        for (String dependency : dependencies)
+        {
+            JClassType dependencyType = typeOracle.findType(dependency);
+            if (dependencyType != null)
+                requirements.addTypeHierarchy(dependencyType);
+        }
+    }
+
     /**
      * Get the type name from the HTML template path.
      * @param method The resource method with the @Source annotation
      * @return The full qualified name of the Class
      */
-    private String getTypeName(JMethod method)
+    static String getTypeName(JMethod method)
     {
         Source resourceAnnotation = method.getAnnotation(Source.class);
         String resourcePath = resourceAnnotation.value()[0];
@@ -156,19 +235,79 @@ public final class TemplateResourceGwtGenerator extends AbstractResourceGenerato
     }
 
     /**
-     * Compile the HTML template and transform it to a JS render function.
-     * @param sw The source writer
-     * @param templateString The HTML template string to compile
+     * Parse the HTML template and compile it to JS render functions.
+     * @param logger The logger for the generator
+     * @param templateContent The content of the HTML template
+     * @param templateResourceType The generated {@link TemplateResource} for the Component
+     * @param resourceOracle The resource oracle, used to load the Nashorn compiler
+     * @return The parsed and compiled template
+     * @throws UnableToCompleteException If the template can't be compiled
+     */
+    static ProcessedTemplate processTemplate(TreeLogger logger, String templateContent,
+        JClassType templateResourceType, ResourceOracle resourceOracle)
+    throws UnableToCompleteException
+    {
+        TemplateParserResult templateParserResult =
+            new TemplateParser().parseHtmlTemplate(templateContent, templateResourceType);
+        return compileTemplate(logger, templateContent, templateParserResult, resourceOracle);
+    }
+
+    /**
+     * Compile a parsed HTML template to JS render functions.
+     * If the same template has already been compiled, the result is retrieved from the {@link
+     * VueTemplateCompilerCache} instead.
+     * The Java compiler works on the template parsed by the {@link TemplateParser}, so the
+     * template is only serialized back to HTML when using the Nashorn compiler.
+     * <br>
+     * This doesn't use the {@link TypeOracle}, and can be called from any thread.
+     * @param logger The logger for the generator
+     * @param templateContent The content of the HTML template
+     * @param templateParserResult The result of the parsing of the template
+     * @param resourceOracle The resource oracle, used to load the Nashorn compiler
+     * @return The parsed and compiled template
+     * @throws UnableToCompleteException If the template can't be compiled
      */
-    private void compileTemplateString(SourceWriter sw, String templateString,
-        ResourceContext context) throws UnableToCompleteException
+    static ProcessedTemplate compileTemplate(TreeLogger logger, String templateContent,
+        TemplateParserResult templateParserResult, ResourceOracle resourceOracle)
+    throws UnableToCompleteException
     {
+        boolean useNashorn = "nashorn".equals(System.getProperty(TEMPLATE_COMPILER_PROPERTY));
+
         VueTemplateCompilerResult result;
         try
         {
-            VueTemplateCompiler vueTemplateCompiler =
-                new VueTemplateCompiler(context.getGeneratorContext().getResourcesOracle());
-            result = vueTemplateCompiler.compile(templateString);
+            VueTemplateCompiler vueTemplateCompiler = null;
+            String compilerVersion;
+            String templateKey;
+            if (useNashorn)
+            {
+                vueTemplateCompiler = new VueTemplateCompiler(resourceOracle);
+                compilerVersion = vueTemplateCompiler.getVersion();
+                templateKey = templateParserResult.getProcessedTemplate();
+            }
+            else
+            {
+                compilerVersion = JavaTemplateCompiler.VERSION;
+                templateKey =
+                    TemplateDigest.digest(templateParserResult.getProcessedTemplateRoot());
+            }
+
+            VueTemplateCompilerCache cache = new VueTemplateCompilerCache(logger, compilerVersion);
+            result = cache.get(templateKey);
+            if (result == null)
+            {
+                if (useNashorn)
+                {
+                    result = vueTemplateCompiler.compile(templateKey);
+                }
+                else
+                {
+                    result = new JavaTemplateCompiler().compile(templateParserResult
+                        .getProcessedTemplateRoot());
+                }
+
+                cache.put(templateKey, result);
+            }
         }
         catch (VueTemplateCompilerException e)
         {
@@ -176,39 +315,40 @@ public final class TemplateResourceGwtGenerator extends AbstractResourceGenerato
             throw new UnableToCompleteException();
         }
 
-        generateGetRenderFunction(sw, result);
-        generateGetStaticRenderFunctions(sw, result);
+        return new ProcessedTemplate(templateContent, templateParserResult, result);
     }
 
     /**
-     * Generate the method that returns the body of the render function.
+     * Generate the method that returns the render function.
+     * The function is written as JSNI, so it is parsed and optimized by the GWT compiler instead
+     * of being created from a String with new Function() when the Component is registered.
      * @param sw The source writer
      * @param result The result from compilation using vue-template-compiler
      */
     private void generateGetRenderFunction(SourceWriter sw, VueTemplateCompilerResult result)
     {
-        sw.println("public String getRenderFunction() {");
+        sw.println("public native Object getRenderFunction() /*-{");
         sw.indent();
-
-        String renderFunction = result.getRenderFunction();
         sw.print("return ");
-        writeLongString(sw, renderFunction);
+        writeJsFunction(sw, result.getRenderFunction());
         sw.println(";");
         sw.outdent();
-        sw.println("}");
+        sw.println("}-*/;");
     }
 
     /**
-     * Generate the method that returns the body of the static render functions.
+     * Generate the method that returns the static render functions.
      * @param sw The source writer
      * @param result The result from compilation using vue-template-compiler
      */
     private void generateGetStaticRenderFunctions(SourceWriter sw, VueTemplateCompilerResult result)
     {
-        sw.println("public String[] getStaticRenderFunctions() {");
+        sw.println("public native "
+            + JsArray.class.getCanonicalName()
+            + "<Object> getStaticRenderFunctions() /*-{");
         sw.indent();
 
-        sw.println("return new String[] {");
+        sw.println("return [");
         sw.indent();
         boolean isFirst = true;
         for (String staticRenderFunction : result.getStaticRenderFunctions())
@@ -218,11 +358,27 @@ public final class TemplateResourceGwtGenerator extends AbstractResourceGenerato
             else
                 sw.println(",");
 
-            writeLongString(sw, staticRenderFunction);
+            writeJsFunction(sw, staticRenderFunction);
         }
+        sw.println();
         sw.outdent();
-        sw.println("};");
-        sw.println("}");
+        sw.println("];");
+        sw.outdent();
+        sw.println("}-*/;");
+    }
+
+    /**
+     * Write a JS function with the given body.
+     * The GWT JavaScript parser doesn't support the with statement, so it is removed from the
+     * body.
+     * @param sw The source writer
+     * @param functionBody The body of the function, as returned by the template compiler
+     */
+    private void writeJsFunction(SourceWriter sw, String functionBody)
+    {
+        // "*/" can only appear in a String literal, escape it so it doesn't end the JSNI comment
+        String body = WithStatementStripper.strip(functionBody).replace("*/", "*\\/");
+        sw.print("function(){" + body + "}");
     }
 
     /**
@@ -392,28 +548,6 @@ public final class TemplateResourceGwtGenerator extends AbstractResourceGenerato
      * memory error. Break up the constant and generate code that appends using a
      * buffer.
      */
-    private void writeLongString(SourceWriter sw, String toWrite)
-    {
-        if (toWrite.length() > MAX_STRING_CHUNK)
-        {
-            sw.println("new StringBuilder()");
-            int offset = 0;
-            int length = toWrite.length();
-            while (offset < length - 1)
-            {
-                int subLength = Math.min(MAX_STRING_CHUNK, length - offset);
-                sw.print(".append(\"");
-                sw.print(Generator.escape(toWrite.substring(offset, offset + subLength)));
-                sw.println("\")");
-                offset += subLength;
-            }
-        }
-        else
-        {
-            sw.println("\"" + Generator.escape(toWrite) + "\"");
-        }
-    }
-
     private void jsPropertyAnnotation(SourceWriter sw)
     {
         sw.println("@SuppressWarnings(\"unusable-by-js\")");
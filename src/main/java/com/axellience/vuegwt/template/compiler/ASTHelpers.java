@@ -0,0 +1,89 @@
+package com.axellience.vuegwt.template.compiler;
+
+import com.axellience.vuegwt.template.compiler.ast.ASTElement;
+import com.axellience.vuegwt.template.compiler.ast.ASTHandler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Helpers to manipulate the elements of the template AST.
+ * Port of the compiler helpers of the vue-template-compiler.
+ * @author Adrien Baron
+ */
+public final class ASTHelpers
+{
+    private ASTHelpers()
+    {
+    }
+
+    /**
+     * Get the JS expression of an attribute that can be bound (:name or v-bind:name) or static.
+     * The attribute is removed from the list of attributes to process.
+     * @param el The element
+     * @param name The name of the attribute
+     * @param getStatic true to also look for a static attribute if there is no binding
+     * @return The JS expression, or null if the element doesn't have the attribute
+     */
+    public static String getBindingAttr(ASTElement el, String name, boolean getStatic)
+    {
+        String dynamicValue = el.getAndRemoveAttr(":" + name);
+        if (dynamicValue == null || dynamicValue.isEmpty())
+            dynamicValue = el.getAndRemoveAttr("v-bind:" + name);
+
+        if (dynamicValue != null)
+            return FilterParser.parseFilters(dynamicValue);
+
+        if (getStatic)
+        {
+            String staticValue = el.getAndRemoveAttr(name);
+            if (staticValue != null)
+                return JsUtil.stringify(staticValue);
+        }
+
+        return null;
+    }
+
+    public static String getBindingAttr(ASTElement el, String name)
+    {
+        return getBindingAttr(el, name, true);
+    }
+
+    /**
+     * Add an event handler to an element.
+     * The capture, once, passive and native modifiers are consumed here.
+     * @param el The element
+     * @param name The name of the event
+     * @param value The JS code of the handler
+     * @param modifiers The modifiers of the handler, can be null
+     * @param important true to call this handler before the others for the same event
+     */
+    public static void addHandler(ASTElement el, String name, String value,
+        Map<String, Boolean> modifiers, boolean important)
+    {
+        boolean isNative = false;
+        if (modifiers != null)
+        {
+            // mark the event as captured
+            if (modifiers.remove("capture") != null)
+                name = "!" + name;
+            // mark the event as once
+            if (modifiers.remove("once") != null)
+                name = "~" + name;
+            // mark the event as passive
+            if (modifiers.remove("passive") != null)
+                name = "&" + name;
+
+            isNative = modifiers.remove("native") != null;
+        }
+
+        Map<String, List<ASTHandler>> events = el.getOrCreateEvents(isNative);
+        ASTHandler newHandler = new ASTHandler(value, modifiers);
+        List<ASTHandler> handlers = events.computeIfAbsent(name, n -> new ArrayList<>());
+        if (important)
+            handlers.add(0, newHandler);
+        else
+            handlers.add(newHandler);
+    }
+}
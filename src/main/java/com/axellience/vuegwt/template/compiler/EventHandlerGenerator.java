@@ -0,0 +1,195 @@
+package com.axellience.vuegwt.template.compiler;
+
+import com.axellience.vuegwt.template.compiler.ast.ASTHandler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Generate the code of the event handlers of an element.
+ * Port of the events code generation of the vue-template-compiler.
+ * @author Adrien Baron
+ */
+public final class EventHandlerGenerator
+{
+    private static final Pattern FUNCTION_EXPRESSION_PATTERN =
+        Pattern.compile("^" + JsUtil.WHITESPACE + "*([\\w$_]+|\\([^)]*?\\))" + JsUtil.WHITESPACE
+            + "*=>|^function" + JsUtil.WHITESPACE + "*\\(");
+    private static final Pattern SIMPLE_PATH_PATTERN = Pattern.compile("^"
+        + JsUtil.WHITESPACE
+        + "*[A-Za-z_$][\\w$]*(?:\\.[A-Za-z_$][\\w$]*|\\['.*?']|\\[\".*?\"]|\\[\\d+]|\\[[A-Za-z_$][\\w$]*])*"
+        + JsUtil.WHITESPACE
+        + "*\\z");
+
+    // keyCode aliases
+    private static final Map<String, String> KEY_CODES = new HashMap<>();
+    // modifiers that prevent the execution of the listener need to explicitly return null so
+    // that we can determine whether to remove the listener for .once
+    private static final Map<String, String> MODIFIER_CODE = new HashMap<>();
+
+    static
+    {
+        KEY_CODES.put("esc", "27");
+        KEY_CODES.put("tab", "9");
+        KEY_CODES.put("enter", "13");
+        KEY_CODES.put("space", "32");
+        KEY_CODES.put("up", "38");
+        KEY_CODES.put("left", "37");
+        KEY_CODES.put("right", "39");
+        KEY_CODES.put("down", "40");
+        KEY_CODES.put("delete", "[8,46]");
+
+        MODIFIER_CODE.put("stop", "$event.stopPropagation();");
+        MODIFIER_CODE.put("prevent", "$event.preventDefault();");
+        MODIFIER_CODE.put("self", genGuard("$event.target !== $event.currentTarget"));
+        MODIFIER_CODE.put("ctrl", genGuard("!$event.ctrlKey"));
+        MODIFIER_CODE.put("shift", genGuard("!$event.shiftKey"));
+        MODIFIER_CODE.put("alt", genGuard("!$event.altKey"));
+        MODIFIER_CODE.put("meta", genGuard("!$event.metaKey"));
+        MODIFIER_CODE.put("left", genGuard("'button' in $event && $event.button !== 0"));
+        MODIFIER_CODE.put("middle", genGuard("'button' in $event && $event.button !== 1"));
+        MODIFIER_CODE.put("right", genGuard("'button' in $event && $event.button !== 2"));
+    }
+
+    private EventHandlerGenerator()
+    {
+    }
+
+    /**
+     * Generate the "on" (or "nativeOn") property of the data object of an element.
+     * @param events The handlers by event name
+     * @param isNative true for native events
+     * @return The code of the property
+     */
+    public static String genHandlers(Map<String, List<ASTHandler>> events, boolean isNative)
+    {
+        StringBuilder res = new StringBuilder(isNative ? "nativeOn:{" : "on:{");
+        for (String name : JsUtil.orderedKeys(events))
+        {
+            res
+                .append("\"")
+                .append(name)
+                .append("\":")
+                .append(genHandler(events.get(name)))
+                .append(",");
+        }
+        res.setLength(res.length() - 1);
+        return res.append("}").toString();
+    }
+
+    private static String genHandler(List<ASTHandler> handlers)
+    {
+        if (handlers.size() == 1)
+            return genHandler(handlers.get(0));
+
+        return "[" + handlers
+            .stream()
+            .map(EventHandlerGenerator::genHandler)
+            .collect(Collectors.joining(",")) + "]";
+    }
+
+    private static String genHandler(ASTHandler handler)
+    {
+        String value = handler.getValue();
+        boolean isMethodPath = SIMPLE_PATH_PATTERN.matcher(value).find();
+        boolean isFunctionExpression = FUNCTION_EXPRESSION_PATTERN.matcher(value).find();
+
+        if (handler.getModifiers() == null)
+        {
+            if (isMethodPath || isFunctionExpression)
+                return value;
+
+            // inline statement
+            return "function($event){" + value + "}";
+        }
+
+        StringBuilder code = new StringBuilder();
+        StringBuilder genModifierCode = new StringBuilder();
+        List<String> keys = new ArrayList<>();
+        for (String key : JsUtil.orderedKeys(handler.getModifiers()))
+        {
+            if (MODIFIER_CODE.containsKey(key))
+            {
+                genModifierCode.append(MODIFIER_CODE.get(key));
+                // left/right
+                if (KEY_CODES.containsKey(key))
+                    keys.add(key);
+            }
+            else
+            {
+                keys.add(key);
+            }
+        }
+
+        if (!keys.isEmpty())
+            code.append(genKeyFilter(keys));
+
+        // Make sure modifiers like prevent and stop get executed after key filtering
+        code.append(genModifierCode);
+
+        String handlerCode;
+        if (isMethodPath)
+            handlerCode = value + "($event)";
+        else if (isFunctionExpression)
+            handlerCode = "(" + value + ")($event)";
+        else
+            handlerCode = value;
+
+        return "function($event){" + code + handlerCode + "}";
+    }
+
+    private static String genKeyFilter(List<String> keys)
+    {
+        return "if(!('button' in $event)&&" + keys
+            .stream()
+            .map(EventHandlerGenerator::genFilterCode)
+            .collect(Collectors.joining("&&")) + ")return null;";
+    }
+
+    private static String genFilterCode(String key)
+    {
+        Long keyVal = parseInt(key);
+        if (keyVal != null && keyVal != 0)
+            return "$event.keyCode!==" + keyVal;
+
+        String alias = KEY_CODES.get(key);
+        return "_k($event.keyCode," + JsUtil.stringify(key) + (alias != null ? "," + alias : "")
+            + ")";
+    }
+
+    private static String genGuard(String condition)
+    {
+        return "if(" + condition + ")return null;";
+    }
+
+    /**
+     * Same as parseInt(value, 10) in JS, parse the leading digits of the value.
+     * @param value The value to parse
+     * @return The parsed number, or null if the value doesn't start with a number (NaN in JS)
+     */
+    private static Long parseInt(String value)
+    {
+        String trimmed = JsUtil.trim(value);
+        int i = 0;
+        boolean negative = false;
+        if (i < trimmed.length() && (trimmed.charAt(i) == '-' || trimmed.charAt(i) == '+'))
+        {
+            negative = trimmed.charAt(i) == '-';
+            i++;
+        }
+
+        int digitsStart = i;
+        while (i < trimmed.length() && trimmed.charAt(i) >= '0' && trimmed.charAt(i) <= '9')
+            i++;
+
+        if (i == digitsStart || i - digitsStart > 18)
+            return null;
+
+        long result = Long.parseLong(trimmed.substring(digitsStart, i));
+        return negative ? -result : result;
+    }
+}
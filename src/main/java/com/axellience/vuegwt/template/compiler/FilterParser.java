@@ -0,0 +1,170 @@
+package com.axellience.vuegwt.template.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Parse the Vue filters in an expression ("value | myFilter").
+ * Port of the parseFilters function of the vue-template-compiler.
+ * @author Adrien Baron
+ */
+public final class FilterParser
+{
+    private static final Pattern VALID_DIVISION_CHAR = Pattern.compile("[\\w).+\\-_$\\]]");
+
+    private FilterParser()
+    {
+    }
+
+    /**
+     * Transform an expression with filters to a JS expression applying them.
+     * @param exp An expression, with or without filters
+     * @return A JS expression
+     */
+    public static String parseFilters(String exp)
+    {
+        boolean inSingle = false;
+        boolean inDouble = false;
+        boolean inTemplateString = false;
+        boolean inRegex = false;
+        int curly = 0;
+        int square = 0;
+        int paren = 0;
+        int lastFilterIndex = 0;
+        int c = -1;
+        int prev;
+        String expression = null;
+        List<String> filters = null;
+
+        int i;
+        for (i = 0; i < exp.length(); i++)
+        {
+            prev = c;
+            c = exp.charAt(i);
+            if (inSingle)
+            {
+                if (c == '\'' && prev != '\\')
+                    inSingle = false;
+            }
+            else if (inDouble)
+            {
+                if (c == '"' && prev != '\\')
+                    inDouble = false;
+            }
+            else if (inTemplateString)
+            {
+                if (c == '`' && prev != '\\')
+                    inTemplateString = false;
+            }
+            else if (inRegex)
+            {
+                if (c == '/' && prev != '\\')
+                    inRegex = false;
+            }
+            else if (c == '|' && charAt(exp, i + 1) != '|' && charAt(exp, i - 1) != '|'
+                && curly == 0 && square == 0 && paren == 0)
+            {
+                if (expression == null)
+                {
+                    // first filter, end of expression
+                    lastFilterIndex = i + 1;
+                    expression = JsUtil.trim(exp.substring(0, i));
+                }
+                else
+                {
+                    filters = pushFilter(filters, exp, lastFilterIndex, i);
+                    lastFilterIndex = i + 1;
+                }
+            }
+            else
+            {
+                switch (c)
+                {
+                    case '"':
+                        inDouble = true;
+                        break;
+                    case '\'':
+                        inSingle = true;
+                        break;
+                    case '`':
+                        inTemplateString = true;
+                        break;
+                    case '(':
+                        paren++;
+                        break;
+                    case ')':
+                        paren--;
+                        break;
+                    case '[':
+                        square++;
+                        break;
+                    case ']':
+                        square--;
+                        break;
+                    case '{':
+                        curly++;
+                        break;
+                    case '}':
+                        curly--;
+                        break;
+                }
+                if (c == '/')
+                {
+                    // find first non-whitespace prev char
+                    String p = null;
+                    for (int j = i - 1; j >= 0; j--)
+                    {
+                        p = String.valueOf(exp.charAt(j));
+                        if (!" ".equals(p))
+                            break;
+                    }
+                    if (p == null || !VALID_DIVISION_CHAR.matcher(p).matches())
+                        inRegex = true;
+                }
+            }
+        }
+
+        if (expression == null)
+            expression = JsUtil.trim(exp.substring(0, i));
+        else if (lastFilterIndex != 0)
+            filters = pushFilter(filters, exp, lastFilterIndex, i);
+
+        if (filters != null)
+        {
+            for (String filter : filters)
+                expression = wrapFilter(expression, filter);
+        }
+
+        return expression;
+    }
+
+    private static List<String> pushFilter(List<String> filters, String exp, int lastFilterIndex,
+        int i)
+    {
+        if (filters == null)
+            filters = new ArrayList<>();
+
+        filters.add(JsUtil.trim(exp.substring(lastFilterIndex, i)));
+        return filters;
+    }
+
+    private static String wrapFilter(String exp, String filter)
+    {
+        int i = filter.indexOf('(');
+        if (i < 0)
+            return "_f(\"" + filter + "\")(" + exp + ")";
+
+        String name = filter.substring(0, i);
+        String args = filter.substring(i + 1);
+        return "_f(\"" + name + "\")(" + exp + "," + args;
+    }
+
+    private static int charAt(String value, int index)
+    {
+        if (index < 0 || index >= value.length())
+            return -1;
+
+        return value.charAt(index);
+    }
+}
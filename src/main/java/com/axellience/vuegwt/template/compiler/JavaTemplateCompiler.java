@@ -0,0 +1,46 @@
+package com.axellience.vuegwt.template.compiler;
+
+import com.axellience.vuegwt.template.compiler.ast.ASTElement;
+import org.jsoup.nodes.Element;
+
+/**
+ * Compile a Vue template to JS render functions without leaving the JVM.
+ * <br>
+ * This is a Java port of the vue-template-compiler (parse, optimize and generate steps). It works
+ * directly on the jsoup DOM produced by the {@link com.axellience.vuegwt.template.parser.TemplateParser},
+ * so the template doesn't need to be serialized back to HTML and parsed again by a JS engine.
+ * The generated code is the same as the one from {@link VueTemplateCompiler}.
+ * @author Adrien Baron
+ */
+public class JavaTemplateCompiler
+{
+    /**
+     * Version of vue-template-compiler this compiler is a port of.
+     * Used to invalidate the cached results when the port changes.
+     */
+    public static final String VERSION = "2.4.2-java.1";
+
+    /**
+     * Return the version of the compiler, used to identify its results in the cache.
+     * @return The version of this compiler
+     */
+    public String getVersion()
+    {
+        return VERSION;
+    }
+
+    /**
+     * Compile the given template to JS render functions.
+     * @param templateContainer The element containing the template, usually the body of the
+     * jsoup Document
+     * @return An object containing the render functions
+     */
+    public VueTemplateCompilerResult compile(Element templateContainer)
+    {
+        ASTElement ast = new TemplateAstBuilder().build(templateContainer);
+        if (ast != null)
+            new TemplateAstOptimizer().optimize(ast);
+
+        return new RenderFunctionGenerator().generate(ast);
+    }
+}
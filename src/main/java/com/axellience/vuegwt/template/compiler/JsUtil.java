@@ -0,0 +1,208 @@
+package com.axellience.vuegwt.template.compiler;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Java equivalents of the JS builtins used by the vue-template-compiler.
+ * They are needed to generate exactly the same code as the JS implementation.
+ * @author Adrien Baron
+ */
+public final class JsUtil
+{
+    /**
+     * Same characters as \s in a JS regexp.
+     */
+    public static final String WHITESPACE = "[\\s\\u00A0\\u2028\\u2029\\uFEFF\\p{Zs}]";
+
+    private static final Pattern CAMELIZE_PATTERN = Pattern.compile("-(\\w)");
+    private static final Pattern ARRAY_INDEX_PATTERN = Pattern.compile("0|[1-9][0-9]{0,9}");
+
+    private JsUtil()
+    {
+    }
+
+    /**
+     * Equivalent of JSON.stringify for a String.
+     * @param value The string to serialize
+     * @return The JSON string literal
+     */
+    public static String stringify(String value)
+    {
+        StringBuilder builder = new StringBuilder(value.length() + 2);
+        builder.append('"');
+        for (int i = 0; i < value.length(); i++)
+        {
+            char c = value.charAt(i);
+            switch (c)
+            {
+                case '"':
+                    builder.append("\\\"");
+                    break;
+                case '\\':
+                    builder.append("\\\\");
+                    break;
+                case '\b':
+                    builder.append("\\b");
+                    break;
+                case '\f':
+                    builder.append("\\f");
+                    break;
+                case '\n':
+                    builder.append("\\n");
+                    break;
+                case '\r':
+                    builder.append("\\r");
+                    break;
+                case '\t':
+                    builder.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20)
+                        builder.append(String.format("\\u%04x", (int) c));
+                    else
+                        builder.append(c);
+            }
+        }
+        builder.append('"');
+        return builder.toString();
+    }
+
+    /**
+     * Equivalent of JSON.stringify for an object with String or Boolean values.
+     * @param object The object to serialize
+     * @return The JSON object literal
+     */
+    public static String stringify(Map<String, ?> object)
+    {
+        StringBuilder builder = new StringBuilder("{");
+        boolean isFirst = true;
+        for (String key : orderedKeys(object))
+        {
+            if (!isFirst)
+                builder.append(',');
+            isFirst = false;
+
+            Object value = object.get(key);
+            builder.append(stringify(key)).append(':');
+            builder.append(value instanceof String ? stringify((String) value) : value);
+        }
+        return builder.append('}').toString();
+    }
+
+    /**
+     * Return the keys of a map in the order a JS object would enumerate them.
+     * Array index keys come first in ascending order, then the other keys in insertion order.
+     * @param object A map with the insertion order of the JS object
+     * @return The keys in enumeration order
+     */
+    public static List<String> orderedKeys(Map<String, ?> object)
+    {
+        List<String> indexKeys = new ArrayList<>();
+        List<String> otherKeys = new ArrayList<>();
+        for (String key : object.keySet())
+        {
+            if (isArrayIndex(key))
+                indexKeys.add(key);
+            else
+                otherKeys.add(key);
+        }
+
+        if (indexKeys.isEmpty())
+            return otherKeys;
+
+        indexKeys.sort((a, b) -> Long.compare(Long.parseLong(a), Long.parseLong(b)));
+        indexKeys.addAll(otherKeys);
+        return indexKeys;
+    }
+
+    private static boolean isArrayIndex(String key)
+    {
+        return ARRAY_INDEX_PATTERN.matcher(key).matches() && Long.parseLong(key) < 4294967295L;
+    }
+
+    /**
+     * Equivalent of String.prototype.trim.
+     * Unlike {@link String#trim()} it removes unicode spaces, but not the other control characters.
+     * @param value The string to trim
+     * @return The trimmed string
+     */
+    public static String trim(String value)
+    {
+        int start = 0;
+        int end = value.length();
+        while (start < end && isWhitespace(value.charAt(start)))
+            start++;
+        while (end > start && isWhitespace(value.charAt(end - 1)))
+            end--;
+
+        return value.substring(start, end);
+    }
+
+    /**
+     * Check if a character is matched by \s in a JS regexp.
+     * @param c The character to check
+     * @return true if this is a whitespace or a line terminator
+     */
+    public static boolean isWhitespace(char c)
+    {
+        switch (c)
+        {
+            case '\t':
+            case '\n':
+            case '\u000B':
+            case '\f':
+            case '\r':
+            case ' ':
+            case '\u00A0':
+            case '\u2028':
+            case '\u2029':
+            case '\uFEFF':
+                return true;
+            default:
+                return Character.getType(c) == Character.SPACE_SEPARATOR;
+        }
+    }
+
+    /**
+     * Camelize a hyphen-delimited string.
+     * @param value A string like "my-value"
+     * @return The camelized string, like "myValue"
+     */
+    public static String camelize(String value)
+    {
+        Matcher matcher = CAMELIZE_PATTERN.matcher(value);
+        StringBuffer result = new StringBuffer();
+        while (matcher.find())
+            matcher.appendReplacement(result, matcher.group(1).toUpperCase(Locale.ROOT));
+        matcher.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * Escape the line and paragraph separators which are valid in JSON but not in JS strings.
+     * @param text Some JS code
+     * @return The JS code with the separators escaped
+     */
+    public static String transformSpecialNewlines(String text)
+    {
+        return text.replace("\u2028", "\\u2028").replace("\u2029", "\\u2029");
+    }
+
+    /**
+     * Build a set from a comma separated list of values.
+     * @param values The comma separated values
+     * @return The set of values
+     */
+    static Set<String> makeSet(String values)
+    {
+        return new HashSet<>(Arrays.asList(values.split(",")));
+    }
+}
@@ -0,0 +1,306 @@
+package com.axellience.vuegwt.template.compiler;
+
+import com.axellience.vuegwt.template.compiler.ast.ASTDirective;
+import com.axellience.vuegwt.template.compiler.ast.ASTElement;
+import com.axellience.vuegwt.template.compiler.ast.ASTModel;
+
+import java.util.Map;
+
+import static com.axellience.vuegwt.template.compiler.ASTHelpers.addHandler;
+import static com.axellience.vuegwt.template.compiler.ASTHelpers.getBindingAttr;
+
+/**
+ * Generate the code for the v-model directive.
+ * Port of the model directive of the vue-template-compiler.
+ * @author Adrien Baron
+ */
+public final class ModelDirective
+{
+    // in some cases, the event used has to be determined at runtime
+    // so we used some reserved tokens during compile.
+    private static final String RANGE_TOKEN = "__r";
+    private static final String CHECKBOX_RADIO_TOKEN = "__c";
+
+    private ModelDirective()
+    {
+    }
+
+    /**
+     * Process a v-model directive on an element.
+     * This adds the props and event handlers needed for the binding.
+     * @param el The element with the v-model
+     * @param dir The v-model directive
+     * @return true if the directive also needs a runtime counterpart
+     */
+    public static boolean model(ASTElement el, ASTDirective dir)
+    {
+        String value = dir.getValue();
+        Map<String, Boolean> modifiers = dir.getModifiers();
+        String tag = el.getTag();
+        String type = el.getAttrsMap().get("type");
+
+        if (el.getComponent() != null)
+        {
+            genComponentModel(el, value, modifiers);
+            // component v-model doesn't need extra runtime
+            return false;
+        }
+        else if ("select".equals(tag))
+        {
+            genSelect(el, value, modifiers);
+        }
+        else if ("input".equals(tag) && "checkbox".equals(type))
+        {
+            genCheckboxModel(el, value, modifiers);
+        }
+        else if ("input".equals(tag) && "radio".equals(type))
+        {
+            genRadioModel(el, value, modifiers);
+        }
+        else if ("input".equals(tag) || "textarea".equals(tag))
+        {
+            genDefaultModel(el, value, modifiers);
+        }
+        else
+        {
+            // The compiler doesn't know about reserved tags here, every other element is
+            // treated as a Component
+            genComponentModel(el, value, modifiers);
+            return false;
+        }
+
+        // ensure runtime directive metadata
+        return true;
+    }
+
+    /**
+     * Generate the assignment of a v-model value.
+     * Assignments to an array index or object key use $set so they are reactive.
+     * @param value The expression bound with v-model
+     * @param assignment The value to assign
+     * @return The JS code of the assignment
+     */
+    public static String genAssignmentCode(String value, String assignment)
+    {
+        String[] modelRs = parseModel(value);
+        if (modelRs == null)
+            return value + "=" + assignment;
+
+        return "$set(" + modelRs[0] + ", " + modelRs[1] + ", " + assignment + ")";
+    }
+
+    private static void genComponentModel(ASTElement el, String value,
+        Map<String, Boolean> modifiers)
+    {
+        String baseValueExpression = "$$v";
+        String valueExpression = baseValueExpression;
+        if (hasModifier(modifiers, "trim"))
+        {
+            valueExpression = "(typeof "
+                + baseValueExpression
+                + " === 'string'"
+                + "? "
+                + baseValueExpression
+                + ".trim()"
+                + ": "
+                + baseValueExpression
+                + ")";
+        }
+        if (hasModifier(modifiers, "number"))
+            valueExpression = "_n(" + valueExpression + ")";
+
+        String assignment = genAssignmentCode(value, valueExpression);
+
+        el.setModel(new ASTModel("(" + value + ")",
+            "\"" + value + "\"",
+            "function (" + baseValueExpression + ") {" + assignment + "}"));
+    }
+
+    private static void genCheckboxModel(ASTElement el, String value,
+        Map<String, Boolean> modifiers)
+    {
+        boolean number = hasModifier(modifiers, "number");
+        String valueBinding = orDefault(getBindingAttr(el, "value"), "null");
+        String trueValueBinding = orDefault(getBindingAttr(el, "true-value"), "true");
+        String falseValueBinding = orDefault(getBindingAttr(el, "false-value"), "false");
+        el.addProp("checked",
+            "Array.isArray(" + value + ")" + "?_i(" + value + "," + valueBinding + ")>-1" + (
+                "true".equals(trueValueBinding) ?
+                    ":(" + value + ")" :
+                    ":_q(" + value + "," + trueValueBinding + ")"));
+        addHandler(el,
+            CHECKBOX_RADIO_TOKEN,
+            "var $$a="
+                + value
+                + ","
+                + "$$el=$event.target,"
+                + "$$c=$$el.checked?("
+                + trueValueBinding
+                + "):("
+                + falseValueBinding
+                + ");"
+                + "if(Array.isArray($$a)){"
+                + "var $$v="
+                + (number ? "_n(" + valueBinding + ")" : valueBinding)
+                + ","
+                + "$$i=_i($$a,$$v);"
+                + "if($$el.checked){$$i<0&&("
+                + value
+                + "=$$a.concat($$v))}"
+                + "else{$$i>-1&&("
+                + value
+                + "=$$a.slice(0,$$i).concat($$a.slice($$i+1)))}"
+                + "}else{"
+                + genAssignmentCode(value, "$$c")
+                + "}",
+            null,
+            true);
+    }
+
+    private static void genRadioModel(ASTElement el, String value,
+        Map<String, Boolean> modifiers)
+    {
+        String valueBinding = orDefault(getBindingAttr(el, "value"), "null");
+        if (hasModifier(modifiers, "number"))
+            valueBinding = "_n(" + valueBinding + ")";
+
+        el.addProp("checked", "_q(" + value + "," + valueBinding + ")");
+        addHandler(el,
+            CHECKBOX_RADIO_TOKEN,
+            genAssignmentCode(value, valueBinding),
+            null,
+            true);
+    }
+
+    private static void genSelect(ASTElement el, String value, Map<String, Boolean> modifiers)
+    {
+        String selectedVal = "Array.prototype.filter"
+            + ".call($event.target.options,function(o){return o.selected})"
+            + ".map(function(o){var val = \"_value\" in o ? o._value : o.value;"
+            + "return "
+            + (hasModifier(modifiers, "number") ? "_n(val)" : "val")
+            + "})";
+
+        String assignment = "$event.target.multiple ? $$selectedVal : $$selectedVal[0]";
+        String code = "var $$selectedVal = " + selectedVal + ";";
+        code = code + " " + genAssignmentCode(value, assignment);
+        addHandler(el, "change", code, null, true);
+    }
+
+    private static void genDefaultModel(ASTElement el, String value,
+        Map<String, Boolean> modifiers)
+    {
+        String type = el.getAttrsMap().get("type");
+        boolean lazy = hasModifier(modifiers, "lazy");
+        boolean number = hasModifier(modifiers, "number");
+        boolean trim = hasModifier(modifiers, "trim");
+        boolean needCompositionGuard = !lazy && !"range".equals(type);
+        String event = lazy ? "change" : "range".equals(type) ? RANGE_TOKEN : "input";
+
+        String valueExpression = "$event.target.value";
+        if (trim)
+            valueExpression = "$event.target.value.trim()";
+        if (number)
+            valueExpression = "_n(" + valueExpression + ")";
+
+        String code = genAssignmentCode(value, valueExpression);
+        if (needCompositionGuard)
+            code = "if($event.target.composing)return;" + code;
+
+        el.addProp("value", "(" + value + ")");
+        addHandler(el, event, code, null, true);
+        if (trim || number)
+            addHandler(el, "blur", "$forceUpdate()", null, false);
+    }
+
+    /**
+     * Parse a v-model value to find if the last member is accessed with brackets.
+     * For example "test[a[0]]" gives "test" and "a[0]".
+     * @param val The v-model value
+     * @return The expression and the index, or null if the value doesn't end with brackets
+     */
+    private static String[] parseModel(String val)
+    {
+        int len = val.length();
+        if (val.indexOf('[') < 0 || val.lastIndexOf(']') < len - 1)
+            return null;
+
+        int index = 0;
+        int expressionPos = 0;
+        int expressionEndPos = 0;
+        while (index < len)
+        {
+            int chr = next(val, ++index);
+            if (isStringStart(chr))
+            {
+                index = parseString(val, index, chr);
+            }
+            else if (chr == '[')
+            {
+                int inBracket = 1;
+                expressionPos = index;
+                while (index < len)
+                {
+                    chr = next(val, ++index);
+                    if (isStringStart(chr))
+                    {
+                        index = parseString(val, index, chr);
+                        continue;
+                    }
+                    if (chr == '[')
+                        inBracket++;
+                    if (chr == ']')
+                        inBracket--;
+                    if (inBracket == 0)
+                    {
+                        expressionEndPos = index;
+                        break;
+                    }
+                }
+            }
+        }
+
+        return new String[] {
+            val.substring(0, expressionPos), substring(val, expressionPos + 1, expressionEndPos)
+        };
+    }
+
+    private static int parseString(String val, int index, int stringQuote)
+    {
+        while (index < val.length())
+        {
+            int chr = next(val, ++index);
+            if (chr == stringQuote)
+                break;
+        }
+        return index;
+    }
+
+    private static int next(String val, int index)
+    {
+        return index < val.length() ? val.charAt(index) : -1;
+    }
+
+    /**
+     * Same as String.prototype.substring, which swaps the indexes if start is after end.
+     */
+    private static String substring(String val, int start, int end)
+    {
+        return val.substring(Math.min(start, end), Math.max(start, end));
+    }
+
+    private static boolean isStringStart(int chr)
+    {
+        return chr == '"' || chr == '\'';
+    }
+
+    private static boolean hasModifier(Map<String, Boolean> modifiers, String modifier)
+    {
+        return modifiers != null && modifiers.containsKey(modifier);
+    }
+
+    private static String orDefault(String value, String defaultValue)
+    {
+        return value == null || value.isEmpty() ? defaultValue : value;
+    }
+}
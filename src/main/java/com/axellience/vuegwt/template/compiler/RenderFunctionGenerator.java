@@ -0,0 +1,501 @@
+package com.axellience.vuegwt.template.compiler;
+
+import com.axellience.vuegwt.template.compiler.ast.ASTAttr;
+import com.axellience.vuegwt.template.compiler.ast.ASTDirective;
+import com.axellience.vuegwt.template.compiler.ast.ASTElement;
+import com.axellience.vuegwt.template.compiler.ast.ASTIfCondition;
+import com.axellience.vuegwt.template.compiler.ast.ASTNode;
+import com.axellience.vuegwt.template.compiler.ast.ASTText;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Generate the render functions from an optimized template AST.
+ * Port of the generate function of the vue-template-compiler, the generated code is the same.
+ * @author Adrien Baron
+ */
+public class RenderFunctionGenerator
+{
+    private final List<String> staticRenderFns = new ArrayList<>();
+    private int onceId = 0;
+
+    /**
+     * Generate the render functions for a template.
+     * A generator instance must only be used once.
+     * @param ast The root of the template AST, can be null
+     * @return The render function and the static render functions
+     */
+    public VueTemplateCompilerResult generate(ASTElement ast)
+    {
+        String code = ast != null ? genElement(ast) : "_c(\"div\")";
+        return new VueTemplateCompilerResult("with(this){return " + code + "}",
+            staticRenderFns.toArray(new String[staticRenderFns.size()]));
+    }
+
+    private String genElement(ASTElement el)
+    {
+        if (el.isStaticRoot() && !el.isStaticProcessed())
+            return genStatic(el);
+        else if (el.isOnce() && !el.isOnceProcessed())
+            return genOnce(el);
+        else if (el.getFor() != null && !el.isForProcessed())
+            return genFor(el, null);
+        else if (el.getIf() != null && !el.isIfProcessed())
+            return genIf(el);
+        else if ("template".equals(el.getTag()) && el.getSlotTarget() == null)
+            return orVoid(genChildren(el, false));
+        else if ("slot".equals(el.getTag()))
+            return genSlot(el);
+
+        // component or element
+        if (el.getComponent() != null)
+            return genComponent(el.getComponent(), el);
+
+        String data = el.isPlain() ? null : genData(el);
+        String children = el.isInlineTemplate() ? null : genChildren(el, true);
+        return "_c('" + el.getTag() + "'" + (data != null ? "," + data : "") + (children != null ?
+            "," + children :
+            "") + ")";
+    }
+
+    /**
+     * Hoist a static sub tree out of the render function.
+     */
+    private String genStatic(ASTElement el)
+    {
+        el.setStaticProcessed(true);
+        staticRenderFns.add("with(this){return " + genElement(el) + "}");
+        return "_m(" + (staticRenderFns.size() - 1) + (el.isStaticInFor() ? ",true" : "") + ")";
+    }
+
+    /**
+     * v-once
+     */
+    private String genOnce(ASTElement el)
+    {
+        el.setOnceProcessed(true);
+        if (el.getIf() != null && !el.isIfProcessed())
+            return genIf(el);
+
+        if (!el.isStaticInFor())
+            return genStatic(el);
+
+        String key = null;
+        ASTElement parent = el.getParent();
+        while (parent != null)
+        {
+            if (parent.getFor() != null)
+            {
+                key = parent.getKey();
+                break;
+            }
+            parent = parent.getParent();
+        }
+
+        // v-once can only be used inside v-for that is keyed
+        if (key == null)
+            return genElement(el);
+
+        return "_o(" + genElement(el) + "," + (onceId++) + "," + key + ")";
+    }
+
+    private String genIf(ASTElement el)
+    {
+        // avoid recursion
+        el.setIfProcessed(true);
+        return genIfConditions(new LinkedList<>(el.getIfConditions()));
+    }
+
+    private String genIfConditions(LinkedList<ASTIfCondition> conditions)
+    {
+        if (conditions.isEmpty())
+            return "_e()";
+
+        ASTIfCondition condition = conditions.removeFirst();
+        if (condition.getExpression() != null)
+        {
+            return "(" + condition.getExpression() + ")?" + genTernaryExp(condition.getBlock())
+                + ":" + genIfConditions(conditions);
+        }
+
+        return genTernaryExp(condition.getBlock());
+    }
+
+    /**
+     * v-if with v-once should generate code like (a)?_m(0):_m(1)
+     */
+    private String genTernaryExp(ASTElement el)
+    {
+        return el.isOnce() ? genOnce(el) : genElement(el);
+    }
+
+    private String genFor(ASTElement el, String scopedSlotKey)
+    {
+        String iterator1 = el.getIterator1() != null ? "," + el.getIterator1() : "";
+        String iterator2 = el.getIterator2() != null ? "," + el.getIterator2() : "";
+
+        // avoid recursion
+        el.setForProcessed(true);
+        String content =
+            scopedSlotKey != null ? genScopedSlot(scopedSlotKey, el) : genElement(el);
+        return "_l(("
+            + el.getFor()
+            + "),"
+            + "function("
+            + el.getAlias()
+            + iterator1
+            + iterator2
+            + "){"
+            + "return "
+            + content
+            + "})";
+    }
+
+    private String genData(ASTElement el)
+    {
+        StringBuilder data = new StringBuilder("{");
+
+        // directives first.
+        // directives may mutate the el's other properties before they are generated.
+        String dirs = genDirectives(el);
+        if (dirs != null)
+            data.append(dirs).append(",");
+
+        if (el.getKey() != null)
+            data.append("key:").append(el.getKey()).append(",");
+        if (el.getRef() != null)
+            data.append("ref:").append(el.getRef()).append(",");
+        if (el.isRefInFor())
+            data.append("refInFor:true,");
+        if (el.isPre())
+            data.append("pre:true,");
+        // record original tag name for components using "is" attribute
+        if (el.getComponent() != null)
+            data.append("tag:\"").append(el.getTag()).append("\",");
+
+        // class and style
+        if (el.getStaticClass() != null)
+            data.append("staticClass:").append(el.getStaticClass()).append(",");
+        if (el.getClassBinding() != null)
+            data.append("class:").append(el.getClassBinding()).append(",");
+        if (el.getStaticStyle() != null)
+            data.append("staticStyle:").append(el.getStaticStyle()).append(",");
+        if (el.getStyleBinding() != null)
+            data.append("style:(").append(el.getStyleBinding()).append("),");
+
+        // attributes
+        if (el.getAttrs() != null)
+            data.append("attrs:{").append(genProps(el.getAttrs())).append("},");
+        // DOM props
+        if (el.getProps() != null)
+            data.append("domProps:{").append(genProps(el.getProps())).append("},");
+        // event handlers
+        if (el.getEvents(false) != null)
+            data.append(EventHandlerGenerator.genHandlers(el.getEvents(false), false)).append(",");
+        if (el.getEvents(true) != null)
+            data.append(EventHandlerGenerator.genHandlers(el.getEvents(true), true)).append(",");
+        // slot target
+        if (el.getSlotTarget() != null)
+            data.append("slot:").append(el.getSlotTarget()).append(",");
+        // scoped slots
+        if (el.getScopedSlots() != null)
+            data.append(genScopedSlots(el.getScopedSlots())).append(",");
+        // component v-model
+        if (el.getModel() != null)
+        {
+            data
+                .append("model:{value:")
+                .append(el.getModel().getValue())
+                .append(",callback:")
+                .append(el.getModel().getCallback())
+                .append(",expression:")
+                .append(el.getModel().getExpression())
+                .append("},");
+        }
+        // inline-template
+        if (el.isInlineTemplate())
+        {
+            String inlineTemplate = genInlineTemplate(el);
+            if (inlineTemplate != null)
+                data.append(inlineTemplate).append(",");
+        }
+
+        if (data.charAt(data.length() - 1) == ',')
+            data.setLength(data.length() - 1);
+        data.append("}");
+
+        String result = data.toString();
+        // v-bind data wrap
+        if (el.getWrapData() != null)
+            result = el.getWrapData().apply(result);
+        // v-on data wrap
+        if (el.getWrapListeners() != null)
+            result = el.getWrapListeners().apply(result);
+
+        return result;
+    }
+
+    private String genDirectives(ASTElement el)
+    {
+        List<ASTDirective> dirs = el.getDirectives();
+        if (dirs == null)
+            return null;
+
+        StringBuilder res = new StringBuilder("directives:[");
+        boolean hasRuntime = false;
+        for (ASTDirective dir : dirs)
+        {
+            // compile-time directive that manipulates AST.
+            // returns true if it also needs a runtime counterpart.
+            boolean needRuntime = processDirective(el, dir);
+            if (!needRuntime)
+                continue;
+
+            hasRuntime = true;
+            res.append("{name:\"").append(dir.getName());
+            res.append("\",rawName:\"").append(dir.getRawName()).append("\"");
+            if (dir.getValue() != null && !dir.getValue().isEmpty())
+            {
+                res.append(",value:(").append(dir.getValue()).append(")");
+                res.append(",expression:").append(JsUtil.stringify(dir.getValue()));
+            }
+            if (dir.getArg() != null)
+                res.append(",arg:\"").append(dir.getArg()).append("\"");
+            if (dir.getModifiers() != null)
+                res.append(",modifiers:").append(JsUtil.stringify(dir.getModifiers()));
+            res.append("},");
+        }
+
+        if (!hasRuntime)
+            return null;
+
+        res.setLength(res.length() - 1);
+        return res.append("]").toString();
+    }
+
+    /**
+     * Apply the directives handled at compile time.
+     * @param el The element with the directive
+     * @param dir The directive
+     * @return true if the directive needs a runtime counterpart
+     */
+    private boolean processDirective(ASTElement el, ASTDirective dir)
+    {
+        String value = dir.getValue();
+        boolean hasValue = value != null && !value.isEmpty();
+        switch (dir.getName())
+        {
+            case "model":
+                return ModelDirective.model(el, dir);
+            case "text":
+                if (hasValue)
+                    el.addProp("textContent", "_s(" + value + ")");
+                return false;
+            case "html":
+                if (hasValue)
+                    el.addProp("innerHTML", "_s(" + value + ")");
+                return false;
+            case "on":
+                el.setWrapListeners(code -> "_g(" + code + "," + value + ")");
+                return false;
+            case "bind":
+                Map<String, Boolean> modifiers = dir.getModifiers();
+                boolean isProp = modifiers != null && modifiers.containsKey("prop");
+                boolean isSync = modifiers != null && modifiers.containsKey("sync");
+                el.setWrapData(code -> "_b("
+                    + code
+                    + ",'"
+                    + el.getTag()
+                    + "',"
+                    + value
+                    + ","
+                    + (isProp ? "true" : "false")
+                    + (isSync ? ",true" : "")
+                    + ")");
+                return false;
+            case "cloak":
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private String genInlineTemplate(ASTElement el)
+    {
+        if (el.getChildren().isEmpty() || !(el.getChildren().get(0) instanceof ASTElement))
+            return null;
+
+        ASTElement ast = (ASTElement) el.getChildren().get(0);
+        VueTemplateCompilerResult inlineRenderFns = new RenderFunctionGenerator().generate(ast);
+        String staticRenderFns = java.util.Arrays
+            .stream(inlineRenderFns.getStaticRenderFunctions())
+            .map(code -> "function(){" + code + "}")
+            .collect(Collectors.joining(","));
+
+        return "inlineTemplate:{render:function(){"
+            + inlineRenderFns.getRenderFunction()
+            + "},staticRenderFns:["
+            + staticRenderFns
+            + "]}";
+    }
+
+    private String genScopedSlots(Map<String, ASTElement> slots)
+    {
+        return "scopedSlots:_u([" + JsUtil
+            .orderedKeys(slots)
+            .stream()
+            .map(key -> genScopedSlot(key, slots.get(key)))
+            .collect(Collectors.joining(",")) + "])";
+    }
+
+    private String genScopedSlot(String key, ASTElement el)
+    {
+        if (el.getFor() != null && !el.isForProcessed())
+            return genFor(el, key);
+
+        String content =
+            "template".equals(el.getTag()) ? orVoid(genChildren(el, false)) : genElement(el);
+        return "{key:" + key + ",fn:function(" + el.getAttrsMap().get("scope") + "){" + "return "
+            + content + "}}";
+    }
+
+    private String genChildren(ASTElement el, boolean checkSkip)
+    {
+        List<ASTNode> children = el.getChildren();
+        if (children.isEmpty())
+            return null;
+
+        // optimize single v-for
+        ASTNode firstChild = children.get(0);
+        if (children.size() == 1 && firstChild instanceof ASTElement)
+        {
+            ASTElement firstElement = (ASTElement) firstChild;
+            if (firstElement.getFor() != null && !"template".equals(firstElement.getTag())
+                && !"slot".equals(firstElement.getTag()))
+                return genElement(firstElement);
+        }
+
+        int normalizationType = checkSkip ? getNormalizationType(children) : 0;
+        return "[" + children.stream().map(this::genNode).collect(Collectors.joining(",")) + "]"
+            + (normalizationType != 0 ? "," + normalizationType : "");
+    }
+
+    /**
+     * Determine the normalization needed for the children array.
+     * 0: no normalization needed
+     * 1: simple normalization needed (possible 1-level deep nested array)
+     * 2: full normalization needed
+     * @param children The children of an element
+     * @return The normalization type
+     */
+    private int getNormalizationType(List<ASTNode> children)
+    {
+        int res = 0;
+        for (ASTNode child : children)
+        {
+            if (!(child instanceof ASTElement))
+                continue;
+
+            ASTElement el = (ASTElement) child;
+            if (needsNormalization(el) || (el.getIfConditions() != null && el
+                .getIfConditions()
+                .stream()
+                .anyMatch(c -> needsNormalization(c.getBlock()))))
+            {
+                res = 2;
+                break;
+            }
+
+            if (maybeComponent(el) || (el.getIfConditions() != null && el
+                .getIfConditions()
+                .stream()
+                .anyMatch(c -> maybeComponent(c.getBlock()))))
+                res = 1;
+        }
+        return res;
+    }
+
+    private boolean needsNormalization(ASTElement el)
+    {
+        return el.getFor() != null || "template".equals(el.getTag()) || "slot".equals(el.getTag());
+    }
+
+    private boolean maybeComponent(ASTElement el)
+    {
+        return !WebPlatform.isReservedTag(el.getTag());
+    }
+
+    private String genNode(ASTNode node)
+    {
+        if (node instanceof ASTElement)
+            return genElement((ASTElement) node);
+
+        return genText((ASTText) node);
+    }
+
+    private String genText(ASTText text)
+    {
+        // no need for () because already wrapped in _s()
+        if (text.hasExpression())
+            return "_v(" + text.getExpression() + ")";
+
+        return "_v(" + JsUtil.transformSpecialNewlines(JsUtil.stringify(text.getText())) + ")";
+    }
+
+    private String genSlot(ASTElement el)
+    {
+        String slotName = el.getSlotName() != null && !el.getSlotName().isEmpty() ?
+            el.getSlotName() :
+            "\"default\"";
+        String children = genChildren(el, false);
+        StringBuilder res = new StringBuilder("_t(").append(slotName);
+        if (children != null)
+            res.append(",").append(children);
+
+        String attrs = null;
+        if (el.getAttrs() != null)
+        {
+            attrs = "{" + el
+                .getAttrs()
+                .stream()
+                .map(a -> JsUtil.camelize(a.getName()) + ":" + a.getValue())
+                .collect(Collectors.joining(",")) + "}";
+        }
+
+        String bind = el.getAttrsMap().get("v-bind");
+        boolean hasBind = bind != null && !bind.isEmpty();
+        if ((attrs != null || hasBind) && children == null)
+            res.append(",null");
+        if (attrs != null)
+            res.append(",").append(attrs);
+        if (hasBind)
+            res.append(attrs != null ? "" : ",null").append(",").append(bind);
+
+        return res.append(")").toString();
+    }
+
+    private String genComponent(String componentName, ASTElement el)
+    {
+        String children = el.isInlineTemplate() ? null : genChildren(el, true);
+        return "_c(" + componentName + "," + genData(el) + (children != null ?
+            "," + children :
+            "") + ")";
+    }
+
+    private String genProps(List<ASTAttr> props)
+    {
+        return props
+            .stream()
+            .map(prop -> "\"" + prop.getName() + "\":" + JsUtil.transformSpecialNewlines(prop.getValue()))
+            .collect(Collectors.joining(","));
+    }
+
+    private String orVoid(String code)
+    {
+        return code != null ? code : "void 0";
+    }
+}
@@ -0,0 +1,597 @@
+package com.axellience.vuegwt.template.compiler;
+
+import com.axellience.vuegwt.template.compiler.ast.ASTAttr;
+import com.axellience.vuegwt.template.compiler.ast.ASTDirective;
+import com.axellience.vuegwt.template.compiler.ast.ASTElement;
+import com.axellience.vuegwt.template.compiler.ast.ASTIfCondition;
+import com.axellience.vuegwt.template.compiler.ast.ASTNode;
+import com.axellience.vuegwt.template.compiler.ast.ASTText;
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.DataNode;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.axellience.vuegwt.template.compiler.ASTHelpers.addHandler;
+import static com.axellience.vuegwt.template.compiler.ASTHelpers.getBindingAttr;
+
+/**
+ * Build the Vue template AST from the jsoup DOM of a template.
+ * <br>
+ * This is a port of the parse function of the vue-template-compiler. Instead of parsing the HTML
+ * again, it walks the DOM already built by jsoup and reproduces the events the Vue HTML parser
+ * would have emitted for it.
+ * @author Adrien Baron
+ */
+public class TemplateAstBuilder
+{
+    private static final Pattern ON_PATTERN = Pattern.compile("^@|^v-on:");
+    private static final Pattern DIR_PATTERN = Pattern.compile("^v-|^@|^:");
+    private static final Pattern BIND_PATTERN = Pattern.compile("^:|^v-bind:");
+    private static final Pattern ARG_PATTERN = Pattern.compile(":(.*)$");
+    private static final Pattern MODIFIER_PATTERN = Pattern.compile("\\.[^.]+");
+    private static final Pattern FOR_ALIAS_PATTERN =
+        Pattern.compile("(.*?)" + JsUtil.WHITESPACE + "+(?:in|of)" + JsUtil.WHITESPACE + "+(.*)");
+    private static final Pattern FOR_ITERATOR_PATTERN =
+        Pattern.compile("\\((\\{[^}]*\\}|[^,]*),([^,]*)(?:,([^,]*))?\\)");
+
+    private final List<ASTElement> stack = new ArrayList<>();
+    private ASTElement root;
+    private ASTElement currentParent;
+    private boolean inVPre = false;
+    private boolean inPre = false;
+
+    /**
+     * Build the AST for a template.
+     * @param templateContainer The element containing the template, usually the body of the
+     * jsoup Document
+     * @return The root element of the template, or null if the template has no element
+     */
+    public ASTElement build(Element templateContainer)
+    {
+        walkChildren(templateContainer, 0);
+        return root;
+    }
+
+    /**
+     * Process the children of a DOM node.
+     * Consecutive text nodes are merged, as they would be a single text in the HTML.
+     * @param parent The DOM node
+     * @param newlinesToIgnore Number of new lines ignored by Vue at the beginning of the content
+     * of this node
+     */
+    private void walkChildren(Node parent, int newlinesToIgnore)
+    {
+        StringBuilder text = null;
+        boolean atStart = true;
+        for (Node node : parent.childNodes())
+        {
+            if (node instanceof TextNode || node instanceof DataNode)
+            {
+                if (text == null)
+                    text = new StringBuilder();
+
+                if (node instanceof TextNode)
+                    text.append(((TextNode) node).getWholeText());
+                else
+                    text.append(((DataNode) node).getWholeData());
+                continue;
+            }
+
+            if (text != null)
+            {
+                chars(stripNewlines(text, atStart ? newlinesToIgnore : 0));
+                text = null;
+            }
+            atStart = false;
+
+            if (node instanceof Element)
+                walkElement((Element) node);
+        }
+
+        if (text != null)
+            chars(stripNewlines(text, atStart ? newlinesToIgnore : 0));
+    }
+
+    private void walkElement(Element element)
+    {
+        String tag = element.tagName();
+        List<ASTAttr> attrs = new ArrayList<>();
+        for (Attribute attribute : element.attributes())
+            attrs.add(new ASTAttr(attribute.getKey(), attribute.getValue()));
+
+        boolean unary = WebPlatform.isUnaryTag(tag) || (element.childNodes().isEmpty() && element
+            .tag()
+            .isSelfClosing());
+
+        start(tag, attrs, unary);
+        if (unary)
+        {
+            // Content of a unary element would be siblings of it in the HTML
+            walkChildren(element, 0);
+            return;
+        }
+
+        walkChildren(element, getNewlinesToIgnore(tag));
+        end();
+    }
+
+    /**
+     * Vue ignores the first new line in pre, and the two first in textarea.
+     * @param tag The tag of the element
+     * @return The number of new lines that can be ignored at the beginning of the element
+     */
+    private int getNewlinesToIgnore(String tag)
+    {
+        String lowerCaseTag = tag.toLowerCase(Locale.ROOT);
+        if ("pre".equals(lowerCaseTag))
+            return 1;
+        if ("textarea".equals(lowerCaseTag))
+            return 2;
+        return 0;
+    }
+
+    private String stripNewlines(StringBuilder text, int newlinesToIgnore)
+    {
+        int start = 0;
+        while (start < newlinesToIgnore && start < text.length() && text.charAt(start) == '\n')
+            start++;
+
+        return text.substring(start);
+    }
+
+    private void start(String tag, List<ASTAttr> attrs, boolean unary)
+    {
+        ASTElement element = new ASTElement(tag, attrs, currentParent);
+
+        // inherit parent ns if there is one
+        String namespace = currentParent != null && currentParent.getNamespace() != null ?
+            currentParent.getNamespace() :
+            WebPlatform.getTagNamespace(tag);
+        element.setNamespace(namespace);
+
+        if (isForbiddenTag(element))
+            element.setForbidden(true);
+
+        if (!inVPre)
+        {
+            processPre(element);
+            if (element.isPre())
+                inVPre = true;
+        }
+        if (WebPlatform.isPreTag(element.getTag()))
+            inPre = true;
+
+        if (inVPre)
+        {
+            processRawAttrs(element);
+        }
+        else
+        {
+            processFor(element);
+            processIf(element);
+            processOnce(element);
+            processKey(element);
+
+            // determine whether this is a plain element after
+            // removing structural attributes
+            element.setPlain(element.getKey() == null && attrs.isEmpty());
+
+            processRef(element);
+            processSlot(element);
+            processComponent(element);
+            processClass(element);
+            processStyle(element);
+            processAttrs(element);
+        }
+
+        // tree management
+        if (root == null)
+        {
+            root = element;
+        }
+        else if (stack.isEmpty())
+        {
+            // allow root elements with v-if, v-else-if and v-else
+            if (root.getIf() != null && (isTruthy(element.getElseIf()) || element.isElse()))
+                root.addIfCondition(new ASTIfCondition(element.getElseIf(), element));
+        }
+
+        if (currentParent != null && !element.isForbidden())
+        {
+            if (isTruthy(element.getElseIf()) || element.isElse())
+            {
+                processIfConditions(element, currentParent);
+            }
+            else if (isTruthy(element.getSlotScope()))
+            {
+                // scoped slot
+                currentParent.setPlain(false);
+                String name = isTruthy(element.getSlotTarget()) ?
+                    element.getSlotTarget() :
+                    "\"default\"";
+                currentParent.addScopedSlot(name, element);
+            }
+            else
+            {
+                currentParent.getChildren().add(element);
+                element.setParent(currentParent);
+            }
+        }
+
+        if (!unary)
+        {
+            currentParent = element;
+            stack.add(element);
+        }
+        else
+        {
+            endPre(element);
+        }
+    }
+
+    private void end()
+    {
+        // remove trailing whitespace
+        ASTElement element = stack.get(stack.size() - 1);
+        List<ASTNode> children = element.getChildren();
+        if (!children.isEmpty() && !inPre)
+        {
+            ASTNode lastNode = children.get(children.size() - 1);
+            if (lastNode instanceof ASTText && !((ASTText) lastNode).hasExpression()
+                && " ".equals(((ASTText) lastNode).getText()))
+                children.remove(children.size() - 1);
+        }
+
+        // pop stack
+        stack.remove(stack.size() - 1);
+        currentParent = stack.isEmpty() ? null : stack.get(stack.size() - 1);
+        endPre(element);
+    }
+
+    private void chars(String text)
+    {
+        if (currentParent == null || text.isEmpty())
+            return;
+
+        List<ASTNode> children = currentParent.getChildren();
+        if (!inPre && JsUtil.trim(text).isEmpty())
+        {
+            // only preserve whitespace if its not right after a starting tag
+            text = children.isEmpty() ? "" : " ";
+        }
+
+        if (text.isEmpty())
+            return;
+
+        String expression;
+        if (!inVPre && !" ".equals(text) && (expression = TextParser.parseText(text)) != null)
+        {
+            children.add(new ASTText(text, expression));
+        }
+        else if (!" ".equals(text) || children.isEmpty() || !" ".equals(getText(children.get(
+            children.size() - 1))))
+        {
+            children.add(new ASTText(text, null));
+        }
+    }
+
+    private void endPre(ASTElement element)
+    {
+        // check pre state
+        if (element.isPre())
+            inVPre = false;
+        if (WebPlatform.isPreTag(element.getTag()))
+            inPre = false;
+    }
+
+    private void processPre(ASTElement el)
+    {
+        if (el.getAndRemoveAttr("v-pre") != null)
+            el.setPre(true);
+    }
+
+    private void processRawAttrs(ASTElement el)
+    {
+        if (!el.getAttrsList().isEmpty())
+        {
+            for (ASTAttr attr : el.getAttrsList())
+                el.addAttr(attr.getName(), JsUtil.stringify(attr.getValue()));
+        }
+        else if (!el.isPre())
+        {
+            // non root node in pre blocks with no attributes
+            el.setPlain(true);
+        }
+    }
+
+    private void processKey(ASTElement el)
+    {
+        String exp = getBindingAttr(el, "key");
+        if (isTruthy(exp))
+            el.setKey(exp);
+    }
+
+    private void processRef(ASTElement el)
+    {
+        String ref = getBindingAttr(el, "ref");
+        if (isTruthy(ref))
+        {
+            el.setRef(ref);
+            el.setRefInFor(checkInFor(el));
+        }
+    }
+
+    private void processFor(ASTElement el)
+    {
+        String exp = el.getAndRemoveAttr("v-for");
+        if (!isTruthy(exp))
+            return;
+
+        Matcher inMatch = FOR_ALIAS_PATTERN.matcher(exp);
+        if (!inMatch.find())
+            return;
+
+        el.setFor(JsUtil.trim(inMatch.group(2)));
+        String alias = JsUtil.trim(inMatch.group(1));
+        Matcher iteratorMatch = FOR_ITERATOR_PATTERN.matcher(alias);
+        if (iteratorMatch.find())
+        {
+            el.setAlias(JsUtil.trim(iteratorMatch.group(1)));
+            el.setIterator1(JsUtil.trim(iteratorMatch.group(2)));
+            if (isTruthy(iteratorMatch.group(3)))
+                el.setIterator2(JsUtil.trim(iteratorMatch.group(3)));
+        }
+        else
+        {
+            el.setAlias(alias);
+        }
+    }
+
+    private void processIf(ASTElement el)
+    {
+        String exp = el.getAndRemoveAttr("v-if");
+        if (isTruthy(exp))
+        {
+            el.setIf(exp);
+            el.addIfCondition(new ASTIfCondition(exp, el));
+            return;
+        }
+
+        if (el.getAndRemoveAttr("v-else") != null)
+            el.setElse(true);
+
+        String elseif = el.getAndRemoveAttr("v-else-if");
+        if (isTruthy(elseif))
+            el.setElseIf(elseif);
+    }
+
+    private void processIfConditions(ASTElement el, ASTElement parent)
+    {
+        ASTElement prev = findPrevElement(parent.getChildren());
+        if (prev != null && prev.getIf() != null)
+            prev.addIfCondition(new ASTIfCondition(el.getElseIf(), el));
+    }
+
+    /**
+     * Find the previous element, text between v-if and v-else(-if) is ignored.
+     * @param children The children of the parent element
+     * @return The previous element, or null if there is none
+     */
+    private ASTElement findPrevElement(List<ASTNode> children)
+    {
+        for (int i = children.size() - 1; i >= 0; i--)
+        {
+            ASTNode child = children.get(i);
+            if (child instanceof ASTElement)
+                return (ASTElement) child;
+
+            children.remove(i);
+        }
+        return null;
+    }
+
+    private void processOnce(ASTElement el)
+    {
+        if (el.getAndRemoveAttr("v-once") != null)
+            el.setOnce(true);
+    }
+
+    private void processSlot(ASTElement el)
+    {
+        if ("slot".equals(el.getTag()))
+        {
+            el.setSlotName(getBindingAttr(el, "name"));
+            return;
+        }
+
+        String slotTarget = getBindingAttr(el, "slot");
+        if (isTruthy(slotTarget))
+            el.setSlotTarget("\"\"".equals(slotTarget) ? "\"default\"" : slotTarget);
+
+        if ("template".equals(el.getTag()))
+            el.setSlotScope(el.getAndRemoveAttr("scope"));
+    }
+
+    private void processComponent(ASTElement el)
+    {
+        String binding = getBindingAttr(el, "is");
+        if (isTruthy(binding))
+            el.setComponent(binding);
+
+        if (el.getAndRemoveAttr("inline-template") != null)
+            el.setInlineTemplate(true);
+    }
+
+    private void processClass(ASTElement el)
+    {
+        String staticClass = el.getAndRemoveAttr("class");
+        if (isTruthy(staticClass))
+            el.setStaticClass(JsUtil.stringify(staticClass));
+
+        String classBinding = getBindingAttr(el, "class", false);
+        if (isTruthy(classBinding))
+            el.setClassBinding(classBinding);
+    }
+
+    private void processStyle(ASTElement el)
+    {
+        String staticStyle = el.getAndRemoveAttr("style");
+        if (isTruthy(staticStyle))
+            el.setStaticStyle(JsUtil.stringify(parseStyleText(staticStyle)));
+
+        String styleBinding = getBindingAttr(el, "style", false);
+        if (isTruthy(styleBinding))
+            el.setStyleBinding(styleBinding);
+    }
+
+    private void processAttrs(ASTElement el)
+    {
+        for (ASTAttr attr : el.getAttrsList())
+        {
+            String rawName = attr.getName();
+            String name = rawName;
+            String value = attr.getValue();
+            if (!DIR_PATTERN.matcher(name).find())
+            {
+                // literal attribute
+                el.addAttr(name, JsUtil.stringify(value));
+                continue;
+            }
+
+            // mark element as dynamic
+            el.setHasBindings(true);
+            Map<String, Boolean> modifiers = parseModifiers(name);
+            if (modifiers != null)
+                name = MODIFIER_PATTERN.matcher(name).replaceAll("");
+
+            if (BIND_PATTERN.matcher(name).find())
+            {
+                // v-bind
+                name = BIND_PATTERN.matcher(name).replaceFirst("");
+                value = FilterParser.parseFilters(value);
+                boolean isProp = false;
+                if (modifiers != null)
+                {
+                    if (modifiers.containsKey("prop"))
+                    {
+                        isProp = true;
+                        name = JsUtil.camelize(name);
+                        if ("innerHtml".equals(name))
+                            name = "innerHTML";
+                    }
+                    if (modifiers.containsKey("camel"))
+                        name = JsUtil.camelize(name);
+                    if (modifiers.containsKey("sync"))
+                    {
+                        addHandler(el,
+                            "update:" + JsUtil.camelize(name),
+                            ModelDirective.genAssignmentCode(value, "$event"),
+                            null,
+                            false);
+                    }
+                }
+
+                if (isProp || (el.getComponent() == null && WebPlatform.mustUseProp(el.getTag(),
+                    el.getAttrsMap().get("type"),
+                    name)))
+                    el.addProp(name, value);
+                else
+                    el.addAttr(name, value);
+            }
+            else if (ON_PATTERN.matcher(name).find())
+            {
+                // v-on
+                name = ON_PATTERN.matcher(name).replaceFirst("");
+                addHandler(el, name, value, modifiers, false);
+            }
+            else
+            {
+                // normal directives
+                name = DIR_PATTERN.matcher(name).replaceFirst("");
+                Matcher argMatch = ARG_PATTERN.matcher(name);
+                String arg = argMatch.find() ? argMatch.group(1) : null;
+                if (isTruthy(arg))
+                    name = name.substring(0, name.length() - (arg.length() + 1));
+                else
+                    arg = null;
+
+                el.addDirective(new ASTDirective(name, rawName, value, arg, modifiers));
+            }
+        }
+    }
+
+    private boolean checkInFor(ASTElement el)
+    {
+        ASTElement parent = el;
+        while (parent != null)
+        {
+            if (parent.getFor() != null)
+                return true;
+            parent = parent.getParent();
+        }
+        return false;
+    }
+
+    private Map<String, Boolean> parseModifiers(String name)
+    {
+        Matcher matcher = MODIFIER_PATTERN.matcher(name);
+        Map<String, Boolean> modifiers = null;
+        while (matcher.find())
+        {
+            if (modifiers == null)
+                modifiers = new LinkedHashMap<>();
+            modifiers.put(matcher.group().substring(1), true);
+        }
+        return modifiers;
+    }
+
+    /**
+     * Parse the value of a style attribute to an object.
+     * Port of parseStyleText from Vue.
+     * @param cssText The value of the style attribute
+     * @return The declarations by property name
+     */
+    private Map<String, String> parseStyleText(String cssText)
+    {
+        Map<String, String> result = new LinkedHashMap<>();
+        Pattern listDelimiter = Pattern.compile(";(?![^(]*\\))");
+        Pattern propertyDelimiter = Pattern.compile(":([^\\n\\r\\u2028\\u2029]+)");
+        for (String item : listDelimiter.split(cssText))
+        {
+            if (item.isEmpty())
+                continue;
+
+            Matcher matcher = propertyDelimiter.matcher(item);
+            if (matcher.find())
+                result.put(JsUtil.trim(item.substring(0, matcher.start())),
+                    JsUtil.trim(matcher.group(1)));
+        }
+        return result;
+    }
+
+    private boolean isForbiddenTag(ASTElement el)
+    {
+        String type = el.getAttrsMap().get("type");
+        return "style".equals(el.getTag()) || ("script".equals(el.getTag()) && (!isTruthy(type)
+            || "text/javascript".equals(type)));
+    }
+
+    private String getText(ASTNode node)
+    {
+        return node instanceof ASTText ? ((ASTText) node).getText() : null;
+    }
+
+    private static boolean isTruthy(String value)
+    {
+        return value != null && !value.isEmpty();
+    }
+}
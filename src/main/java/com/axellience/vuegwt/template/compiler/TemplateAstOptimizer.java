@@ -0,0 +1,156 @@
+package com.axellience.vuegwt.template.compiler;
+
+import com.axellience.vuegwt.template.compiler.ast.ASTElement;
+import com.axellience.vuegwt.template.compiler.ast.ASTIfCondition;
+import com.axellience.vuegwt.template.compiler.ast.ASTNode;
+
+import java.util.List;
+
+/**
+ * Detect the sub trees of the template AST that never change.
+ * They are hoisted out of the render function in static render functions, and skipped when
+ * patching the DOM.
+ * Port of the optimize function of the vue-template-compiler.
+ * @author Adrien Baron
+ */
+public class TemplateAstOptimizer
+{
+    /**
+     * Mark the static nodes and static roots of the AST.
+     * @param root The root element of the template, can be null
+     */
+    public void optimize(ASTElement root)
+    {
+        if (root == null)
+            return;
+
+        // first pass: mark all non-static nodes.
+        markStatic(root);
+        // second pass: mark static roots.
+        markStaticRoots(root, false);
+    }
+
+    private boolean markStatic(ASTNode node)
+    {
+        if (!(node instanceof ASTElement))
+            return node.isStatic();
+
+        ASTElement el = (ASTElement) node;
+        el.setStatic(isStatic(el));
+
+        // do not make component slot content static. this avoids
+        // 1. components not able to mutate slot nodes
+        // 2. static slot content fails for hot-reloading
+        if (!WebPlatform.isReservedTag(el.getTag()) && !"slot".equals(el.getTag())
+            && el.getAttrsMap().get("inline-template") == null)
+            return el.isStatic();
+
+        for (ASTNode child : el.getChildren())
+        {
+            if (!markStatic(child))
+                el.setStatic(false);
+        }
+
+        List<ASTIfCondition> ifConditions = el.getIfConditions();
+        if (ifConditions != null)
+        {
+            for (int i = 1; i < ifConditions.size(); i++)
+            {
+                if (!markStatic(ifConditions.get(i).getBlock()))
+                    el.setStatic(false);
+            }
+        }
+
+        return el.isStatic();
+    }
+
+    private void markStaticRoots(ASTNode node, boolean isInFor)
+    {
+        if (!(node instanceof ASTElement))
+            return;
+
+        ASTElement el = (ASTElement) node;
+        if (el.isStatic() || el.isOnce())
+            el.setStaticInFor(isInFor);
+
+        // For a node to qualify as a static root, it should have children that
+        // are not just static text. Otherwise the cost of hoisting out will
+        // outweigh the benefits and it's better off to just always render it fresh.
+        List<ASTNode> children = el.getChildren();
+        if (el.isStatic() && !children.isEmpty() && !(children.size() == 1 && !(children.get(0)
+            instanceof ASTElement)))
+        {
+            el.setStaticRoot(true);
+            return;
+        }
+        el.setStaticRoot(false);
+
+        for (ASTNode child : children)
+            markStaticRoots(child, isInFor || el.getFor() != null);
+
+        List<ASTIfCondition> ifConditions = el.getIfConditions();
+        if (ifConditions != null)
+        {
+            for (int i = 1; i < ifConditions.size(); i++)
+                markStaticRoots(ifConditions.get(i).getBlock(), isInFor);
+        }
+    }
+
+    private boolean isStatic(ASTElement el)
+    {
+        if (el.isPre())
+            return true;
+
+        return !el.hasBindings() // no dynamic bindings
+            && el.getIf() == null
+            && el.getFor() == null // not v-if or v-for or v-else
+            && !WebPlatform.isBuiltInTag(el.getTag()) // not a built-in
+            && WebPlatform.isReservedTag(el.getTag()) // not a component
+            && !isDirectChildOfTemplateFor(el)
+            && hasOnlyStaticKeys(el);
+    }
+
+    /**
+     * In Vue, an element is only static if the AST object for it doesn't have any other key than
+     * a known list (type, tag, attrs...). This checks the same thing on our {@link ASTElement}.
+     * @param el The element to check
+     * @return true if the element doesn't have any non static information
+     */
+    private boolean hasOnlyStaticKeys(ASTElement el)
+    {
+        return el.getNamespace() == null
+            && !el.isForbidden()
+            && !el.isElse()
+            && el.getElseIf() == null
+            && el.getIfConditions() == null
+            && !el.isOnce()
+            && el.getKey() == null
+            && el.getRef() == null
+            && !el.hasSlotName()
+            && el.getSlotTarget() == null
+            && !el.hasSlotScope()
+            && el.getScopedSlots() == null
+            && el.getComponent() == null
+            && !el.isInlineTemplate()
+            && el.getClassBinding() == null
+            && el.getStyleBinding() == null
+            && el.getProps() == null
+            && el.getEvents(false) == null
+            && el.getEvents(true) == null
+            && el.getDirectives() == null;
+    }
+
+    private boolean isDirectChildOfTemplateFor(ASTElement el)
+    {
+        ASTElement node = el;
+        while (node.getParent() != null)
+        {
+            node = node.getParent();
+            if (!"template".equals(node.getTag()))
+                return false;
+            if (node.getFor() != null)
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,108 @@
+package com.axellience.vuegwt.template.compiler;
+
+import org.jsoup.nodes.Attribute;
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.DataNode;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Compute a digest of a parsed template.
+ * <br>
+ * This identifies a template in the {@link VueTemplateCompilerCache} without having to serialize
+ * it back to HTML. Two templates with the same digest produce the same render functions.
+ * @author Adrien Baron
+ */
+public class TemplateDigest
+{
+    private final MessageDigest digest;
+
+    private TemplateDigest()
+    {
+        try
+        {
+            digest = MessageDigest.getInstance("SHA-256");
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            // SHA-256 is always available in the JRE
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Compute the digest of the content of a template element.
+     * @param templateContainer The element containing the template, usually the body of the
+     * jsoup Document
+     * @return The digest, as an hexadecimal String
+     */
+    public static String digest(Element templateContainer)
+    {
+        TemplateDigest templateDigest = new TemplateDigest();
+        for (Node child : templateContainer.childNodes())
+            templateDigest.update(child);
+
+        StringBuilder hexHash = new StringBuilder();
+        for (byte b : templateDigest.digest.digest())
+            hexHash.append(String.format("%02x", b));
+
+        return hexHash.toString();
+    }
+
+    private void update(Node node)
+    {
+        if (node instanceof TextNode)
+        {
+            update('T', ((TextNode) node).getWholeText());
+        }
+        else if (node instanceof DataNode)
+        {
+            update('D', ((DataNode) node).getWholeData());
+        }
+        else if (node instanceof Comment)
+        {
+            // Comments are not rendered, but they still split the text around them
+            update('C', "");
+        }
+        else if (node instanceof Element)
+        {
+            Element element = (Element) node;
+            update('<', element.tagName());
+            if (element.tag().isSelfClosing())
+                update('/', "");
+
+            for (Attribute attribute : element.attributes())
+            {
+                update('A', attribute.getKey());
+                update('=', attribute.getValue());
+            }
+
+            for (Node child : element.childNodes())
+                update(child);
+
+            update('>', "");
+        }
+    }
+
+    /**
+     * Add a token to the digest.
+     * Each value is prefixed by its length so two different trees can't produce the same stream.
+     * @param type The type of the token
+     * @param value The value of the token
+     */
+    private void update(char type, String value)
+    {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) type);
+        digest.update((byte) (bytes.length >>> 24));
+        digest.update((byte) (bytes.length >>> 16));
+        digest.update((byte) (bytes.length >>> 8));
+        digest.update((byte) bytes.length);
+        digest.update(bytes);
+    }
+}
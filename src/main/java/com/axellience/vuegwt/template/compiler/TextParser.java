@@ -0,0 +1,54 @@
+package com.axellience.vuegwt.template.compiler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Parse the {{ }} expressions in a text.
+ * Port of the parseText function of the vue-template-compiler.
+ * @author Adrien Baron
+ */
+public final class TextParser
+{
+    // Same as /\{\{((?:.|\n)+?)\}\}/ in JS, where . doesn't match line terminators
+    private static final Pattern TAG_PATTERN =
+        Pattern.compile("\\{\\{([^\\r\\u2028\\u2029]+?)\\}\\}");
+
+    private TextParser()
+    {
+    }
+
+    /**
+     * Transform a text containing {{ }} expressions to a JS expression rendering it.
+     * @param text The text to parse
+     * @return The JS expression, or null if the text doesn't contain any {{ }} expression
+     */
+    public static String parseText(String text)
+    {
+        Matcher matcher = TAG_PATTERN.matcher(text);
+        if (!matcher.find())
+            return null;
+
+        List<String> tokens = new ArrayList<>();
+        int lastIndex = 0;
+        do
+        {
+            int index = matcher.start();
+            // push text token
+            if (index > lastIndex)
+                tokens.add(JsUtil.stringify(text.substring(lastIndex, index)));
+
+            // tag token
+            String exp = FilterParser.parseFilters(JsUtil.trim(matcher.group(1)));
+            tokens.add("_s(" + exp + ")");
+            lastIndex = matcher.end();
+        } while (matcher.find());
+
+        if (lastIndex < text.length())
+            tokens.add(JsUtil.stringify(text.substring(lastIndex)));
+
+        return String.join("+", tokens);
+    }
+}
@@ -5,47 +5,93 @@ import com.coveo.nashorn_modules.Require;
 import com.google.gwt.dev.resource.ResourceOracle;
 import jdk.nashorn.api.scripting.NashornScriptEngine;
 import jdk.nashorn.api.scripting.ScriptObjectMirror;
+import jodd.json.JsonParser;
 
 import javax.script.ScriptEngineManager;
 import javax.script.ScriptException;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Compile an HTML Vue template to JS render function using Nashorn and the vue-template-compiler.
+ * <br>
+ * Nashorn engines are expensive to create, so they are kept in a bounded pool shared by all the
+ * instances. Each engine in the pool already has the vue-template-compiler loaded, and is used by
+ * only one compilation at a time. This allows parallel GWT compilations to compile templates
+ * concurrently.
+ * The engines are created in a background thread when the first compiler is instantiated, so they
+ * are usually ready when the first templates are compiled.
+ * The size of the pool can be set using the "vuegwt.templateCompiler.poolSize" system property,
+ * it defaults to the number of available processors.
  * @author Adrien Baron
  */
 public class VueTemplateCompiler
 {
-    private static NashornScriptEngine engine;
+    private static final String POOL_SIZE_PROPERTY = "vuegwt.templateCompiler.poolSize";
+    private static final String COMPILER_FOLDER = "com/axellience/vuegwt/client/template/compiler";
+    private static final String VUE_TEMPLATE_COMPILER_PACKAGE =
+        "node_modules/vue-template-compiler/package.json";
+    private static final int MAX_ENGINES = getMaxEngines();
+
+    private static final BlockingQueue<NashornScriptEngine> idleEngines =
+        new LinkedBlockingQueue<>();
+    private static final AtomicInteger createdEngines = new AtomicInteger();
+    private static final AtomicBoolean prewarmStarted = new AtomicBoolean();
+    private static volatile String version;
+
+    private final ResourceOracle resourceOracle;
 
     public VueTemplateCompiler(ResourceOracle resourceOracle)
     {
-        // Engine is cached between instance to avoid creating at each compilation
-        if (engine == null)
-        {
-            initEngine(resourceOracle);
-        }
+        this.resourceOracle = resourceOracle;
+        if (prewarmStarted.compareAndSet(false, true))
+            startPrewarm();
     }
 
     /**
-     * Init the Nashorn engine and load the Vue compiler in it.
-     * @param resourceOracle The GWT resource Oracle to access JS files
+     * Fill the pool in a background thread.
+     * Compilations that start before an engine is ready wait for it, or create their own engine
+     * if the pool is not full.
      */
-    private void initEngine(ResourceOracle resourceOracle)
+    private void startPrewarm()
     {
-        engine = (NashornScriptEngine) new ScriptEngineManager().getEngineByName("nashorn");
+        Thread prewarmThread = new Thread(() -> {
+            while (reserveEngineCreation())
+            {
+                try
+                {
+                    idleEngines.offer(createEngine());
+                }
+                catch (VueTemplateCompilerException e)
+                {
+                    // Compilations will try again and report the error
+                    createdEngines.decrementAndGet();
+                    return;
+                }
+            }
+        }, "vue-template-compiler-prewarm");
+        prewarmThread.setDaemon(true);
+        prewarmThread.start();
+    }
 
-        // Resources are in the "client" folder to be included during GWT compilation
-        Folder folder =
-            new GwtResourceFolder(resourceOracle, "com/axellience/vuegwt/client/template/compiler");
-        try
-        {
-            Require.enable(engine, folder);
-            engine.eval(folder.getFile("index.js"));
-        }
-        catch (ScriptException e)
+    /**
+     * Return the version of vue-template-compiler used to compile the templates.
+     * @return The version, as declared in the vue-template-compiler package
+     */
+    public String getVersion()
+    {
+        if (version == null)
         {
-            e.printStackTrace();
+            Folder folder = new GwtResourceFolder(resourceOracle, COMPILER_FOLDER);
+            Map<String, Object> packageJson =
+                new JsonParser().parse(folder.getFile(VUE_TEMPLATE_COMPILER_PACKAGE));
+            version = (String) packageJson.get("version");
         }
+
+        return version;
     }
 
     /**
@@ -57,6 +103,8 @@ public class VueTemplateCompiler
     public VueTemplateCompilerResult compile(String htmlTemplate)
     throws VueTemplateCompilerException
     {
+        NashornScriptEngine engine = borrowEngine();
+
         ScriptObjectMirror templateCompilerResult;
         try
         {
@@ -69,6 +117,10 @@ public class VueTemplateCompiler
             throw new VueTemplateCompilerException(
                 "An error occurred while compiling the template: " + htmlTemplate);
         }
+        finally
+        {
+            idleEngines.offer(engine);
+        }
 
         String renderFunction = (String) templateCompilerResult.get("render");
         String[] staticRenderFunctions =
@@ -76,4 +128,99 @@ public class VueTemplateCompiler
 
         return new VueTemplateCompilerResult(renderFunction, staticRenderFunctions);
     }
+
+    /**
+     * Get an engine from the pool.
+     * If no engine is idle and the pool is not full, a new engine is created.
+     * Otherwise wait for an engine to be released by another compilation.
+     * @return An engine ready to compile templates, only used by the caller until it's released
+     * @throws VueTemplateCompilerException If the engine couldn't be created
+     */
+    private NashornScriptEngine borrowEngine() throws VueTemplateCompilerException
+    {
+        NashornScriptEngine engine = idleEngines.poll();
+        if (engine != null)
+            return engine;
+
+        if (reserveEngineCreation())
+        {
+            try
+            {
+                return createEngine();
+            }
+            catch (VueTemplateCompilerException e)
+            {
+                createdEngines.decrementAndGet();
+                throw e;
+            }
+        }
+
+        try
+        {
+            return idleEngines.take();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new VueTemplateCompilerException(
+                "Interrupted while waiting for a template compiler engine");
+        }
+    }
+
+    /**
+     * Try to reserve a slot in the pool to create a new engine.
+     * @return true if we can create a new engine, false if the pool is full
+     */
+    private boolean reserveEngineCreation()
+    {
+        int created;
+        do
+        {
+            created = createdEngines.get();
+            if (created >= MAX_ENGINES)
+                return false;
+        } while (!createdEngines.compareAndSet(created, created + 1));
+
+        return true;
+    }
+
+    /**
+     * Create a Nashorn engine and load the Vue compiler in it.
+     * @return The newly created engine
+     * @throws VueTemplateCompilerException If the Vue compiler couldn't be loaded
+     */
+    private NashornScriptEngine createEngine() throws VueTemplateCompilerException
+    {
+        NashornScriptEngine engine =
+            (NashornScriptEngine) new ScriptEngineManager().getEngineByName("nashorn");
+
+        // Resources are in the "client" folder to be included during GWT compilation
+        Folder folder = new GwtResourceFolder(resourceOracle, COMPILER_FOLDER);
+        try
+        {
+            Require.enable(engine, folder);
+            engine.eval(folder.getFile("index.js"));
+        }
+        catch (ScriptException e)
+        {
+            e.printStackTrace();
+            throw new VueTemplateCompilerException(
+                "An error occurred while loading vue-template-compiler");
+        }
+
+        return engine;
+    }
+
+    private static int getMaxEngines()
+    {
+        int defaultSize = Runtime.getRuntime().availableProcessors();
+        try
+        {
+            return Math.max(1, Integer.getInteger(POOL_SIZE_PROPERTY, defaultSize));
+        }
+        catch (SecurityException e)
+        {
+            return defaultSize;
+        }
+    }
 }
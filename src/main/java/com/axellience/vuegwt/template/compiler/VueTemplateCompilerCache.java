@@ -0,0 +1,314 @@
+package com.axellience.vuegwt.template.compiler;
+
+import com.google.gwt.core.ext.TreeLogger;
+import jodd.json.JsonException;
+import jodd.json.JsonParser;
+import jodd.json.JsonSerializer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.nio.file.attribute.UserPrincipal;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A persistent cache for the results of {@link VueTemplateCompiler}.
+ * <br>
+ * Results are stored on disk, in one file per template. The name of the file is a hash of the
+ * template key and the version of the compiler. The key is either the template content, or a
+ * {@link TemplateDigest} of the parsed template, so an unchanged template never needs to be
+ * compiled again, even between two GWT compilations.
+ * <br>
+ * The cache folder can be set using the "vuegwt.templateCompiler.cacheDir" system property, it
+ * defaults to "~/.cache/vue-gwt/template-cache" (or "$XDG_CACHE_HOME/vue-gwt/template-cache").
+ * The cached render functions end up in the generated code, so the cache is disabled if its
+ * folder is not owned by the current user. The cache can also be disabled by setting the
+ * "vuegwt.templateCompiler.cache" system property to false.
+ * @author Adrien Baron
+ */
+public class VueTemplateCompilerCache
+{
+    private static final String CACHE_ENABLED_PROPERTY = "vuegwt.templateCompiler.cache";
+    private static final String CACHE_DIR_PROPERTY = "vuegwt.templateCompiler.cacheDir";
+    private static final String DEFAULT_CACHE_DIR_NAME = "vue-gwt/template-cache";
+
+    // Change this when the format of the cached files changes
+    private static final String CACHE_FORMAT_VERSION = "1";
+
+    private static final String RENDER_KEY = "render";
+    private static final String STATIC_RENDER_FNS_KEY = "staticRenderFns";
+
+    private static final AtomicInteger hits = new AtomicInteger();
+    private static final AtomicInteger misses = new AtomicInteger();
+
+    // The cache folder checked for the last configured path, so it's only checked once
+    private static File checkedCacheDirectory;
+    private static boolean checkedCacheDirectoryUsable;
+
+    private final TreeLogger logger;
+    private final File cacheDirectory;
+    private final String compilerVersion;
+
+    /**
+     * Create a cache for a given version of the compiler.
+     * @param logger The logger used to report the cache folders that can't be used, and the
+     * entries that can't be written
+     * @param compilerVersion The version of the compiler, results from other versions are ignored
+     */
+    public VueTemplateCompilerCache(TreeLogger logger, String compilerVersion)
+    {
+        this.logger = logger;
+        this.compilerVersion = compilerVersion;
+        this.cacheDirectory = getCacheDirectory(logger);
+    }
+
+    /**
+     * Return the compilation result for a template if it has already been compiled.
+     * @param templateKey The HTML template passed to the compiler, or its {@link TemplateDigest}
+     * @return The cached compilation result, or null if this template is not in the cache
+     */
+    public VueTemplateCompilerResult get(String templateKey)
+    {
+        if (cacheDirectory == null)
+        {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        File cacheFile = getCacheFile(templateKey);
+        if (!cacheFile.isFile())
+        {
+            misses.incrementAndGet();
+            return null;
+        }
+
+        try
+        {
+            String content = new String(Files.readAllBytes(cacheFile.toPath()),
+                StandardCharsets.UTF_8);
+            VueTemplateCompilerResult result = deserialize(content);
+            hits.incrementAndGet();
+            return result;
+        }
+        catch (IOException | JsonException | ClassCastException e)
+        {
+            // Corrupted entry, ignore it and it will be overwritten
+            misses.incrementAndGet();
+            return null;
+        }
+    }
+
+    /**
+     * Store the compilation result for a template.
+     * Failing to write in the cache is not an error, the template will just be compiled again
+     * next time.
+     * @param templateKey The HTML template passed to the compiler, or its {@link TemplateDigest}
+     * @param result The result of the compilation
+     */
+    public void put(String templateKey, VueTemplateCompilerResult result)
+    {
+        if (cacheDirectory == null)
+            return;
+
+        Path cacheFile = getCacheFile(templateKey).toPath();
+        Path tempFile = null;
+        try
+        {
+            // Write in a temp file first, other GWT workers might be reading the same entry
+            tempFile = Files.createTempFile(cacheDirectory.toPath(), "template", ".tmp");
+            Files.write(tempFile, serialize(result).getBytes(StandardCharsets.UTF_8));
+            try
+            {
+                Files.move(tempFile,
+                    cacheFile,
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (AtomicMoveNotSupportedException e)
+            {
+                Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        catch (IOException e)
+        {
+            logger.log(TreeLogger.WARN, "Vue GWT: couldn't write in the template cache", e);
+        }
+        finally
+        {
+            deleteTempFile(tempFile);
+        }
+    }
+
+    private void deleteTempFile(Path tempFile)
+    {
+        if (tempFile == null)
+            return;
+
+        try
+        {
+            Files.deleteIfExists(tempFile);
+        }
+        catch (IOException e)
+        {
+            logger.log(TreeLogger.DEBUG, "Vue GWT: couldn't delete " + tempFile, e);
+        }
+    }
+
+    /**
+     * Number of templates found in the cache since the beginning of the compilation.
+     * @return The number of cache hits
+     */
+    public static int getHits()
+    {
+        return hits.get();
+    }
+
+    /**
+     * Number of templates not found in the cache since the beginning of the compilation.
+     * @return The number of cache misses
+     */
+    public static int getMisses()
+    {
+        return misses.get();
+    }
+
+    private File getCacheFile(String templateKey)
+    {
+        return new File(cacheDirectory,
+            hash(CACHE_FORMAT_VERSION + "\n" + compilerVersion + "\n" + templateKey) + ".json");
+    }
+
+    private String serialize(VueTemplateCompilerResult result)
+    {
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put(RENDER_KEY, result.getRenderFunction());
+        resultMap.put(STATIC_RENDER_FNS_KEY, result.getStaticRenderFunctions());
+        return new JsonSerializer().deep(true).serialize(resultMap);
+    }
+
+    private VueTemplateCompilerResult deserialize(String content)
+    {
+        Map<String, Object> resultMap = new JsonParser().parse(content);
+        List<String> staticRenderFunctions = (List<String>) resultMap.get(STATIC_RENDER_FNS_KEY);
+
+        return new VueTemplateCompilerResult((String) resultMap.get(RENDER_KEY),
+            staticRenderFunctions.toArray(new String[staticRenderFunctions.size()]));
+    }
+
+    /**
+     * Return the cache folder, creating it if needed.
+     * The folder is only used if it's owned by the current user, otherwise another user could
+     * put their own code in our application.
+     * @param logger The logger used to report a folder that can't be used
+     * @return The cache folder, or null if the cache is disabled or the folder can't be used
+     */
+    private static synchronized File getCacheDirectory(TreeLogger logger)
+    {
+        if ("false".equals(System.getProperty(CACHE_ENABLED_PROPERTY)))
+            return null;
+
+        String cacheDirectoryPath = System.getProperty(CACHE_DIR_PROPERTY);
+        File cacheDirectory;
+        if (cacheDirectoryPath == null)
+            cacheDirectory = new File(getUserCacheDirectory(), DEFAULT_CACHE_DIR_NAME);
+        else
+            cacheDirectory = new File(cacheDirectoryPath);
+
+        if (!cacheDirectory.equals(checkedCacheDirectory))
+        {
+            checkedCacheDirectory = cacheDirectory;
+            checkedCacheDirectoryUsable = checkCacheDirectory(logger, cacheDirectory);
+        }
+
+        return checkedCacheDirectoryUsable ? cacheDirectory : null;
+    }
+
+    private static File getUserCacheDirectory()
+    {
+        String xdgCacheHome = System.getenv("XDG_CACHE_HOME");
+        if (xdgCacheHome != null && !xdgCacheHome.isEmpty())
+            return new File(xdgCacheHome);
+
+        return new File(System.getProperty("user.home"), ".cache");
+    }
+
+    /**
+     * Create the cache folder if needed, and check that it belongs to the current user.
+     * @param logger The logger used to report a folder that can't be used
+     * @param cacheDirectory The cache folder
+     * @return true if the folder can be used
+     */
+    private static boolean checkCacheDirectory(TreeLogger logger, File cacheDirectory)
+    {
+        try
+        {
+            Path cacheDirectoryPath = cacheDirectory.toPath();
+            if (!cacheDirectory.isDirectory())
+            {
+                Files.createDirectories(cacheDirectoryPath);
+                if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix"))
+                {
+                    Files.setPosixFilePermissions(cacheDirectoryPath,
+                        PosixFilePermissions.fromString("rwx------"));
+                }
+            }
+
+            UserPrincipal currentUser = FileSystems
+                .getDefault()
+                .getUserPrincipalLookupService()
+                .lookupPrincipalByName(System.getProperty("user.name"));
+            UserPrincipal owner = Files.getOwner(cacheDirectoryPath);
+            if (!owner.equals(currentUser))
+            {
+                logger.log(TreeLogger.WARN,
+                    "Vue GWT: the template cache is disabled, "
+                        + cacheDirectory
+                        + " is owned by "
+                        + owner.getName()
+                        + " instead of "
+                        + currentUser.getName());
+                return false;
+            }
+
+            return true;
+        }
+        catch (IOException | UnsupportedOperationException e)
+        {
+            logger.log(TreeLogger.WARN,
+                "Vue GWT: the template cache is disabled, " + cacheDirectory + " can't be used",
+                e);
+            return false;
+        }
+    }
+
+    private static String hash(String value)
+    {
+        try
+        {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = digest.digest(value.getBytes(StandardCharsets.UTF_8));
+
+            StringBuilder hexHash = new StringBuilder();
+            for (byte b : hash)
+                hexHash.append(String.format("%02x", b));
+
+            return hexHash.toString();
+        }
+        catch (NoSuchAlgorithmException e)
+        {
+            // SHA-256 is always available in the JRE
+            throw new IllegalStateException(e);
+        }
+    }
+}
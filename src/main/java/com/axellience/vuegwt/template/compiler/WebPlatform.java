@@ -0,0 +1,117 @@
+package com.axellience.vuegwt.template.compiler;
+
+import java.util.Locale;
+import java.util.Set;
+
+import static com.axellience.vuegwt.template.compiler.JsUtil.makeSet;
+
+/**
+ * Knowledge about HTML tags and attributes used when compiling templates for the web.
+ * Port of the web platform utils of the vue-template-compiler.
+ * @author Adrien Baron
+ */
+public final class WebPlatform
+{
+    private static final Set<String> UNARY_TAGS = makeSet(
+        "area,base,br,col,embed,frame,hr,img,input,isindex,keygen,"
+            + "link,meta,param,source,track,wbr");
+
+    private static final Set<String> BUILT_IN_TAGS = makeSet("slot,component");
+
+    private static final Set<String> HTML_TAGS = makeSet("html,body,base,head,link,meta,style,title,"
+        + "address,article,aside,footer,header,h1,h2,h3,h4,h5,h6,hgroup,nav,section,"
+        + "div,dd,dl,dt,figcaption,figure,picture,hr,img,li,main,ol,p,pre,ul,"
+        + "a,b,abbr,bdi,bdo,br,cite,code,data,dfn,em,i,kbd,mark,q,rp,rt,rtc,ruby,"
+        + "s,samp,small,span,strong,sub,sup,time,u,var,wbr,area,audio,map,track,video,"
+        + "embed,object,param,source,canvas,script,noscript,del,ins,"
+        + "caption,col,colgroup,table,thead,tbody,td,th,tr,"
+        + "button,datalist,fieldset,form,input,label,legend,meter,optgroup,option,"
+        + "output,progress,select,textarea,"
+        + "details,dialog,menu,menuitem,summary,"
+        + "content,element,shadow,template,blockquote,iframe,tfoot");
+
+    // Only covers SVG elements that may contain child elements.
+    // Lookups are lower cased, so the camel cased tags never match, just like in Vue.
+    private static final Set<String> SVG_TAGS =
+        makeSet("svg,animate,circle,clippath,cursor,defs,desc,ellipse,filter,font-face,"
+            + "foreignObject,g,glyph,image,line,marker,mask,missing-glyph,path,pattern,"
+            + "polygon,polyline,rect,switch,symbol,text,textpath,tspan,use,view");
+
+    private static final Set<String> ACCEPT_VALUE_TAGS = makeSet("input,textarea,option,select");
+
+    private WebPlatform()
+    {
+    }
+
+    /**
+     * @param tag An element tag
+     * @return true if this tag never has children
+     */
+    public static boolean isUnaryTag(String tag)
+    {
+        return UNARY_TAGS.contains(tag);
+    }
+
+    /**
+     * @param tag An element tag
+     * @return true if the tag is handled by Vue itself (slot and component)
+     */
+    public static boolean isBuiltInTag(String tag)
+    {
+        return BUILT_IN_TAGS.contains(tag.toLowerCase(Locale.ROOT));
+    }
+
+    /**
+     * @param tag An element tag
+     * @return true if the tag is a native HTML or SVG element, and not a Component
+     */
+    public static boolean isReservedTag(String tag)
+    {
+        return HTML_TAGS.contains(tag) || isSvg(tag);
+    }
+
+    /**
+     * @param tag An element tag
+     * @return true if this is the pre tag, where whitespaces are preserved
+     */
+    public static boolean isPreTag(String tag)
+    {
+        return "pre".equals(tag);
+    }
+
+    /**
+     * @param tag An element tag
+     * @return The namespace of the tag, or null if it has none
+     */
+    public static String getTagNamespace(String tag)
+    {
+        if (isSvg(tag))
+            return "svg";
+
+        // basic support for MathML
+        if ("math".equals(tag))
+            return "math";
+
+        return null;
+    }
+
+    /**
+     * Check if a binding should be set as a DOM property instead of an attribute.
+     * @param tag The element tag
+     * @param type The value of the type attribute of the element
+     * @param attr The name of the attribute
+     * @return true if a DOM property must be used
+     */
+    public static boolean mustUseProp(String tag, String type, String attr)
+    {
+        return ("value".equals(attr) && ACCEPT_VALUE_TAGS.contains(tag) && !"button".equals(type))
+            || ("selected".equals(attr) && "option".equals(tag))
+            || ("checked".equals(attr) && "input".equals(tag))
+            || ("muted".equals(attr) && "video".equals(tag));
+    }
+
+    private static boolean isSvg(String tag)
+    {
+        return SVG_TAGS.contains(tag.toLowerCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,293 @@
+package com.axellience.vuegwt.template.compiler;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Remove the with(this) statements from render functions.
+ * <br>
+ * Render functions generated by the vue-template-compiler use a with(this) statement so that the
+ * names in the template resolve to the Component instance. The with statement can't be used in
+ * strict mode, and isn't supported by the GWT JavaScript parser.
+ * <br>
+ * This rewrites the functions like the stripWith option of vue-template-es2015-compiler: the
+ * instance is stored in a _vm variable, and the names that are not local variables or globals
+ * are prefixed with "_vm.".
+ * For example "with(this){return _c('div',[_v(_s(text))])}" becomes
+ * "var _vm=this;var _h=_vm.$createElement;var _c=_vm._self._c||_h;return
+ * _c('div',[_vm._v(_vm._s(_vm.text))])".
+ * <br>
+ * This only supports the subset of JavaScript produced by the template compilers: no regular
+ * expression literals, no template strings and no labels.
+ * @author Adrien Baron
+ */
+public class WithStatementStripper
+{
+    private static final String WITH_THIS = "with(this){";
+    private static final String VM_DECLARATION =
+        "var _vm=this;var _h=_vm.$createElement;var _c=_vm._self._c||_h;";
+    private static final String VM_PREFIX = "_vm.";
+
+    private static final Set<String> KEYWORDS = JsUtil.makeSet(
+        "break,case,catch,class,const,continue,debugger,default,delete,do,else,false,finally,for,"
+            + "function,if,in,instanceof,let,new,null,return,switch,this,throw,true,try,typeof,"
+            + "var,void,while,with");
+
+    // Same globals Vue allows to access from templates
+    private static final Set<String> GLOBALS = JsUtil.makeSet(
+        "Infinity,undefined,NaN,isFinite,isNaN,parseFloat,parseInt,decodeURI,decodeURIComponent,"
+            + "encodeURI,encodeURIComponent,Math,Number,Date,Array,Object,Boolean,String,RegExp,"
+            + "Map,Set,JSON,Intl,require,arguments");
+
+    private final String code;
+    private final StringBuilder output = new StringBuilder();
+    private final Deque<Bracket> brackets = new ArrayDeque<>();
+    private final Deque<Set<String>> scopes = new ArrayDeque<>();
+    private int withDepth = 0;
+    private int position = 0;
+
+    // Last significant token
+    private String lastToken = "";
+
+    // State while parsing a function declaration
+    private boolean inFunctionHeader = false;
+    private Set<String> functionParameters;
+
+    // State while parsing a variable declaration
+    private boolean expectVarName = false;
+    private int varBracketDepth = -1;
+
+    private WithStatementStripper(String code)
+    {
+        this.code = code;
+        this.scopes.push(new HashSet<>());
+    }
+
+    /**
+     * Remove the with(this) statements from the body of a render function.
+     * @param functionBody The body of a render function, using with(this)
+     * @return The equivalent body without with statement
+     */
+    public static String strip(String functionBody)
+    {
+        WithStatementStripper stripper = new WithStatementStripper(functionBody);
+        stripper.process();
+        return stripper.output.toString();
+    }
+
+    private void process()
+    {
+        while (position < code.length())
+        {
+            char c = code.charAt(position);
+            if (code.startsWith(WITH_THIS, position))
+            {
+                output.append(VM_DECLARATION);
+                scopes.peek().add("_vm");
+                scopes.peek().add("_h");
+                scopes.peek().add("_c");
+                brackets.push(Bracket.WITH);
+                withDepth++;
+                position += WITH_THIS.length();
+                setLastToken("{");
+            }
+            else if (c == '"' || c == '\'')
+            {
+                readString(c);
+            }
+            else if (Character.isDigit(c))
+            {
+                readNumber();
+            }
+            else if (Character.isJavaIdentifierStart(c))
+            {
+                readIdentifier();
+            }
+            else if (Character.isWhitespace(c))
+            {
+                output.append(c);
+                position++;
+            }
+            else
+            {
+                readPunctuation(c);
+            }
+        }
+    }
+
+    private void readString(char quote)
+    {
+        int start = position++;
+        while (position < code.length() && code.charAt(position) != quote)
+        {
+            if (code.charAt(position) == '\\')
+                position++;
+            position++;
+        }
+        position++;
+        output.append(code, start, Math.min(position, code.length()));
+        setLastToken("\"\"");
+    }
+
+    private void readNumber()
+    {
+        int start = position;
+        while (position < code.length())
+        {
+            char c = code.charAt(position);
+            boolean isExponentSign = (c == '+' || c == '-') && (code.charAt(position - 1) == 'e'
+                || code.charAt(position - 1) == 'E');
+            if (!Character.isLetterOrDigit(c) && c != '.' && !isExponentSign)
+                break;
+            position++;
+        }
+        output.append(code, start, position);
+        setLastToken("0");
+    }
+
+    private void readIdentifier()
+    {
+        int start = position;
+        while (position < code.length() && Character.isJavaIdentifierPart(code.charAt(position)))
+            position++;
+        String name = code.substring(start, position);
+
+        if (inFunctionHeader)
+        {
+            if (functionParameters != null)
+                functionParameters.add(name);
+        }
+        else if (expectVarName)
+        {
+            scopes.peek().add(name);
+            expectVarName = false;
+        }
+        else if ("var".equals(name))
+        {
+            expectVarName = true;
+            varBracketDepth = brackets.size();
+        }
+        else if ("function".equals(name))
+        {
+            inFunctionHeader = true;
+            functionParameters = null;
+        }
+        else if (shouldPrefix(name, start))
+        {
+            output.append(VM_PREFIX);
+        }
+
+        output.append(name);
+        setLastToken(name);
+    }
+
+    private void readPunctuation(char c)
+    {
+        output.append(c);
+        position++;
+
+        if (c == '(')
+        {
+            if (inFunctionHeader && functionParameters == null)
+                functionParameters = new HashSet<>();
+            brackets.push(Bracket.PARENTHESIS);
+        }
+        else if (c == '[')
+        {
+            brackets.push(Bracket.SQUARE);
+        }
+        else if (c == '{')
+        {
+            if (inFunctionHeader)
+            {
+                inFunctionHeader = false;
+                Set<String> scope = new HashSet<>();
+                if (functionParameters != null)
+                    scope.addAll(functionParameters);
+                scopes.push(scope);
+                brackets.push(Bracket.FUNCTION);
+            }
+            else
+            {
+                brackets.push(Bracket.CURLY);
+            }
+        }
+        else if (c == ')' || c == ']' || c == '}')
+        {
+            Bracket bracket = brackets.isEmpty() ? null : brackets.pop();
+            if (bracket == Bracket.FUNCTION)
+            {
+                scopes.pop();
+            }
+            else if (bracket == Bracket.WITH)
+            {
+                // The with block is replaced by the declaration of _vm, remove its end
+                output.setLength(output.length() - 1);
+                withDepth--;
+            }
+        }
+        else if (c == ',' && expectVarDeclaratorEnd())
+        {
+            expectVarName = true;
+        }
+        else if (c == ';' && brackets.size() == varBracketDepth)
+        {
+            varBracketDepth = -1;
+        }
+
+        setLastToken(String.valueOf(c));
+    }
+
+    /**
+     * @return true if a comma at this position separates two variable declarations
+     */
+    private boolean expectVarDeclaratorEnd()
+    {
+        return varBracketDepth >= 0 && brackets.size() == varBracketDepth;
+    }
+
+    private boolean shouldPrefix(String name, int start)
+    {
+        if (withDepth == 0 || KEYWORDS.contains(name) || GLOBALS.contains(name))
+            return false;
+
+        // Property access
+        if (".".equals(lastToken))
+            return false;
+
+        // Key in an object literal
+        if (("{".equals(lastToken) || ",".equals(lastToken)) && brackets.peek() == Bracket.CURLY
+            && nextSignificantChar(start + name.length()) == ':')
+            return false;
+
+        for (Set<String> scope : scopes)
+        {
+            if (scope.contains(name))
+                return false;
+        }
+
+        return true;
+    }
+
+    private char nextSignificantChar(int from)
+    {
+        for (int i = from; i < code.length(); i++)
+        {
+            if (!Character.isWhitespace(code.charAt(i)))
+                return code.charAt(i);
+        }
+        return 0;
+    }
+
+    private void setLastToken(String token)
+    {
+        lastToken = token;
+    }
+
+    private enum Bracket
+    {
+        PARENTHESIS, SQUARE, CURLY, FUNCTION, WITH
+    }
+}
@@ -0,0 +1,29 @@
+package com.axellience.vuegwt.template.compiler.ast;
+
+/**
+ * An attribute of an element in the Vue template AST.
+ * Depending on where it is stored, the value is either the raw value from the template or a JS
+ * expression.
+ * @author Adrien Baron
+ */
+public class ASTAttr
+{
+    private final String name;
+    private final String value;
+
+    public ASTAttr(String name, String value)
+    {
+        this.name = name;
+        this.value = value;
+    }
+
+    public String getName()
+    {
+        return name;
+    }
+
+    public String getValue()
+    {
+        return value;
+    }
+}
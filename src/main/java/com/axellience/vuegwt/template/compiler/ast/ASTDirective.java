@@ -0,0 +1,66 @@
+package com.axellience.vuegwt.template.compiler.ast;
+
+import java.util.Map;
+
+/**
+ * A directive used on an element (v-model, v-show, custom directives...).
+ * @author Adrien Baron
+ */
+public class ASTDirective
+{
+    private final String name;
+    private final String rawName;
+    private final String value;
+    private final String arg;
+    private final Map<String, Boolean> modifiers;
+
+    public ASTDirective(String name, String rawName, String value, String arg,
+        Map<String, Boolean> modifiers)
+    {
+        this.name = name;
+        this.rawName = rawName;
+        this.value = value;
+        this.arg = arg;
+        this.modifiers = modifiers;
+    }
+
+    /**
+     * Name of the directive, without the "v-" prefix, argument and modifiers.
+     * @return The name of the directive
+     */
+    public String getName()
+    {
+        return name;
+    }
+
+    /**
+     * Name of the attribute as it was in the template.
+     * @return The name of the attribute
+     */
+    public String getRawName()
+    {
+        return rawName;
+    }
+
+    public String getValue()
+    {
+        return value;
+    }
+
+    /**
+     * The argument of the directive ("arg" in v-my-directive:arg).
+     * @return The argument, or null if there is none
+     */
+    public String getArg()
+    {
+        return arg;
+    }
+
+    /**
+     * @return The modifiers, or null if the directive had none
+     */
+    public Map<String, Boolean> getModifiers()
+    {
+        return modifiers;
+    }
+}
@@ -0,0 +1,661 @@
+package com.axellience.vuegwt.template.compiler.ast;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+/**
+ * An element of the Vue template AST.
+ * It holds the result of the processing of the element attributes (v-if, v-for, bindings,
+ * events...) as well as the flags computed by the optimizer and the code generator.
+ * @author Adrien Baron
+ */
+public class ASTElement extends ASTNode
+{
+    private final String tag;
+    private final List<ASTAttr> attrsList;
+    private final Map<String, String> attrsMap;
+    private final List<ASTNode> children = new ArrayList<>();
+    private String namespace;
+
+    private boolean forbidden;
+    private boolean pre;
+    private boolean plain;
+
+    private String forExpression;
+    private String alias;
+    private String iterator1;
+    private String iterator2;
+
+    private String ifExpression;
+    private String elseIfExpression;
+    private boolean isElse;
+    private List<ASTIfCondition> ifConditions;
+
+    private boolean once;
+    private String key;
+    private String ref;
+    private boolean refInFor;
+
+    private boolean hasSlotName;
+    private String slotName;
+    private String slotTarget;
+    private boolean hasSlotScope;
+    private String slotScope;
+    private Map<String, ASTElement> scopedSlots;
+
+    private String component;
+    private boolean inlineTemplate;
+
+    private String staticClass;
+    private String classBinding;
+    private String staticStyle;
+    private String styleBinding;
+
+    private boolean hasBindings;
+    private List<ASTAttr> attrs;
+    private List<ASTAttr> props;
+    private Map<String, List<ASTHandler>> events;
+    private Map<String, List<ASTHandler>> nativeEvents;
+    private List<ASTDirective> directives;
+
+    private ASTModel model;
+    private UnaryOperator<String> wrapData;
+    private UnaryOperator<String> wrapListeners;
+
+    private boolean isStatic;
+    private boolean staticRoot;
+    private boolean staticInFor;
+
+    private boolean staticProcessed;
+    private boolean onceProcessed;
+    private boolean forProcessed;
+    private boolean ifProcessed;
+
+    public ASTElement(String tag, List<ASTAttr> attrsList, ASTElement parent)
+    {
+        this.tag = tag;
+        this.attrsList = attrsList;
+        this.attrsMap = new LinkedHashMap<>();
+        for (ASTAttr attr : attrsList)
+            this.attrsMap.put(attr.getName(), attr.getValue());
+
+        setParent(parent);
+    }
+
+    public String getTag()
+    {
+        return tag;
+    }
+
+    /**
+     * Attributes of the element that have not been processed yet.
+     * @return The list of remaining attributes, with their raw values
+     */
+    public List<ASTAttr> getAttrsList()
+    {
+        return attrsList;
+    }
+
+    /**
+     * All the attributes of the element as they were in the template, processed or not.
+     * @return A map of attribute name to raw value
+     */
+    public Map<String, String> getAttrsMap()
+    {
+        return attrsMap;
+    }
+
+    /**
+     * Remove an attribute from the list of attributes to process.
+     * @param name The name of the attribute
+     * @return The raw value of the attribute, or null if the element doesn't have it
+     */
+    public String getAndRemoveAttr(String name)
+    {
+        String value = attrsMap.get(name);
+        if (value != null)
+        {
+            for (int i = 0; i < attrsList.size(); i++)
+            {
+                if (attrsList.get(i).getName().equals(name))
+                {
+                    attrsList.remove(i);
+                    break;
+                }
+            }
+        }
+        return value;
+    }
+
+    public List<ASTNode> getChildren()
+    {
+        return children;
+    }
+
+    public String getNamespace()
+    {
+        return namespace;
+    }
+
+    public void setNamespace(String namespace)
+    {
+        this.namespace = namespace;
+    }
+
+    /**
+     * @return true if this is a tag with side effects (script, style) that must not be rendered
+     */
+    public boolean isForbidden()
+    {
+        return forbidden;
+    }
+
+    public void setForbidden(boolean forbidden)
+    {
+        this.forbidden = forbidden;
+    }
+
+    /**
+     * @return true if this element has the v-pre attribute
+     */
+    public boolean isPre()
+    {
+        return pre;
+    }
+
+    public void setPre(boolean pre)
+    {
+        this.pre = pre;
+    }
+
+    /**
+     * @return true if this element has no attribute, and doesn't need any data in the render
+     * function
+     */
+    public boolean isPlain()
+    {
+        return plain;
+    }
+
+    public void setPlain(boolean plain)
+    {
+        this.plain = plain;
+    }
+
+    /**
+     * @return The expression we iterate on in the v-for, or null if there is no v-for
+     */
+    public String getFor()
+    {
+        return forExpression;
+    }
+
+    public void setFor(String forExpression)
+    {
+        this.forExpression = forExpression;
+    }
+
+    public String getAlias()
+    {
+        return alias;
+    }
+
+    public void setAlias(String alias)
+    {
+        this.alias = alias;
+    }
+
+    public String getIterator1()
+    {
+        return iterator1;
+    }
+
+    public void setIterator1(String iterator1)
+    {
+        this.iterator1 = iterator1;
+    }
+
+    public String getIterator2()
+    {
+        return iterator2;
+    }
+
+    public void setIterator2(String iterator2)
+    {
+        this.iterator2 = iterator2;
+    }
+
+    /**
+     * @return The v-if condition, or null if there is no v-if
+     */
+    public String getIf()
+    {
+        return ifExpression;
+    }
+
+    public void setIf(String ifExpression)
+    {
+        this.ifExpression = ifExpression;
+    }
+
+    /**
+     * @return The v-else-if condition, or null if there is no v-else-if
+     */
+    public String getElseIf()
+    {
+        return elseIfExpression;
+    }
+
+    public void setElseIf(String elseIfExpression)
+    {
+        this.elseIfExpression = elseIfExpression;
+    }
+
+    /**
+     * @return true if this element has a v-else
+     */
+    public boolean isElse()
+    {
+        return isElse;
+    }
+
+    public void setElse(boolean isElse)
+    {
+        this.isElse = isElse;
+    }
+
+    /**
+     * The branches of the v-if chain starting with this element.
+     * The first one is always the element itself.
+     * @return The list of branches, or null if this element doesn't start a v-if chain
+     */
+    public List<ASTIfCondition> getIfConditions()
+    {
+        return ifConditions;
+    }
+
+    public void addIfCondition(ASTIfCondition condition)
+    {
+        if (ifConditions == null)
+            ifConditions = new ArrayList<>();
+
+        ifConditions.add(condition);
+    }
+
+    /**
+     * @return true if this element has a v-once
+     */
+    public boolean isOnce()
+    {
+        return once;
+    }
+
+    public void setOnce(boolean once)
+    {
+        this.once = once;
+    }
+
+    public String getKey()
+    {
+        return key;
+    }
+
+    public void setKey(String key)
+    {
+        this.key = key;
+    }
+
+    public String getRef()
+    {
+        return ref;
+    }
+
+    public void setRef(String ref)
+    {
+        this.ref = ref;
+    }
+
+    public boolean isRefInFor()
+    {
+        return refInFor;
+    }
+
+    public void setRefInFor(boolean refInFor)
+    {
+        this.refInFor = refInFor;
+    }
+
+    /**
+     * @return true if the name of this slot element has been processed, even if it's null
+     */
+    public boolean hasSlotName()
+    {
+        return hasSlotName;
+    }
+
+    public String getSlotName()
+    {
+        return slotName;
+    }
+
+    public void setSlotName(String slotName)
+    {
+        this.hasSlotName = true;
+        this.slotName = slotName;
+    }
+
+    public String getSlotTarget()
+    {
+        return slotTarget;
+    }
+
+    public void setSlotTarget(String slotTarget)
+    {
+        this.slotTarget = slotTarget;
+    }
+
+    /**
+     * @return true if the scope of this template element has been processed, even if it's null
+     */
+    public boolean hasSlotScope()
+    {
+        return hasSlotScope;
+    }
+
+    public String getSlotScope()
+    {
+        return slotScope;
+    }
+
+    public void setSlotScope(String slotScope)
+    {
+        this.hasSlotScope = true;
+        this.slotScope = slotScope;
+    }
+
+    /**
+     * Scoped slots passed to this element, by slot name.
+     * @return The scoped slots, or null if there is none
+     */
+    public Map<String, ASTElement> getScopedSlots()
+    {
+        return scopedSlots;
+    }
+
+    public void addScopedSlot(String name, ASTElement slot)
+    {
+        if (scopedSlots == null)
+            scopedSlots = new LinkedHashMap<>();
+
+        scopedSlots.put(name, slot);
+    }
+
+    /**
+     * @return The expression of the "is" attribute, or null if there is none
+     */
+    public String getComponent()
+    {
+        return component;
+    }
+
+    public void setComponent(String component)
+    {
+        this.component = component;
+    }
+
+    public boolean isInlineTemplate()
+    {
+        return inlineTemplate;
+    }
+
+    public void setInlineTemplate(boolean inlineTemplate)
+    {
+        this.inlineTemplate = inlineTemplate;
+    }
+
+    public String getStaticClass()
+    {
+        return staticClass;
+    }
+
+    public void setStaticClass(String staticClass)
+    {
+        this.staticClass = staticClass;
+    }
+
+    public String getClassBinding()
+    {
+        return classBinding;
+    }
+
+    public void setClassBinding(String classBinding)
+    {
+        this.classBinding = classBinding;
+    }
+
+    public String getStaticStyle()
+    {
+        return staticStyle;
+    }
+
+    public void setStaticStyle(String staticStyle)
+    {
+        this.staticStyle = staticStyle;
+    }
+
+    public String getStyleBinding()
+    {
+        return styleBinding;
+    }
+
+    public void setStyleBinding(String styleBinding)
+    {
+        this.styleBinding = styleBinding;
+    }
+
+    /**
+     * @return true if this element has at least one Vue attribute (v-, : or @)
+     */
+    public boolean hasBindings()
+    {
+        return hasBindings;
+    }
+
+    public void setHasBindings(boolean hasBindings)
+    {
+        this.hasBindings = hasBindings;
+    }
+
+    /**
+     * @return The attributes to render, with JS expressions as values, or null if there is none
+     */
+    public List<ASTAttr> getAttrs()
+    {
+        return attrs;
+    }
+
+    public void addAttr(String name, String value)
+    {
+        if (attrs == null)
+            attrs = new ArrayList<>();
+
+        attrs.add(new ASTAttr(name, value));
+    }
+
+    /**
+     * @return The DOM properties to set, with JS expressions as values, or null if there is none
+     */
+    public List<ASTAttr> getProps()
+    {
+        return props;
+    }
+
+    public void addProp(String name, String value)
+    {
+        if (props == null)
+            props = new ArrayList<>();
+
+        props.add(new ASTAttr(name, value));
+    }
+
+    /**
+     * @param isNative true to get the native events (.native modifier)
+     * @return The handlers by event name, or null if there is none
+     */
+    public Map<String, List<ASTHandler>> getEvents(boolean isNative)
+    {
+        return isNative ? nativeEvents : events;
+    }
+
+    /**
+     * Return the handlers by event name, creating the map if needed.
+     * @param isNative true to get the native events (.native modifier)
+     * @return The handlers by event name
+     */
+    public Map<String, List<ASTHandler>> getOrCreateEvents(boolean isNative)
+    {
+        if (isNative)
+        {
+            if (nativeEvents == null)
+                nativeEvents = new LinkedHashMap<>();
+            return nativeEvents;
+        }
+
+        if (events == null)
+            events = new LinkedHashMap<>();
+        return events;
+    }
+
+    /**
+     * @return The directives of this element, or null if there is none
+     */
+    public List<ASTDirective> getDirectives()
+    {
+        return directives;
+    }
+
+    public void addDirective(ASTDirective directive)
+    {
+        if (directives == null)
+            directives = new ArrayList<>();
+
+        directives.add(directive);
+    }
+
+    /**
+     * @return The v-model binding of this Component, or null if there is none
+     */
+    public ASTModel getModel()
+    {
+        return model;
+    }
+
+    public void setModel(ASTModel model)
+    {
+        this.model = model;
+    }
+
+    /**
+     * @return A function wrapping the data code for a v-bind without argument, or null
+     */
+    public UnaryOperator<String> getWrapData()
+    {
+        return wrapData;
+    }
+
+    public void setWrapData(UnaryOperator<String> wrapData)
+    {
+        this.wrapData = wrapData;
+    }
+
+    /**
+     * @return A function wrapping the data code for a v-on without argument, or null
+     */
+    public UnaryOperator<String> getWrapListeners()
+    {
+        return wrapListeners;
+    }
+
+    public void setWrapListeners(UnaryOperator<String> wrapListeners)
+    {
+        this.wrapListeners = wrapListeners;
+    }
+
+    @Override
+    public boolean isStatic()
+    {
+        return isStatic;
+    }
+
+    public void setStatic(boolean isStatic)
+    {
+        this.isStatic = isStatic;
+    }
+
+    /**
+     * @return true if this element is the root of a static sub tree that will be hoisted out of
+     * the render function
+     */
+    public boolean isStaticRoot()
+    {
+        return staticRoot;
+    }
+
+    public void setStaticRoot(boolean staticRoot)
+    {
+        this.staticRoot = staticRoot;
+    }
+
+    public boolean isStaticInFor()
+    {
+        return staticInFor;
+    }
+
+    public void setStaticInFor(boolean staticInFor)
+    {
+        this.staticInFor = staticInFor;
+    }
+
+    public boolean isStaticProcessed()
+    {
+        return staticProcessed;
+    }
+
+    public void setStaticProcessed(boolean staticProcessed)
+    {
+        this.staticProcessed = staticProcessed;
+    }
+
+    public boolean isOnceProcessed()
+    {
+        return onceProcessed;
+    }
+
+    public void setOnceProcessed(boolean onceProcessed)
+    {
+        this.onceProcessed = onceProcessed;
+    }
+
+    public boolean isForProcessed()
+    {
+        return forProcessed;
+    }
+
+    public void setForProcessed(boolean forProcessed)
+    {
+        this.forProcessed = forProcessed;
+    }
+
+    public boolean isIfProcessed()
+    {
+        return ifProcessed;
+    }
+
+    public void setIfProcessed(boolean ifProcessed)
+    {
+        this.ifProcessed = ifProcessed;
+    }
+}
@@ -0,0 +1,37 @@
+package com.axellience.vuegwt.template.compiler.ast;
+
+import java.util.Map;
+
+/**
+ * An event handler from a v-on attribute (or generated by a v-model).
+ * @author Adrien Baron
+ */
+public class ASTHandler
+{
+    private final String value;
+    private final Map<String, Boolean> modifiers;
+
+    public ASTHandler(String value, Map<String, Boolean> modifiers)
+    {
+        this.value = value;
+        this.modifiers = modifiers;
+    }
+
+    /**
+     * The JS code of the handler.
+     * @return Either a method path, a function expression or an inline statement
+     */
+    public String getValue()
+    {
+        return value;
+    }
+
+    /**
+     * The modifiers of the handler (.stop, .prevent, key codes...).
+     * @return The modifiers, or null if the handler had none
+     */
+    public Map<String, Boolean> getModifiers()
+    {
+        return modifiers;
+    }
+}
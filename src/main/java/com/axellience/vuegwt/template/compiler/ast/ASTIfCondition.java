@@ -0,0 +1,35 @@
+package com.axellience.vuegwt.template.compiler.ast;
+
+/**
+ * A branch of a v-if/v-else-if/v-else chain.
+ * @author Adrien Baron
+ */
+public class ASTIfCondition
+{
+    private final String expression;
+    private final ASTElement block;
+
+    public ASTIfCondition(String expression, ASTElement block)
+    {
+        this.expression = expression;
+        this.block = block;
+    }
+
+    /**
+     * The condition of this branch.
+     * @return The JS condition, or null for a v-else branch
+     */
+    public String getExpression()
+    {
+        return expression;
+    }
+
+    /**
+     * The element rendered if the condition is true.
+     * @return The element for this branch
+     */
+    public ASTElement getBlock()
+    {
+        return block;
+    }
+}
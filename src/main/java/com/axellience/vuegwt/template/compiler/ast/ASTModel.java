@@ -0,0 +1,34 @@
+package com.axellience.vuegwt.template.compiler.ast;
+
+/**
+ * The v-model binding of a Component.
+ * @author Adrien Baron
+ */
+public class ASTModel
+{
+    private final String value;
+    private final String expression;
+    private final String callback;
+
+    public ASTModel(String value, String expression, String callback)
+    {
+        this.value = value;
+        this.expression = expression;
+        this.callback = callback;
+    }
+
+    public String getValue()
+    {
+        return value;
+    }
+
+    public String getExpression()
+    {
+        return expression;
+    }
+
+    public String getCallback()
+    {
+        return callback;
+    }
+}
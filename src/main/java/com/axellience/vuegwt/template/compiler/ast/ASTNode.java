@@ -0,0 +1,32 @@
+package com.axellience.vuegwt.template.compiler.ast;
+
+/**
+ * A node of the Vue template AST.
+ * This mirrors the AST built by the vue-template-compiler before generating the render function.
+ * @author Adrien Baron
+ */
+public abstract class ASTNode
+{
+    private ASTElement parent;
+
+    /**
+     * Parent element of this node.
+     * @return The parent element, or null for the root of the template
+     */
+    public ASTElement getParent()
+    {
+        return parent;
+    }
+
+    public void setParent(ASTElement parent)
+    {
+        this.parent = parent;
+    }
+
+    /**
+     * Whether this node and all its children will never change, and can be hoisted out of the
+     * render function.
+     * @return true if the node is static
+     */
+    public abstract boolean isStatic();
+}
@@ -0,0 +1,47 @@
+package com.axellience.vuegwt.template.compiler.ast;
+
+/**
+ * A text node of the Vue template AST.
+ * If the text contains {{ }} expressions, it holds the JS expression used to render it.
+ * @author Adrien Baron
+ */
+public class ASTText extends ASTNode
+{
+    private final String text;
+    private final String expression;
+
+    public ASTText(String text, String expression)
+    {
+        this.text = text;
+        this.expression = expression;
+    }
+
+    /**
+     * The text, as it was in the template.
+     * @return The text
+     */
+    public String getText()
+    {
+        return text;
+    }
+
+    /**
+     * The JS expression rendering this text.
+     * @return The expression, or null if this text doesn't contain any {{ }} expression
+     */
+    public String getExpression()
+    {
+        return expression;
+    }
+
+    public boolean hasExpression()
+    {
+        return expression != null;
+    }
+
+    @Override
+    public boolean isStatic()
+    {
+        return expression == null;
+    }
+}
@@ -0,0 +1,427 @@
+package com.axellience.vuegwt.template.parser;
+
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseProblemException;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.ImportDeclaration;
+import com.github.javaparser.ast.Modifier;
+import com.github.javaparser.ast.body.BodyDeclaration;
+import com.github.javaparser.ast.body.ClassOrInterfaceDeclaration;
+import com.github.javaparser.ast.body.FieldDeclaration;
+import com.github.javaparser.ast.body.TypeDeclaration;
+import com.github.javaparser.ast.body.VariableDeclarator;
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.CastExpr;
+import com.github.javaparser.ast.expr.ConditionalExpr;
+import com.github.javaparser.ast.expr.EnclosedExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.UnaryExpr;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.PrimitiveType;
+import com.github.javaparser.ast.type.Type;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.axellience.vuegwt.template.parser.ConstantValueResolver.NOT_CONSTANT;
+
+/**
+ * Read the value of compile-time constant fields (JLS 15.28) from the Java sources.
+ * <br>
+ * GWT compiles the application from its sources, which might be more recent than the compiled
+ * classes (in Super Dev Mode for example). The value of a field is evaluated from its initializer
+ * in the source, so the inlined value is always the one GWT compiles, and no class of the
+ * application is loaded.
+ * <br>
+ * Only the constant expressions with an integral, boolean or String value are evaluated. They can
+ * reference other constant fields, using simple names, or qualified by a class name. Anything
+ * else is not constant.
+ * @author Adrien Baron
+ */
+final class ConstantFieldReader
+{
+    private static final Map<String, Optional<SourceType>> sourceTypes =
+        new ConcurrentHashMap<>();
+
+    private ConstantFieldReader()
+    {
+    }
+
+    /**
+     * Forget the sources already read, they might have changed.
+     */
+    static void clearCache()
+    {
+        sourceTypes.clear();
+    }
+
+    /**
+     * Get the value of a constant field.
+     * @param canonicalName The canonical name of the class declaring the field
+     * @param fieldName The name of the field
+     * @return The value of the field, or {@link ConstantValueResolver#NOT_CONSTANT}
+     */
+    static Object getFieldValue(String canonicalName, String fieldName)
+    {
+        return getFieldValue(canonicalName, fieldName, new HashSet<>());
+    }
+
+    private static Object getFieldValue(String canonicalName, String fieldName,
+        Set<String> resolvingFields)
+    {
+        SourceType sourceType = getSourceType(canonicalName);
+        if (sourceType == null)
+            return NOT_CONSTANT;
+
+        // Fields referencing each other are not constants
+        String fieldKey = canonicalName + "#" + fieldName;
+        if (!resolvingFields.add(fieldKey))
+            return NOT_CONSTANT;
+
+        try
+        {
+            return sourceType.getFieldValue(fieldName, resolvingFields);
+        }
+        finally
+        {
+            resolvingFields.remove(fieldKey);
+        }
+    }
+
+    private static SourceType getSourceType(String canonicalName)
+    {
+        return sourceTypes
+            .computeIfAbsent(canonicalName, name -> Optional.ofNullable(readSourceType(name)))
+            .orElse(null);
+    }
+
+    /**
+     * Find the declaration of a class in the sources.
+     * The class might be a nested class, in which case it's declared in the source of its top
+     * level class.
+     * @param canonicalName The canonical name of the class
+     * @return The declaration of the class, or null if its source is not available
+     */
+    private static SourceType readSourceType(String canonicalName)
+    {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null)
+            classLoader = ConstantFieldReader.class.getClassLoader();
+
+        String topLevelName = canonicalName;
+        while (true)
+        {
+            URL sourceUrl = classLoader.getResource(topLevelName.replace('.', '/') + ".java");
+            if (sourceUrl != null)
+            {
+                CompilationUnit compilationUnit = parse(sourceUrl);
+                if (compilationUnit == null)
+                    return null;
+
+                String nestedNames = canonicalName.substring(topLevelName.length());
+                return findType(compilationUnit, topLevelName, nestedNames);
+            }
+
+            int lastDot = topLevelName.lastIndexOf('.');
+            if (lastDot < 0)
+                return null;
+
+            topLevelName = topLevelName.substring(0, lastDot);
+        }
+    }
+
+    private static CompilationUnit parse(URL sourceUrl)
+    {
+        try (InputStream sourceStream = sourceUrl.openStream())
+        {
+            return JavaParser.parse(sourceStream, StandardCharsets.UTF_8);
+        }
+        catch (IOException | ParseProblemException e)
+        {
+            return null;
+        }
+    }
+
+    private static SourceType findType(CompilationUnit compilationUnit, String topLevelName,
+        String nestedNames)
+    {
+        String topLevelSimpleName = topLevelName.substring(topLevelName.lastIndexOf('.') + 1);
+        List<TypeDeclaration<?>> types = new ArrayList<>();
+        TypeDeclaration<?> type = null;
+        for (TypeDeclaration<?> topLevelType : compilationUnit.getTypes())
+        {
+            if (topLevelType.getNameAsString().equals(topLevelSimpleName))
+                type = topLevelType;
+        }
+
+        for (String nestedName : nestedNames.split("\\."))
+        {
+            if (type == null)
+                return null;
+            if (nestedName.isEmpty())
+                continue;
+
+            types.add(type);
+            type = getMemberType(type, nestedName);
+        }
+
+        if (type == null)
+            return null;
+
+        types.add(type);
+        return new SourceType(compilationUnit, types);
+    }
+
+    private static TypeDeclaration<?> getMemberType(TypeDeclaration<?> type, String name)
+    {
+        for (BodyDeclaration<?> member : type.getMembers())
+        {
+            if (member instanceof TypeDeclaration
+                && ((TypeDeclaration<?>) member).getNameAsString().equals(name))
+                return (TypeDeclaration<?>) member;
+        }
+        return null;
+    }
+
+    /**
+     * A class declared in a source file, and the classes enclosing it.
+     */
+    private static class SourceType
+    {
+        private final CompilationUnit compilationUnit;
+        // The enclosing classes first, this class last
+        private final List<TypeDeclaration<?>> types;
+
+        SourceType(CompilationUnit compilationUnit, List<TypeDeclaration<?>> types)
+        {
+            this.compilationUnit = compilationUnit;
+            this.types = types;
+        }
+
+        private TypeDeclaration<?> getType()
+        {
+            return types.get(types.size() - 1);
+        }
+
+        private String getPackageName()
+        {
+            return compilationUnit
+                .getPackageDeclaration()
+                .map(packageDeclaration -> packageDeclaration.getName().asString())
+                .orElse("");
+        }
+
+        /**
+         * @return The canonical name of this class
+         */
+        private String getCanonicalName()
+        {
+            StringBuilder canonicalName = new StringBuilder(getPackageName());
+            for (TypeDeclaration<?> type : types)
+            {
+                if (canonicalName.length() > 0)
+                    canonicalName.append('.');
+                canonicalName.append(type.getNameAsString());
+            }
+            return canonicalName.toString();
+        }
+
+        Object getFieldValue(String fieldName, Set<String> resolvingFields)
+        {
+            TypeDeclaration<?> type = getType();
+            boolean isInterface =
+                type instanceof ClassOrInterfaceDeclaration && ((ClassOrInterfaceDeclaration) type)
+                    .isInterface();
+
+            for (BodyDeclaration<?> member : type.getMembers())
+            {
+                if (!(member instanceof FieldDeclaration))
+                    continue;
+
+                FieldDeclaration field = (FieldDeclaration) member;
+                for (VariableDeclarator variable : field.getVariables())
+                {
+                    if (!variable.getNameAsString().equals(fieldName))
+                        continue;
+
+                    boolean isConstantField = isInterface || (field
+                        .getModifiers()
+                        .contains(Modifier.STATIC) && field
+                        .getModifiers()
+                        .contains(Modifier.FINAL));
+                    if (!isConstantField || !variable.getInitializer().isPresent())
+                        return NOT_CONSTANT;
+
+                    Object value = evaluate(variable.getInitializer().get(), resolvingFields);
+                    return convert(value, variable.getType());
+                }
+            }
+            return NOT_CONSTANT;
+        }
+
+        private Object evaluate(Expression expression, Set<String> resolvingFields)
+        {
+            if (expression instanceof EnclosedExpr)
+            {
+                Optional<Expression> inner = ((EnclosedExpr) expression).getInner();
+                return inner.isPresent() ? evaluate(inner.get(), resolvingFields) : NOT_CONSTANT;
+            }
+            if (expression instanceof NameExpr)
+                return getNameValue(((NameExpr) expression).getNameAsString(), resolvingFields);
+            if (expression instanceof FieldAccessExpr)
+                return getFieldAccessValue((FieldAccessExpr) expression, resolvingFields);
+            if (expression instanceof CastExpr)
+            {
+                CastExpr castExpr = (CastExpr) expression;
+                return convert(evaluate(castExpr.getExpression(), resolvingFields),
+                    castExpr.getType());
+            }
+            if (expression instanceof UnaryExpr)
+            {
+                UnaryExpr unaryExpr = (UnaryExpr) expression;
+                return ConstantOperations.unary(unaryExpr.getOperator(),
+                    evaluate(unaryExpr.getExpression(), resolvingFields));
+            }
+            if (expression instanceof BinaryExpr)
+            {
+                BinaryExpr binaryExpr = (BinaryExpr) expression;
+                Object left = evaluate(binaryExpr.getLeft(), resolvingFields);
+                if (left == NOT_CONSTANT)
+                    return NOT_CONSTANT;
+
+                return ConstantOperations.binary(binaryExpr.getOperator(),
+                    left,
+                    evaluate(binaryExpr.getRight(), resolvingFields));
+            }
+            if (expression instanceof ConditionalExpr)
+            {
+                ConditionalExpr conditionalExpr = (ConditionalExpr) expression;
+                Object condition = evaluate(conditionalExpr.getCondition(), resolvingFields);
+                Object thenValue = evaluate(conditionalExpr.getThenExpr(), resolvingFields);
+                Object elseValue = evaluate(conditionalExpr.getElseExpr(), resolvingFields);
+                if (!(condition instanceof Boolean) || thenValue == NOT_CONSTANT
+                    || elseValue == NOT_CONSTANT)
+                    return NOT_CONSTANT;
+
+                return ConstantOperations.conditional((Boolean) condition, thenValue, elseValue);
+            }
+
+            Object value = ConstantValueResolver.getLiteralValue(expression);
+            // null is a literal, but not a constant expression
+            return value == null ? NOT_CONSTANT : value;
+        }
+
+        /**
+         * Get the value of a field from its simple name, declared in this class or in an
+         * enclosing class.
+         */
+        private Object getNameValue(String name, Set<String> resolvingFields)
+        {
+            for (int i = types.size(); i > 0; i--)
+            {
+                String canonicalName =
+                    new SourceType(compilationUnit, types.subList(0, i)).getCanonicalName();
+                Object value = ConstantFieldReader.getFieldValue(canonicalName,
+                    name,
+                    resolvingFields);
+                if (value != NOT_CONSTANT)
+                    return value;
+            }
+            return NOT_CONSTANT;
+        }
+
+        /**
+         * Get the value of a field qualified by a class name, like Constants.TITLE.
+         */
+        private Object getFieldAccessValue(FieldAccessExpr fieldAccessExpr,
+            Set<String> resolvingFields)
+        {
+            if (!fieldAccessExpr.getScope().isPresent())
+                return NOT_CONSTANT;
+
+            String className = resolveClassName(fieldAccessExpr.getScope().get().toString());
+            return ConstantFieldReader.getFieldValue(className,
+                fieldAccessExpr.getNameAsString(),
+                resolvingFields);
+        }
+
+        /**
+         * Resolve a class name used in this source to its canonical name.
+         * @param className A simple or qualified class name
+         * @return The canonical name of the class
+         */
+        private String resolveClassName(String className)
+        {
+            String firstName = className;
+            String nestedNames = "";
+            int firstDot = className.indexOf('.');
+            if (firstDot >= 0)
+            {
+                firstName = className.substring(0, firstDot);
+                nestedNames = className.substring(firstDot);
+            }
+
+            // This class, an enclosing class, or one of their member classes
+            for (int i = types.size(); i > 0; i--)
+            {
+                List<TypeDeclaration<?>> enclosingTypes = types.subList(0, i);
+                TypeDeclaration<?> type = enclosingTypes.get(i - 1);
+                String typeName = new SourceType(compilationUnit, enclosingTypes).getCanonicalName();
+                if (type.getNameAsString().equals(firstName))
+                    return typeName + nestedNames;
+                if (getMemberType(type, firstName) != null)
+                    return typeName + "." + firstName + nestedNames;
+            }
+
+            for (ImportDeclaration importDeclaration : compilationUnit.getImports())
+            {
+                String importName = importDeclaration.getName().asString();
+                if (!importDeclaration.isStatic() && !importDeclaration.isAsterisk()
+                    && importName.endsWith("." + firstName))
+                    return importName + nestedNames;
+            }
+
+            // A class of the same package, or an already qualified name
+            String packageName = getPackageName();
+            String samePackageName =
+                packageName.isEmpty() ? className : packageName + "." + className;
+            if (getSourceType(samePackageName) != null)
+                return samePackageName;
+
+            return className;
+        }
+
+        /**
+         * Convert a constant value to the type of the field or cast holding it.
+         */
+        private Object convert(Object value, Type type)
+        {
+            if (value == NOT_CONSTANT)
+                return NOT_CONSTANT;
+
+            if (type instanceof ClassOrInterfaceType)
+            {
+                String typeName = ((ClassOrInterfaceType) type).getNameAsString();
+                boolean isString = "String".equals(typeName) || "java.lang.String".equals(
+                    type.toString());
+                return isString && value instanceof String ? value : NOT_CONSTANT;
+            }
+
+            if (!(type instanceof PrimitiveType))
+                return NOT_CONSTANT;
+
+            return ConstantOperations.convert(value, ((PrimitiveType) type).getType());
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package com.axellience.vuegwt.template.parser;
+
+import com.github.javaparser.ast.expr.BinaryExpr;
+import com.github.javaparser.ast.expr.UnaryExpr;
+import com.github.javaparser.ast.type.PrimitiveType.Primitive;
+
+import static com.axellience.vuegwt.template.parser.ConstantValueResolver.NOT_CONSTANT;
+
+/**
+ * The Java operators on constant values, for the constant expressions (JLS 15.28) read by {@link
+ * ConstantFieldReader}.
+ * <br>
+ * Values are Strings, Booleans, and for integral values Integers, Longs, Characters, Shorts or
+ * Bytes. Floating point values are never constant, they are not written the same way in Java and
+ * JS.
+ * @author Adrien Baron
+ */
+final class ConstantOperations
+{
+    private ConstantOperations()
+    {
+    }
+
+    static Object unary(UnaryExpr.Operator operator, Object value)
+    {
+        if (operator == UnaryExpr.Operator.LOGICAL_COMPLEMENT)
+            return value instanceof Boolean ? !((Boolean) value) : NOT_CONSTANT;
+
+        if (!isIntegral(value))
+            return NOT_CONSTANT;
+
+        if (value instanceof Long)
+        {
+            long longValue = (Long) value;
+            switch (operator)
+            {
+                case PLUS:
+                    return longValue;
+                case MINUS:
+                    return -longValue;
+                case BITWISE_COMPLEMENT:
+                    return ~longValue;
+                default:
+                    return NOT_CONSTANT;
+            }
+        }
+
+        int intValue = toInt(value);
+        switch (operator)
+        {
+            case PLUS:
+                return intValue;
+            case MINUS:
+                return -intValue;
+            case BITWISE_COMPLEMENT:
+                return ~intValue;
+            default:
+                return NOT_CONSTANT;
+        }
+    }
+
+    static Object binary(BinaryExpr.Operator operator, Object left, Object right)
+    {
+        if (left == NOT_CONSTANT || right == NOT_CONSTANT)
+            return NOT_CONSTANT;
+
+        if (operator == BinaryExpr.Operator.PLUS && (left instanceof String
+            || right instanceof String))
+            return String.valueOf(left) + String.valueOf(right);
+
+        if (left instanceof Boolean && right instanceof Boolean)
+            return booleanBinary(operator, (Boolean) left, (Boolean) right);
+
+        if (!isIntegral(left) || !isIntegral(right))
+            return NOT_CONSTANT;
+
+        // Shifts only promote their left operand
+        boolean isShift = operator == BinaryExpr.Operator.LEFT_SHIFT
+            || operator == BinaryExpr.Operator.SIGNED_RIGHT_SHIFT
+            || operator == BinaryExpr.Operator.UNSIGNED_RIGHT_SHIFT;
+        boolean isLong = left instanceof Long || (!isShift && right instanceof Long);
+
+        try
+        {
+            if (isLong)
+                return longBinary(operator, toLong(left), toLong(right));
+            return intBinary(operator, toInt(left), toLong(right));
+        }
+        catch (ArithmeticException e)
+        {
+            // Division by zero is not a constant expression
+            return NOT_CONSTANT;
+        }
+    }
+
+    static Object conditional(boolean condition, Object thenValue, Object elseValue)
+    {
+        boolean sameKind = thenValue.getClass() == elseValue.getClass() || (isIntegral(thenValue)
+            && isIntegral(elseValue));
+        if (!sameKind)
+            return NOT_CONSTANT;
+
+        Object value = condition ? thenValue : elseValue;
+        if (thenValue.getClass() == elseValue.getClass())
+            return value;
+
+        if (thenValue instanceof Long || elseValue instanceof Long)
+            return toLong(value);
+        return toInt(value);
+    }
+
+    /**
+     * Convert a value to a primitive type, like a cast or an assignment would.
+     * @param value The constant value
+     * @param primitive The primitive type
+     * @return The converted value, or {@link ConstantValueResolver#NOT_CONSTANT}
+     */
+    static Object convert(Object value, Primitive primitive)
+    {
+        if (primitive == Primitive.BOOLEAN)
+            return value instanceof Boolean ? value : NOT_CONSTANT;
+
+        if (!isIntegral(value))
+            return NOT_CONSTANT;
+
+        long longValue = toLong(value);
+        switch (primitive)
+        {
+            case CHAR:
+                return (char) longValue;
+            case BYTE:
+                return (byte) longValue;
+            case SHORT:
+                return (short) longValue;
+            case INT:
+                return (int) longValue;
+            case LONG:
+                return longValue;
+            default:
+                return NOT_CONSTANT;
+        }
+    }
+
+    private static Object booleanBinary(BinaryExpr.Operator operator, boolean left,
+        boolean right)
+    {
+        switch (operator)
+        {
+            case OR:
+            case BINARY_OR:
+                return left || right;
+            case AND:
+            case BINARY_AND:
+                return left && right;
+            case XOR:
+            case NOT_EQUALS:
+                return left != right;
+            case EQUALS:
+                return left == right;
+            default:
+                return NOT_CONSTANT;
+        }
+    }
+
+    private static Object intBinary(BinaryExpr.Operator operator, int left, long right)
+    {
+        int intRight = (int) right;
+        switch (operator)
+        {
+            case BINARY_OR:
+                return left | intRight;
+            case BINARY_AND:
+                return left & intRight;
+            case XOR:
+                return left ^ intRight;
+            case EQUALS:
+                return left == intRight;
+            case NOT_EQUALS:
+                return left != intRight;
+            case LESS:
+                return left < intRight;
+            case GREATER:
+                return left > intRight;
+            case LESS_EQUALS:
+                return left <= intRight;
+            case GREATER_EQUALS:
+                return left >= intRight;
+            case LEFT_SHIFT:
+                return left << right;
+            case SIGNED_RIGHT_SHIFT:
+                return left >> right;
+            case UNSIGNED_RIGHT_SHIFT:
+                return left >>> right;
+            case PLUS:
+                return left + intRight;
+            case MINUS:
+                return left - intRight;
+            case MULTIPLY:
+                return left * intRight;
+            case DIVIDE:
+                return left / intRight;
+            case REMAINDER:
+                return left % intRight;
+            default:
+                return NOT_CONSTANT;
+        }
+    }
+
+    private static Object longBinary(BinaryExpr.Operator operator, long left, long right)
+    {
+        switch (operator)
+        {
+            case BINARY_OR:
+                return left | right;
+            case BINARY_AND:
+                return left & right;
+            case XOR:
+                return left ^ right;
+            case EQUALS:
+                return left == right;
+            case NOT_EQUALS:
+                return left != right;
+            case LESS:
+                return left < right;
+            case GREATER:
+                return left > right;
+            case LESS_EQUALS:
+                return left <= right;
+            case GREATER_EQUALS:
+                return left >= right;
+            case LEFT_SHIFT:
+                return left << right;
+            case SIGNED_RIGHT_SHIFT:
+                return left >> right;
+            case UNSIGNED_RIGHT_SHIFT:
+                return left >>> right;
+            case PLUS:
+                return left + right;
+            case MINUS:
+                return left - right;
+            case MULTIPLY:
+                return left * right;
+            case DIVIDE:
+                return left / right;
+            case REMAINDER:
+                return left % right;
+            default:
+                return NOT_CONSTANT;
+        }
+    }
+
+    private static boolean isIntegral(Object value)
+    {
+        return value instanceof Integer || value instanceof Long || value instanceof Character
+            || value instanceof Short || value instanceof Byte;
+    }
+
+    private static int toInt(Object value)
+    {
+        return (int) toLong(value);
+    }
+
+    private static long toLong(Object value)
+    {
+        if (value instanceof Character)
+            return (Character) value;
+        return ((Number) value).longValue();
+    }
+}
@@ -0,0 +1,181 @@
+package com.axellience.vuegwt.template.parser;
+
+import com.axellience.vuegwt.template.parser.context.TemplateParserContext;
+import com.github.javaparser.ast.expr.BooleanLiteralExpr;
+import com.github.javaparser.ast.expr.CharLiteralExpr;
+import com.github.javaparser.ast.expr.DoubleLiteralExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.FieldAccessExpr;
+import com.github.javaparser.ast.expr.IntegerLiteralExpr;
+import com.github.javaparser.ast.expr.LongLiteralExpr;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.github.javaparser.ast.expr.NullLiteralExpr;
+import com.github.javaparser.ast.expr.StringLiteralExpr;
+
+/**
+ * Find the value of template expressions that can never change.
+ * <br>
+ * Literals (String, char, integer, long, boolean and null) and compile-time constant fields of
+ * imported classes with an integral, boolean or String type are constants. Their value can be written directly in
+ * the template instead of going through a method or computed property.
+ * The value of the fields is read from the Java sources, see {@link ConstantFieldReader}.
+ * @author Adrien Baron
+ */
+public class ConstantValueResolver
+{
+    /**
+     * Marker for expressions that are not constant, as null is a valid constant value.
+     */
+    public static final Object NOT_CONSTANT = new Object();
+
+    /**
+     * Return the value of an expression if it is constant.
+     * Must be called before the names of the expression are resolved.
+     * @param expression A Java expression from the template
+     * @param context The context of the parser, used to resolve the imported classes
+     * @return The value of the expression, or {@link #NOT_CONSTANT}
+     */
+    public static Object getConstantValue(Expression expression, TemplateParserContext context)
+    {
+        if (expression instanceof FieldAccessExpr)
+            return getStaticFieldValue((FieldAccessExpr) expression, context);
+
+        return getLiteralValue(expression);
+    }
+
+    /**
+     * Return the value of a literal expression.
+     * @param expression A Java expression
+     * @return The value of the literal, or {@link #NOT_CONSTANT} if the expression is not a
+     * literal we can inline
+     */
+    static Object getLiteralValue(Expression expression)
+    {
+        try
+        {
+            if (expression instanceof NullLiteralExpr)
+                return null;
+            if (expression instanceof BooleanLiteralExpr)
+                return ((BooleanLiteralExpr) expression).getValue();
+            if (expression instanceof DoubleLiteralExpr)
+                return NOT_CONSTANT;
+            if (expression instanceof IntegerLiteralExpr)
+                return Integer.decode(integralLiteral(((IntegerLiteralExpr) expression).getValue()));
+            if (expression instanceof LongLiteralExpr)
+                return Long.decode(integralLiteral(((LongLiteralExpr) expression).getValue()));
+            if (expression instanceof CharLiteralExpr)
+            {
+                String value = unescape(((CharLiteralExpr) expression).getValue());
+                return value.length() == 1 ? value.charAt(0) : NOT_CONSTANT;
+            }
+            if (expression instanceof StringLiteralExpr)
+                return unescape(((StringLiteralExpr) expression).getValue());
+        }
+        catch (IllegalArgumentException e)
+        {
+            // Literal format we don't handle (binary, octal...), just don't inline it
+            return NOT_CONSTANT;
+        }
+
+        return NOT_CONSTANT;
+    }
+
+    /**
+     * Get the value of a constant field of an imported class.
+     * Only fields that are compile-time constants (JLS 15.28) are inlined. Their value is
+     * evaluated from the source of the class, which is the one GWT compiles, even when the class
+     * files are outdated. No class is loaded, so no static initializer of the application runs in
+     * the generator. Fields initialized with a method call, like {@code GWT.isScript()}, are not
+     * constants.
+     * @param fieldAccessExpr The field access expression, for example Constants.TITLE
+     * @param context The context of the parser
+     * @return The value of the field, or {@link #NOT_CONSTANT}
+     */
+    private static Object getStaticFieldValue(FieldAccessExpr fieldAccessExpr,
+        TemplateParserContext context)
+    {
+        if (!fieldAccessExpr.getScope().isPresent() || !(fieldAccessExpr
+            .getScope()
+            .get() instanceof NameExpr))
+            return NOT_CONSTANT;
+
+        String className = ((NameExpr) fieldAccessExpr.getScope().get()).getNameAsString();
+        if (!context.hasImport(className))
+            return NOT_CONSTANT;
+
+        return ConstantFieldReader.getFieldValue(context.getFullyQualifiedNameForClassName(
+            className), fieldAccessExpr.getNameAsString());
+    }
+
+    private static String integralLiteral(String literal)
+    {
+        String value = literal.replace("_", "");
+        if (value.endsWith("L") || value.endsWith("l"))
+            value = value.substring(0, value.length() - 1);
+
+        if (value.length() > 1 && value.startsWith("0") && !value.startsWith("0x")
+            && !value.startsWith("0X"))
+            throw new IllegalArgumentException("Octal literal: " + literal);
+
+        return value;
+    }
+
+    /**
+     * Unescape the content of a Java String or char literal.
+     * Unicode escapes are already processed by the Java parser.
+     * @param literal The content of the literal, as written in the source
+     * @return The value of the literal
+     */
+    private static String unescape(String literal)
+    {
+        StringBuilder value = new StringBuilder();
+        for (int i = 0; i < literal.length(); i++)
+        {
+            char c = literal.charAt(i);
+            if (c != '\\' || i == literal.length() - 1)
+            {
+                value.append(c);
+                continue;
+            }
+
+            char escaped = literal.charAt(++i);
+            switch (escaped)
+            {
+                case 'b':
+                    value.append('\b');
+                    break;
+                case 't':
+                    value.append('\t');
+                    break;
+                case 'n':
+                    value.append('\n');
+                    break;
+                case 'f':
+                    value.append('\f');
+                    break;
+                case 'r':
+                    value.append('\r');
+                    break;
+                case '"':
+                case '\'':
+                case '\\':
+                    value.append(escaped);
+                    break;
+                default:
+                    // Octal escape
+                    int end = i;
+                    int maxLength = escaped <= '3' ? 3 : 2;
+                    while (end < literal.length() && end - i < maxLength
+                        && literal.charAt(end) >= '0' && literal.charAt(end) <= '7')
+                        end++;
+                    if (end == i)
+                        throw new IllegalArgumentException("Invalid escape: " + literal);
+
+                    value.append((char) Integer.parseInt(literal.substring(i, end), 8));
+                    i = end - 1;
+            }
+        }
+
+        return value.toString();
+    }
+}
@@ -0,0 +1,248 @@
+package com.axellience.vuegwt.template.parser;
+
+import com.axellience.vuegwt.template.parser.context.TemplateParserContext;
+import com.axellience.vuegwt.template.parser.variable.LocalVariableInfo;
+import com.axellience.vuegwt.template.parser.variable.VariableInfo;
+import com.github.javaparser.ast.expr.CastExpr;
+import com.github.javaparser.ast.expr.Expression;
+import com.github.javaparser.ast.expr.NameExpr;
+import com.google.gwt.core.ext.typeinfo.TypeOracle;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cache of the Java expressions processed by the {@link TemplateParser}.
+ * <br>
+ * The same expressions are often used many times, in one template or across templates. Processing
+ * an expression only depends on the expression itself and on how the names it uses are resolved
+ * in the {@link TemplateParserContext}. Results are keyed on both, so an expression used again in
+ * an equivalent context doesn't need to be parsed again.
+ * <br>
+ * The cache is shared by all the templates of the compilation, and can be used from several
+ * threads. It is cleared when a new {@link TypeOracle} is used, so it doesn't grow across the
+ * compilations of a Super Dev Mode session, and never returns expressions resolved against
+ * outdated types.
+ * @author Adrien Baron
+ */
+public class JavaExpressionCache
+{
+    private static final Map<String, ExpressionNames> expressionNames = new ConcurrentHashMap<>();
+    private static final Map<String, ResolvedExpression> resolvedExpressions =
+        new ConcurrentHashMap<>();
+
+    private static final AtomicInteger hits = new AtomicInteger();
+    private static final AtomicInteger misses = new AtomicInteger();
+
+    private static WeakReference<TypeOracle> cachedTypeOracle = new WeakReference<>(null);
+
+    /**
+     * Make sure the cached expressions have been resolved against the given {@link TypeOracle}.
+     * If it's not the one used for the cached expressions, the cache is cleared.
+     * @param typeOracle The {@link TypeOracle} of the current compilation
+     */
+    static synchronized void useTypeOracle(TypeOracle typeOracle)
+    {
+        if (cachedTypeOracle.get() == typeOracle)
+            return;
+
+        cachedTypeOracle = new WeakReference<>(typeOracle);
+        expressionNames.clear();
+        resolvedExpressions.clear();
+        ConstantFieldReader.clearCache();
+        hits.set(0);
+        misses.set(0);
+    }
+
+    /**
+     * Get the names used in an expression, if this expression has already been parsed.
+     * @param expressionString The Java expression from the template
+     * @return The names used by the expression, or null if it has never been parsed
+     */
+    static ExpressionNames getNames(String expressionString)
+    {
+        return expressionNames.get(expressionString);
+    }
+
+    /**
+     * Record the names used in a freshly parsed expression.
+     * Must be called before the expression is modified.
+     * @param expressionString The Java expression from the template
+     * @param expression The parsed expression
+     * @return The names used by the expression
+     */
+    static ExpressionNames putNames(String expressionString, Expression expression)
+    {
+        ExpressionNames names = new ExpressionNames();
+        names.collect(expression);
+        expressionNames.put(expressionString, names);
+        return names;
+    }
+
+    /**
+     * Compute the key identifying an expression in a given context.
+     * @param expressionString The Java expression from the template
+     * @param names The names used by the expression
+     * @param context The context the expression is used in
+     * @return The key, or null if some names can't be resolved (the expression is invalid)
+     */
+    static String getKey(String expressionString, ExpressionNames names,
+        TemplateParserContext context)
+    {
+        StringBuilder key = new StringBuilder(expressionString);
+        for (String name : names.names)
+        {
+            key.append('\n').append(name).append('=');
+            if (context.hasImport(name))
+            {
+                key.append("import ").append(context.getFullyQualifiedNameForClassName(name));
+                continue;
+            }
+
+            VariableInfo variableInfo = context.findVariable(name);
+            if (variableInfo == null)
+                return null;
+
+            if (variableInfo instanceof LocalVariableInfo)
+                key.append("local ").append(variableInfo.getType());
+        }
+        for (String castType : names.castTypes)
+        {
+            key
+                .append("\n(")
+                .append(castType)
+                .append(")=")
+                .append(context.getFullyQualifiedNameForClassName(castType));
+        }
+
+        return key.toString();
+    }
+
+    static ResolvedExpression getResolved(String key)
+    {
+        ResolvedExpression resolvedExpression = resolvedExpressions.get(key);
+        if (resolvedExpression == null)
+            misses.incrementAndGet();
+        else
+            hits.incrementAndGet();
+
+        return resolvedExpression;
+    }
+
+    static void putResolved(String key, ResolvedExpression resolvedExpression)
+    {
+        resolvedExpressions.put(key, resolvedExpression);
+    }
+
+    /**
+     * Number of expressions found in the cache since the beginning of the compilation.
+     * @return The number of cache hits
+     */
+    public static int getHits()
+    {
+        return hits.get();
+    }
+
+    /**
+     * Number of expressions not found in the cache since the beginning of the compilation.
+     * @return The number of cache misses
+     */
+    public static int getMisses()
+    {
+        return misses.get();
+    }
+
+    /**
+     * Names from the context used by an expression, as written in the template.
+     */
+    static class ExpressionNames
+    {
+        private final Set<String> names = new LinkedHashSet<>();
+        private final Set<String> castTypes = new LinkedHashSet<>();
+
+        /**
+         * Walk the expression the same way the {@link TemplateParser} does when processing it.
+         * @param expression The expression to walk
+         */
+        private void collect(Expression expression)
+        {
+            if (expression instanceof CastExpr)
+                castTypes.add(((CastExpr) expression).getType().toString());
+
+            if (expression instanceof NameExpr)
+            {
+                String name = ((NameExpr) expression).getNameAsString();
+                if (!"$event".equals(name))
+                    names.add(name);
+            }
+
+            expression
+                .getChildNodes()
+                .stream()
+                .filter(Expression.class::isInstance)
+                .map(Expression.class::cast)
+                .forEach(this::collect);
+        }
+    }
+
+    /**
+     * Result of the processing of a Java expression.
+     * {@link VariableInfo} are immutable, so the parameters can be shared between templates.
+     */
+    static class ResolvedExpression
+    {
+        private final String expression;
+        private final List<VariableInfo> parameters;
+        private final String castType;
+        private final Object constantValue;
+
+        ResolvedExpression(String expression, Collection<VariableInfo> parameters,
+            String castType, Object constantValue)
+        {
+            this.expression = expression;
+            this.parameters = new ArrayList<>(parameters);
+            this.castType = castType;
+            this.constantValue = constantValue;
+        }
+
+        /**
+         * @return The expression with names and casts replaced by their fully qualified names
+         */
+        String getExpression()
+        {
+            return expression;
+        }
+
+        /**
+         * @return The parameters this expression depends on
+         */
+        Set<VariableInfo> getParameters()
+        {
+            return new LinkedHashSet<>(parameters);
+        }
+
+        /**
+         * @return The type of the cast wrapping the whole expression, or null if there is none
+         */
+        String getCastType()
+        {
+            return castType;
+        }
+
+        /**
+         * @return The value of the expression if it's a constant, {@link
+         * ConstantValueResolver#NOT_CONSTANT} otherwise
+         */
+        Object getConstantValue()
+        {
+            return constantValue;
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package com.axellience.vuegwt.template.parser;
 
 import com.axellience.vuegwt.client.component.VueComponent;
+import com.axellience.vuegwt.template.compiler.JsUtil;
+import com.axellience.vuegwt.template.parser.JavaExpressionCache.ExpressionNames;
+import com.axellience.vuegwt.template.parser.JavaExpressionCache.ResolvedExpression;
 import com.axellience.vuegwt.template.parser.context.TemplateParserContext;
 import com.axellience.vuegwt.template.parser.exceptions.TemplateExpressionException;
 import com.axellience.vuegwt.template.parser.result.TemplateExpression;
@@ -26,6 +29,7 @@ import org.jsoup.parser.Parser;
 
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -75,6 +79,9 @@ public class TemplateParser
     public TemplateParserResult parseHtmlTemplate(String htmlTemplate,
         JClassType componentJsTypeClass)
     {
+        if (componentJsTypeClass != null)
+            JavaExpressionCache.useTypeOracle(componentJsTypeClass.getOracle());
+
         result = new TemplateParserResult();
         Parser parser = Parser.htmlParser();
         parser.settings(new ParseSettings(true, true)); // tag, attribute preserve case
@@ -84,7 +91,9 @@ public class TemplateParser
         processImports(doc);
         processNode(doc);
 
-        result.setProcessedTemplate(doc.body().html());
+        // Keep the whitespace as it was written, the template compilers handle it themselves
+        doc.outputSettings().prettyPrint(false);
+        result.setProcessedTemplateRoot(doc.body());
         return result;
     }
 
@@ -107,6 +116,7 @@ public class TemplateParser
             }
             else if (element.hasAttr("class"))
             {
+                result.addClassImport(element.attr("class"));
                 context.addImport(element.attr("class"));
             }
 
@@ -180,8 +190,16 @@ public class TemplateParser
 
             currentExpressionReturnType = "String";
             String expressionString = elementText.substring(start + 2, end - 2).trim();
-            String processedExpression = processExpression(expressionString);
-            newText.append("{{ ").append(processedExpression).append(" }}");
+            String constantText = getConstantText(expressionString);
+            if (constantText != null)
+            {
+                newText.append(constantText);
+            }
+            else
+            {
+                String processedExpression = processExpression(expressionString);
+                newText.append("{{ ").append(processedExpression).append(" }}");
+            }
             lastEnd = end;
         }
         if (lastEnd > 0)
@@ -264,7 +282,7 @@ public class TemplateParser
             }
         }
 
-        return processJavaExpression(expressionString).toTemplateString();
+        return processJavaExpressionOrConstant(expressionString, true);
     }
 
     /**
@@ -283,7 +301,8 @@ public class TemplateParser
             return processMapExpression((Map<String, Object>) mapOrList);
         }
 
-        return processJavaExpression(mapOrList.toString()).toTemplateString();
+        // Strings can't be inlined, they would be escaped when serializing the JSON
+        return processJavaExpressionOrConstant(mapOrList.toString(), false);
     }
 
     /**
@@ -352,10 +371,162 @@ public class TemplateParser
      */
     private TemplateExpression processJavaExpression(String expressionString)
     {
-        Expression expression;
+        return addExpression(getResolvedExpression(expressionString));
+    }
+
+    /**
+     * Add a resolved Java expression to our template expressions.
+     * @param resolvedExpression The resolved Java expression
+     * @return A processed expression, should be placed in the HTML in place of the original
+     * expression
+     */
+    private TemplateExpression addExpression(ResolvedExpression resolvedExpression)
+    {
+        // If there is a cast first, we use this as the type of our expression
+        if (resolvedExpression.getCastType() != null)
+            currentExpressionReturnType = resolvedExpression.getCastType();
+
+        // Add the resulting expression to our template expressions
+        return result.addExpression(resolvedExpression.getExpression(),
+            currentExpressionReturnType,
+            resolvedExpression.getParameters());
+    }
+
+    /**
+     * Process the given string as a Java expression.
+     * If the expression is a constant, its value is directly returned as a JS literal instead of
+     * adding a method/computed property for it.
+     * @param expressionString A valid Java expression
+     * @param allowStrings Whether String constants can be inlined
+     * @return A processed expression, should be placed in the HTML in place of the original
+     * expression
+     */
+    private String processJavaExpressionOrConstant(String expressionString,
+        boolean allowStrings)
+    {
+        ResolvedExpression resolvedExpression = getResolvedExpression(expressionString);
+        String literal = getConstantLiteral(resolvedExpression, allowStrings);
+        if (literal != null)
+            return literal;
+
+        return addExpression(resolvedExpression).toTemplateString();
+    }
+
+    /**
+     * Return the JS literal for a constant expression, if it can be inlined in the current
+     * context.
+     * Only values that are represented the same way in GWT and in JS are inlined: String, boolean
+     * and null. Other values are converted to String when a String is expected.
+     * @param resolvedExpression The expression to inline
+     * @param allowStrings Whether String literals can be returned
+     * @return A JS literal, or null if the expression can't be inlined
+     */
+    private String getConstantLiteral(ResolvedExpression resolvedExpression,
+        boolean allowStrings)
+    {
+        Object value = resolvedExpression.getConstantValue();
+        if (value == ConstantValueResolver.NOT_CONSTANT || resolvedExpression.getCastType() != null)
+            return null;
+
+        if ("String".equals(currentExpressionReturnType))
+            return allowStrings ? getStringLiteral(String.valueOf(value)) : null;
+
+        if (value instanceof Boolean && ("boolean".equals(currentExpressionReturnType)
+            || "Object".equals(currentExpressionReturnType)))
+            return value.toString();
+
+        if ("Object".equals(currentExpressionReturnType))
+        {
+            if (value == null)
+                return "null";
+            if (value instanceof String && allowStrings)
+                return getStringLiteral((String) value);
+        }
+
+        return null;
+    }
+
+    /**
+     * Return a JS String literal for the given value.
+     * @param value The value of the String
+     * @return The literal, or null if it would close the mustache it's in
+     */
+    private String getStringLiteral(String value)
+    {
+        String literal = JsUtil.stringify(value);
+        if (literal.contains("}}"))
+            return null;
+
+        return literal;
+    }
+
+    /**
+     * Return the text of a constant expression used in a text node.
+     * @param expressionString The expression between the mustaches
+     * @return The text to put in place of the mustaches, or null if the expression is not constant
+     */
+    private String getConstantText(String expressionString)
+    {
+        if ("".equals(expressionString) || isJSONArray(expressionString) || isJSONObject(
+            expressionString))
+            return null;
+
+        ResolvedExpression resolvedExpression = getResolvedExpression(expressionString);
+        Object value = resolvedExpression.getConstantValue();
+        if (value == ConstantValueResolver.NOT_CONSTANT || resolvedExpression.getCastType() != null)
+            return null;
+
+        // Vue would interpret mustaches in the text
+        String text = String.valueOf(value);
+        if (text.contains("{{") || text.contains("}}"))
+            return null;
+
+        return text;
+    }
+
+    /**
+     * Parse the given string as a Java expression, and resolve it in the current context.
+     * @param expressionString A valid Java expression
+     * @return The resolved expression
+     */
+    private ResolvedExpression getResolvedExpression(String expressionString)
+    {
+        // The expression is only parsed if we don't know it yet
+        Expression expression = null;
+        ExpressionNames names = JavaExpressionCache.getNames(expressionString);
+        if (names == null)
+        {
+            expression = parseJavaExpression(expressionString);
+            names = JavaExpressionCache.putNames(expressionString, expression);
+        }
+
+        // Reuse the result if the expression was processed in an equivalent context
+        String key = JavaExpressionCache.getKey(expressionString, names, context);
+        ResolvedExpression resolvedExpression =
+            key == null ? null : JavaExpressionCache.getResolved(key);
+        if (resolvedExpression == null)
+        {
+            if (expression == null)
+                expression = parseJavaExpression(expressionString);
+
+            resolvedExpression = resolveJavaExpression(expression);
+            if (key != null)
+                JavaExpressionCache.putResolved(key, resolvedExpression);
+        }
+
+        return resolvedExpression;
+    }
+
+    /**
+     * Parse the given string as a Java expression.
+     * @param expressionString A valid Java expression
+     * @return The parsed expression
+     */
+    private Expression parseJavaExpression(String expressionString)
+    {
         try
         {
-            expression = JavaParser.parseExpression(expressionString);
+            return JavaParser.parseExpression(expressionString);
         }
         catch (ParseProblemException parseException)
         {
@@ -365,28 +536,34 @@ public class TemplateParser
                 context,
                 parseException);
         }
+    }
+
+    /**
+     * Resolve the casts and names of a Java expression using the current context.
+     * @param expression A parsed Java expression, will be modified
+     * @return The resolved expression, with the parameters it depends on
+     */
+    private ResolvedExpression resolveJavaExpression(Expression expression)
+    {
+        // Constants are found before names are replaced with fully qualified names
+        Object constantValue = ConstantValueResolver.getConstantValue(expression, context);
 
         // First, resolve all the casts
         resolveCasts(expression);
 
         // Find the parameters used by the expression
-        Set<VariableInfo> expressionParameters = new HashSet<>();
+        Set<VariableInfo> expressionParameters = new LinkedHashSet<>();
         processNameExpressions(expression, expressionParameters);
 
-        // Update the expression as it might have been changed
-        expressionString = expression.toString();
-
-        // If there is a cast first, we use this as the type of our expression
+        String castType = null;
         if (expression instanceof CastExpr)
-        {
-            CastExpr castExpr = (CastExpr) expression;
-            currentExpressionReturnType = castExpr.getType().toString();
-        }
+            castType = ((CastExpr) expression).getType().toString();
 
-        // Add the resulting expression to our template expressions
-        return result.addExpression(expressionString,
-            currentExpressionReturnType,
-            expressionParameters);
+        // The expression might have been changed
+        return new ResolvedExpression(expression.toString(),
+            expressionParameters,
+            castType,
+            constantValue);
     }
 
     /**
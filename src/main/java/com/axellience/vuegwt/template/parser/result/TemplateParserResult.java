@@ -1,8 +1,10 @@
 package com.axellience.vuegwt.template.parser.result;
 
 import com.axellience.vuegwt.template.parser.variable.VariableInfo;
+import org.jsoup.nodes.Element;
 
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -17,26 +19,45 @@ import static com.axellience.vuegwt.client.component.template.TemplateResource.E
 public class TemplateParserResult
 {
     private String processedTemplate;
+    private Element processedTemplateRoot;
     private final List<TemplateExpression> expressions = new LinkedList<>();
+    private final Map<String, TemplateExpression> expressionsByDefinition = new HashMap<>();
     private final Map<String, String> styleImports = new HashMap<>();
+    private final Set<String> classImports = new HashSet<>();
 
     /**
-     * Set the processed template, once all the Java expression has been replaced by
-     * methods/computed properties.
-     * @param processedTemplate The processed template
+     * Set the element containing the processed template, once all the Java expression has been
+     * replaced by methods/computed properties.
+     * @param processedTemplateRoot The element containing the processed template
      */
-    public void setProcessedTemplate(String processedTemplate)
+    public void setProcessedTemplateRoot(Element processedTemplateRoot)
     {
-        this.processedTemplate = processedTemplate;
+        this.processedTemplateRoot = processedTemplateRoot;
+        this.processedTemplate = null;
     }
 
     /**
-     * Get the processed template, once all the Java expression has been replaced by
-     * methods/computed properties.
+     * Get the element containing the processed template.
+     * This is the parsed version of the processed template, it can be compiled directly without
+     * parsing the HTML again.
+     * @return The element containing the processed template
+     */
+    public Element getProcessedTemplateRoot()
+    {
+        return processedTemplateRoot;
+    }
+
+    /**
+     * Get the processed template as an HTML String.
+     * The template is only serialized the first time this is called, compilers working on the
+     * parsed template don't need it.
      * @return The processed template
      */
     public String getProcessedTemplate()
     {
+        if (processedTemplate == null && processedTemplateRoot != null)
+            processedTemplate = processedTemplateRoot.html();
+
         return processedTemplate;
     }
 
@@ -44,6 +65,8 @@ public class TemplateParserResult
      * Add an expression to the result.
      * All the Java methods from the template will be added here so we can add them to our Vue.js
      * component.
+     * If an expression with the same body, type and parameters has already been added, it is
+     * returned instead, so it's only declared once in the component.
      * @param expression The Java expression
      * @param expressionType The type of the expression, determined depending on the context it is
      * used in.
@@ -54,15 +77,46 @@ public class TemplateParserResult
     public TemplateExpression addExpression(String expression, String expressionType,
         Set<VariableInfo> parameters)
     {
+        String body = expression.trim();
+        String definition = getExpressionDefinition(body, expressionType, parameters);
+        TemplateExpression existingExpression = this.expressionsByDefinition.get(definition);
+        if (existingExpression != null)
+            return existingExpression;
+
         String id = EXPRESSION_PREFIX + this.expressions.size();
 
         TemplateExpression templateExpression =
-            new TemplateExpression(id, expression.trim(), expressionType, parameters);
+            new TemplateExpression(id, body, expressionType, parameters);
 
         this.expressions.add(templateExpression);
+        this.expressionsByDefinition.put(definition, templateExpression);
         return templateExpression;
     }
 
+    /**
+     * Return a String identifying the generated code of an expression.
+     * Two expressions with the same definition can share the same method/computed property.
+     * @param body The body of the expression
+     * @param expressionType The type of the expression
+     * @param parameters The parameters this expression depends on
+     * @return The definition of the expression
+     */
+    private String getExpressionDefinition(String body, String expressionType,
+        Set<VariableInfo> parameters)
+    {
+        StringBuilder definition = new StringBuilder(expressionType).append(' ').append(body);
+        for (VariableInfo parameter : parameters)
+        {
+            definition
+                .append('\n')
+                .append(parameter.getType())
+                .append(' ')
+                .append(parameter.getName());
+        }
+
+        return definition.toString();
+    }
+
     /**
      * Return the list of expression we found in the template.
      * @return The list of {@link TemplateExpression}
@@ -90,4 +144,22 @@ public class TemplateParserResult
     {
         return styleImports;
     }
+
+    /**
+     * Add a class import we found in the template.
+     * @param className The fully qualified name of the imported class
+     */
+    public void addClassImport(String className)
+    {
+        this.classImports.add(className);
+    }
+
+    /**
+     * Return the set of class imports we found in the template
+     * @return Fully qualified names of the classes imported in the template
+     */
+    public Set<String> getClassImports()
+    {
+        return classImports;
+    }
 }
@@ -1,3 +1,3 @@
 (function(d){d.VueGWT||(d.VueGWT={});d.VueGWT.jsTools||(d.VueGWT.jsTools={});var a=d.VueGWT.jsTools;a.defineProperty=function(b,c,e){var a={};"get"in e&&(a.get=function(){return e.get(this)});"set"in e&&(a.set=function(b){e.set(this,b)});Object.defineProperty(b,c,a)};a.getWindow=function(){return d};a.objectHasProperty=function(b,c){return c in b};a.getObjectProperty=function(b,c){return b[c]};a.setObjectProperty=function(b,c,a){b[c]=a};a.unsetObjectProperty=function(b,c){delete b[c]};a.setObjectFunction=
-function(b,c,a){b[c]=function(){return a.exec.apply(this,arguments)}};a.getArrayItem=function(b,c){return b[c]||null};a.setArrayItem=function(b,c,a){b[c]=a};a.call=function(b,a,e){return b.call(a,e)};a.callOnContext=function(b,a){return b(a)};a.getDeepValue=function(a,c){var b=0;c=c.split(".");for(var d=c.length;b<d;b++)a=a[c[b]];return a};a.createFunction=function(a){return new Function(a)};a.getFunctionBody=function(a){return a.toString().match(/\{([\s\S]*)\}/m)[1].replace(/^\s*\/\/.*$/mg,"").trim()};
+function(b,c,a){b[c]=function(){return a.exec.apply(this,arguments)}};a.getArrayItem=function(b,c){return b[c]||null};a.setArrayItem=function(b,c,a){b[c]=a};a.call=function(b,a,e){return b.call(a,e)};a.callOnContext=function(b,a){return b(a)};var f=Object.create(null),h=function(b){var a=b[0],e=b[1],d=b[2];switch(b.length){case 1:return{get:function(b){return b[a]},set:function(b,c){b[a]=c}};case 2:return{get:function(b){return b[a][e]},set:function(b,c){b[a][e]=c}};case 3:return{get:function(b){return b[a][e][d]},set:function(b,c){b[a][e][d]=c}}}var g=b.slice(0,-1),k=b[b.length-1],l=function(b){for(var a=0,c=g.length;a<c;a++)b=b[g[a]];return b};return{get:function(b){return l(b)[k]},set:function(b,a){l(b)[k]=a}}};a.compilePath=function(b){var a=f[b];a||(a=h(b.split(".")),f[b]=a);return a};a.getDeepValue=function(b,c){return a.compilePath(c).get(b)};a.createFunction=function(a){return new Function(a)};a.getFunctionBody=function(a){return a.toString().match(/\{([\s\S]*)\}/m)[1].replace(/^\s*\/\/.*$/mg,"").trim()};
 a.debugger=function(){debugger}})(window);
\ No newline at end of file
@@ -56,11 +56,74 @@
 	jsTools.callOnContext = function (func, args) {
 		return func(args);
 	};
-	jsTools.getDeepValue = function (obj, path) {
-		for (let i = 0, pathObj = path.split('.'), len = pathObj.length; i < len; i++) {
-			obj = obj[pathObj[i]];
+	const compiledPaths = Object.create(null);
+	/**
+	 * Create a getter and a setter for the given keys.
+	 * Short paths are unrolled, longer paths loop on the keys of the parent object.
+	 */
+	const createCompiledPath = function (keys) {
+		const a = keys[0], b = keys[1], c = keys[2];
+		switch (keys.length) {
+			case 1:
+				return {
+					get: function (obj) {
+						return obj[a];
+					},
+					set: function (obj, value) {
+						obj[a] = value;
+					}
+				};
+			case 2:
+				return {
+					get: function (obj) {
+						return obj[a][b];
+					},
+					set: function (obj, value) {
+						obj[a][b] = value;
+					}
+				};
+			case 3:
+				return {
+					get: function (obj) {
+						return obj[a][b][c];
+					},
+					set: function (obj, value) {
+						obj[a][b][c] = value;
+					}
+				};
+		}
+
+		const parentKeys = keys.slice(0, -1);
+		const lastKey = keys[keys.length - 1];
+		const getParent = function (obj) {
+			for (let i = 0, len = parentKeys.length; i < len; i++) {
+				obj = obj[parentKeys[i]];
+			}
+			return obj;
+		};
+		return {
+			get: function (obj) {
+				return getParent(obj)[lastKey];
+			},
+			set: function (obj, value) {
+				getParent(obj)[lastKey] = value;
+			}
+		};
+	};
+	/**
+	 * Return a getter and a setter for the given dotted path.
+	 * The path is only split once, its accessors are cached.
+	 */
+	jsTools.compilePath = function (path) {
+		let compiledPath = compiledPaths[path];
+		if (!compiledPath) {
+			compiledPath = createCompiledPath(path.split('.'));
+			compiledPaths[path] = compiledPath;
 		}
-		return obj;
+		return compiledPath;
+	};
+	jsTools.getDeepValue = function (obj, path) {
+		return jsTools.compilePath(path).get(obj);
 	};
 	jsTools.createFunction = function (body) {
 		return new Function(body);
@@ -0,0 +1,266 @@
+(function (context) {
+	if (!context.VueGWT)
+		context.VueGWT = {};
+	if (!context.VueGWT.instrumentation)
+		context.VueGWT.instrumentation = {};
+
+	const instrumentation = context.VueGWT.instrumentation;
+	const now = context.performance && context.performance.now ? function () {
+		return context.performance.now();
+	} : Date.now;
+
+	const vueProto = Vue.prototype;
+	const vueInit = vueProto._init;
+	const vueRender = vueProto._render;
+	const vueUpdate = vueProto._update;
+
+	let enabled = false;
+	// Timings of each Component, in the order they were first recorded
+	let timings = [];
+	// Timings of each Vue constructor, to avoid resolving the Component each time
+	let constructorsTimings = new Map();
+	// Timings of each Java Component class, a class can have several Vue constructors
+	let classesTimings = new Map();
+
+	const getComponentName = function (vm) {
+		// getComponentName is exported by the Java side of the instrumentation
+		return (instrumentation.getComponentName && instrumentation.getComponentName(vm))
+			|| vm.$options.name || '<anonymous>';
+	};
+
+	/**
+	 * Timings are keyed by Java class for Java Components, and by Vue constructor for JS
+	 * Components. Names are only used for display: class names are obfuscated in production
+	 * builds, and several JS Components can have the same name.
+	 */
+	const getTimings = function (vm) {
+		let componentTimings = constructorsTimings.get(vm.constructor);
+		if (componentTimings)
+			return componentTimings;
+
+		// getComponentClass is exported by the Java side of the instrumentation
+		const componentClass = (instrumentation.getComponentClass
+			&& instrumentation.getComponentClass(vm)) || null;
+		if (componentClass)
+			componentTimings = classesTimings.get(componentClass);
+
+		if (!componentTimings) {
+			componentTimings = {
+				name: getComponentName(vm),
+				instantiations: 0,
+				instantiationTime: 0,
+				renders: 0,
+				reRenders: 0,
+				renderTime: 0,
+				patches: 0,
+				patchTime: 0
+			};
+			// Not enumerable, so it's not part of the JSON
+			Object.defineProperty(componentTimings, 'componentClass', {value: componentClass});
+			timings.push(componentTimings);
+			if (componentClass)
+				classesTimings.set(componentClass, componentTimings);
+		}
+		constructorsTimings.set(vm.constructor, componentTimings);
+		return componentTimings;
+	};
+
+	// Time spent in the instrumented calls nested in the current one
+	let nestedTime = 0;
+
+	/**
+	 * Wrap a Vue method to record its time, excluding the time of the instrumented calls nested
+	 * in it. A parent patch creates and renders its children, their time is only recorded for
+	 * them.
+	 */
+	const timed = function (method, record) {
+		return function () {
+			const parentNestedTime = nestedTime;
+			nestedTime = 0;
+			const start = now();
+			try {
+				return method.apply(this, arguments);
+			} finally {
+				const time = now() - start;
+				record(getTimings(this), time - nestedTime, this);
+				nestedTime = parentNestedTime + time;
+			}
+		};
+	};
+
+	/**
+	 * Start recording the timings of all the Components.
+	 * Vue methods are only wrapped while the instrumentation is enabled, so it has no cost
+	 * otherwise.
+	 */
+	instrumentation.enable = function () {
+		if (enabled)
+			return;
+
+		enabled = true;
+		nestedTime = 0;
+		vueProto._init = timed(vueInit, function (componentTimings, time) {
+			componentTimings.instantiations++;
+			componentTimings.instantiationTime += time;
+		});
+		vueProto._render = timed(vueRender, function (componentTimings, time, vm) {
+			componentTimings.renders++;
+			if (vm._isMounted)
+				componentTimings.reRenders++;
+			componentTimings.renderTime += time;
+		});
+		vueProto._update = timed(vueUpdate, function (componentTimings, time) {
+			componentTimings.patches++;
+			componentTimings.patchTime += time;
+		});
+	};
+	instrumentation.disable = function () {
+		enabled = false;
+		vueProto._init = vueInit;
+		vueProto._render = vueRender;
+		vueProto._update = vueUpdate;
+	};
+	instrumentation.isEnabled = function () {
+		return enabled;
+	};
+	instrumentation.getTimings = function () {
+		return timings.slice();
+	};
+	instrumentation.reset = function () {
+		timings = [];
+		constructorsTimings = new Map();
+		classesTimings = new Map();
+	};
+	instrumentation.toJSON = function () {
+		return JSON.stringify(instrumentation.getTimings());
+	};
+
+	/**
+	 * Catch Vue Dep Prototype from an observed array
+	 * Arrays are not walked, so this doesn't call the Java side of the observer manager
+	 */
+	const depHolder = {};
+	Vue.util.defineReactive(depHolder, 'array', []);
+	const depProto = Object.getPrototypeOf(depHolder.array.__ob__.dep);
+	const depNotify = depProto.notify;
+
+	/**
+	 * Catch Vue Watcher Prototype from a lazy watcher
+	 * Lazy watchers are not evaluated on creation, so this doesn't need a Vue instance
+	 */
+	const watcherHolder = {_watchers: []};
+	vueProto.$watch.call(watcherHolder, function () {
+	}, function () {
+	}, {lazy: true});
+	const watcherProto = Object.getPrototypeOf(watcherHolder._watchers[0]);
+	const watcherRun = watcherProto.run;
+
+	let tracing = false;
+	// Ring buffer of the re-render traces
+	let traces = [];
+	let tracesCapacity = 0;
+	let nextTraceIndex = 0;
+	// The Java mutation being notified, if any
+	let mutation = null;
+	// Render watchers with a trace recorded, until they re-render
+	let pendingWatchers = new Set();
+
+	const recordTrace = function (trace) {
+		if (traces.length < tracesCapacity)
+			traces.push(trace);
+		else
+			traces[nextTraceIndex] = trace;
+		nextTraceIndex = (nextTraceIndex + 1) % tracesCapacity;
+	};
+
+	/**
+	 * Start recording the re-renders caused by each mutation.
+	 * A trace is recorded for each re-render of a mounted Component, with the first mutation
+	 * that caused it. Only the last traces are kept.
+	 * @param capacity The number of traces to keep, must be positive
+	 */
+	instrumentation.enableTracing = function (capacity) {
+		if (!(capacity > 0))
+			throw new Error('The capacity of the traces must be positive, got: ' + capacity);
+
+		if (tracesCapacity !== capacity) {
+			tracesCapacity = capacity;
+			instrumentation.clearTraces();
+		}
+		if (tracing)
+			return;
+
+		tracing = true;
+		depProto.notify = function () {
+			const timestamp = now();
+			const subs = this.subs;
+			for (let i = 0; i < subs.length; i++) {
+				const watcher = subs[i];
+				const vm = watcher.vm;
+				// Only the render watcher of mounted Components, other watchers don't re-render
+				if (!vm || vm._watcher !== watcher || !vm._isMounted || vm._isDestroyed)
+					continue;
+				// The re-render is already traced, the watcher is only queued once by Vue
+				if (pendingWatchers.has(watcher))
+					continue;
+
+				pendingWatchers.add(watcher);
+				recordTrace({
+					component: vm,
+					componentName: getComponentName(vm),
+					object: mutation && mutation.object,
+					methodName: mutation && mutation.methodName,
+					timestamp: timestamp
+				});
+			}
+			return depNotify.apply(this, arguments);
+		};
+		watcherProto.run = function () {
+			pendingWatchers.delete(this);
+			return watcherRun.apply(this, arguments);
+		};
+	};
+	instrumentation.disableTracing = function () {
+		tracing = false;
+		depProto.notify = depNotify;
+		watcherProto.run = watcherRun;
+		pendingWatchers = new Set();
+	};
+	instrumentation.isTracingEnabled = function () {
+		return tracing;
+	};
+	/**
+	 * @return The traces recorded, the oldest first
+	 */
+	instrumentation.getTraces = function () {
+		if (traces.length < tracesCapacity)
+			return traces.slice();
+
+		return traces.slice(nextTraceIndex).concat(traces.slice(0, nextTraceIndex));
+	};
+	instrumentation.clearTraces = function () {
+		traces = [];
+		nextTraceIndex = 0;
+	};
+
+	/**
+	 * Notify the dependency of a Vue Observer for a mutation done by a Java method.
+	 * The object and method are recorded in the traces caused by this notification.
+	 * @param observer The Vue Observer of the mutated object
+	 * @param methodName The name of the method that mutated the object, may be null
+	 */
+	instrumentation.notifyMutation = function (observer, methodName) {
+		if (!tracing) {
+			observer.dep.notify();
+			return;
+		}
+
+		const previousMutation = mutation;
+		mutation = {object: observer.value, methodName: methodName};
+		try {
+			observer.dep.notify();
+		} finally {
+			mutation = previousMutation;
+		}
+	};
+})(window);
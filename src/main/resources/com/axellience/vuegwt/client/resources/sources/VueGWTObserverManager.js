@@ -21,10 +21,39 @@
 			if (observerManager.observeJavaObject(obj))
 				return;
 
+			if (obj.vueGwtShallowFields) {
+				walkWithShallowFields(obj, obj.vueGwtShallowFields);
+				return;
+			}
+
 			return vueWalk.apply(this, arguments);
 		};
 	};
 
+	/**
+	 * Make the properties of an object reactive, like the Vue Observer walk method.
+	 * Shallow fields are reactive, but the value they contain is not observed.
+	 * @param obj The object to observe
+	 * @param shallowFields An object with the names of the shallow fields as keys
+	 */
+	const walkWithShallowFields = function (obj, shallowFields) {
+		const keys = Object.keys(obj);
+		for (let i = 0; i < keys.length; i++) {
+			const key = keys[i];
+			Vue.util.defineReactive(obj, key, obj[key], undefined, shallowFields[key] === true);
+		}
+	};
+
+	/**
+	 * Set the shallow fields of a Component data object.
+	 * The property holding them is not enumerable, so it's not part of the data.
+	 * @param data The data object of a Component
+	 * @param shallowFields An object with the names of the shallow fields as keys
+	 */
+	observerManager.setShallowReactiveFields = function (data, shallowFields) {
+		Object.defineProperty(data, "vueGwtShallowFields", {value: shallowFields});
+	};
+
 	/**
 	 * Due to GWT optimization, properties on java object defined like this are not observable in Vue.js:
 	 * <br>
@@ -34,25 +63,48 @@
 	 * Therefore Vue.js don't see those properties when initializing it's observer.
 	 * To fix the issue, we manually look for those properties and set them explicitly on the
 	 * object.
+	 * <br>
+	 * The properties to set are computed once per Java class, and cached using the class prototype
+	 * as a key.
 	 */
-	const staticPropertiesCache = {};
-	observerManager.makeStaticallyInitializedPropertiesReactive = function (javaObject, className) {
-		let cache = staticPropertiesCache[className];
+	const staticPropertiesCache = new Map();
+	let patchedObjectsCount = 0;
+	let patchedPropertiesCount = 0;
+	observerManager.makeStaticallyInitializedPropertiesReactive = function (javaObject) {
+		const proto = Object.getPrototypeOf(javaObject);
+		let cache = staticPropertiesCache.get(proto);
 		if (!cache) {
 			cache = [];
-			const proto = Object.getPrototypeOf(javaObject);
 			for (let key in proto) {
 				const value = proto[key];
 				if (value === null || (typeof value !== "function" && typeof value !== "object"))
 					cache.push({key: key, value: value});
 			}
+			staticPropertiesCache.set(proto, cache);
 		}
 
 		// Set values on the object
-		cache.forEach(entry => {
-			if (!javaObject.hasOwnProperty(entry.key))
+		let patchedProperties = 0;
+		for (let i = 0; i < cache.length; i++) {
+			const entry = cache[i];
+			if (!javaObject.hasOwnProperty(entry.key)) {
 				javaObject[entry.key] = entry.value;
-		});
+				patchedProperties++;
+			}
+		}
+
+		if (patchedProperties > 0) {
+			patchedObjectsCount++;
+			patchedPropertiesCount += patchedProperties;
+		}
+	};
+
+	observerManager.getPatchedObjectsCount = function () {
+		return patchedObjectsCount;
+	};
+
+	observerManager.getPatchedPropertiesCount = function () {
+		return patchedPropertiesCount;
 	};
 
 	/**
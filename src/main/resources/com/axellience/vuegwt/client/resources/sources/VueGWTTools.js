@@ -20,41 +20,55 @@
 		// No conversion is needed, but Java compiler won't agree otherwise
 		return javaArray;
 	};
-	tools.wrapMethodWithBefore = function (object, methodName, beforeMethodCall) {
-		const proto = Object.getPrototypeOf(object);
-		const originalFunc = proto[methodName];
-		if (originalFunc === null)
+	/**
+	 * Wrap a method on the prototype defining it, so all the objects sharing this prototype call
+	 * the wrapper. The callbacks are called with the object the method is called on.
+	 * Wrapping the same method again with the same callbacks does nothing, so this can be called
+	 * for each object without stacking wrappers.
+	 */
+	const wrapPrototypeMethod = function (object, methodName, beforeMethodCall, afterMethodCall, createWrapper) {
+		let proto = Object.getPrototypeOf(object);
+		while (proto && !proto.hasOwnProperty(methodName))
+			proto = Object.getPrototypeOf(proto);
+
+		if (!proto) {
 			console.error("Attempting to wrap a non existing method", object, methodName);
+			return;
+		}
+
+		const originalFunc = proto[methodName];
+		for (let func = originalFunc; func; func = func.vueGwtWrappedFunc) {
+			if (func.vueGwtBeforeMethodCall === beforeMethodCall
+				&& func.vueGwtAfterMethodCall === afterMethodCall)
+				return;
+		}
 
-		proto[methodName] = function () {
-			beforeMethodCall(object, methodName, arguments);
+		const wrapper = createWrapper(originalFunc);
+		wrapper.vueGwtWrappedFunc = originalFunc;
+		wrapper.vueGwtBeforeMethodCall = beforeMethodCall;
+		wrapper.vueGwtAfterMethodCall = afterMethodCall;
+		proto[methodName] = wrapper;
+	};
+	tools.wrapMethodWithBefore = function (object, methodName, beforeMethodCall) {
+		wrapPrototypeMethod(object, methodName, beforeMethodCall, undefined, originalFunc => function () {
+			beforeMethodCall(this, methodName, arguments);
 			return originalFunc.apply(this, arguments);
-		};
+		});
 	};
 	tools.wrapMethodWithAfter = function (object, methodName, afterMethodCall) {
-		const proto = Object.getPrototypeOf(object);
-		const originalFunc = proto[methodName];
-		if (originalFunc === null)
-			console.error("Attempting to wrap a non existing method", object, methodName);
-
-		proto[methodName] = function () {
-			var result = originalFunc.apply(this, arguments);
-			afterMethodCall(object, methodName, result, arguments);
+		wrapPrototypeMethod(object, methodName, undefined, afterMethodCall, originalFunc => function () {
+			const result = originalFunc.apply(this, arguments);
+			afterMethodCall(this, methodName, result, arguments);
 			return result;
-		};
+		});
 	};
 	tools.wrapMethod = function (object, methodName, beforeMethodCall, afterMethodCall) {
-		const proto = Object.getPrototypeOf(object);
-		const originalFunc = proto[methodName];
-		if (originalFunc === null)
-			console.error("Attempting to wrap a non existing method", object, methodName);
-
-		proto[methodName] = function () {
-			beforeMethodCall(object, methodName, arguments);
+		wrapPrototypeMethod(object, methodName, beforeMethodCall, afterMethodCall, originalFunc => function () {
+			beforeMethodCall(this, methodName, arguments);
 			const result = originalFunc.apply(this, arguments);
-			afterMethodCall(object, methodName, result, arguments);
+			afterMethodCall(this, methodName, result, arguments);
 			return result;
-		};
+		});
 	};
 	tools.extendVueConstructorWithJavaPrototype = function (extendedVueConstructor, componentJavaPrototype) {
 		const vueProto = extendedVueConstructor.prototype;
@@ -0,0 +1,181 @@
+(function (context) {
+	if (!context.VueGWT)
+		context.VueGWT = {};
+	if (!context.VueGWT.virtualList)
+		context.VueGWT.virtualList = {};
+
+	const virtualList = context.VueGWT.virtualList;
+
+	/**
+	 * Differences between the measured and the estimated height of each row.
+	 * They are stored in a Fenwick tree, so changing the height of a row and getting the offset
+	 * of a row are both O(log(n)).
+	 * @param deltas A Float64Array with the height difference of each row
+	 */
+	const HeightDeltas = function (deltas) {
+		this.size = deltas.length;
+		this.deltas = deltas;
+		this.tree = new Float64Array(this.size + 1);
+		for (let i = 1; i <= this.size; i++) {
+			this.tree[i] += deltas[i - 1];
+			const parent = i + (i & -i);
+			if (parent <= this.size)
+				this.tree[parent] += this.tree[i];
+		}
+	};
+	/**
+	 * Return HeightDeltas for the given number of rows, keeping the heights already measured.
+	 */
+	HeightDeltas.prototype.resize = function (size) {
+		if (size === this.size)
+			return this;
+
+		const deltas = new Float64Array(size);
+		deltas.set(size < this.size ? this.deltas.subarray(0, size) : this.deltas);
+		return new HeightDeltas(deltas);
+	};
+	/**
+	 * Set the height difference of a row.
+	 * @return true if it has changed, false otherwise
+	 */
+	HeightDeltas.prototype.set = function (index, delta) {
+		const change = delta - this.deltas[index];
+		if (change === 0)
+			return false;
+
+		this.deltas[index] = delta;
+		for (let i = index + 1; i <= this.size; i += i & -i)
+			this.tree[i] += change;
+		return true;
+	};
+	/**
+	 * Sum of the height differences of the rows before the given index.
+	 */
+	HeightDeltas.prototype.sumBefore = function (index) {
+		let sum = 0;
+		for (let i = index; i > 0; i -= i & -i)
+			sum += this.tree[i];
+		return sum;
+	};
+
+	const getItemsArray = function (items) {
+		if (items == null)
+			return [];
+		if (Array.isArray(items))
+			return items;
+
+		// Java Collections, converted by the Java side of the virtual list
+		return virtualList.toJsArray(items);
+	};
+
+	/**
+	 * A list rendering only the rows visible in its viewport.
+	 * Rows are not keyed by default, so when scrolling Vue patches the existing rows with the new
+	 * items instead of creating new ones. State not coming from the item (Component data, input
+	 * values, focus...) then stays on the row. A keyProvider keys the rows by item instead.
+	 * Row heights can vary, they are measured once rendered.
+	 */
+	virtualList.componentOptions = {
+		name: 'vue-gwt-virtual-list',
+		props: {
+			items: {required: true},
+			height: {type: Number, default: 400},
+			estimatedRowHeight: {type: Number, default: 30},
+			buffer: {type: Number, default: 5},
+			keyProvider: {type: Function, default: null}
+		},
+		computed: {
+			itemsArray: function () {
+				return getItemsArray(this.items);
+			}
+		},
+		created: function () {
+			// Not reactive, the list re-renders itself when the visible rows change
+			this.scrollTop = 0;
+			this.renderedStart = 0;
+			this.renderedEnd = 0;
+			this.heightDeltas = new HeightDeltas(new Float64Array(0));
+		},
+		mounted: function () {
+			this.measureRows();
+		},
+		updated: function () {
+			this.measureRows();
+		},
+		methods: {
+			offsetOf: function (index) {
+				return index * this.estimatedRowHeight + this.heightDeltas.sumBefore(index);
+			},
+			computeRange: function (count) {
+				// Last row starting above the top of the viewport
+				let low = 0;
+				let high = Math.max(count - 1, 0);
+				while (low < high) {
+					const middle = (low + high + 1) >> 1;
+					if (this.offsetOf(middle) <= this.scrollTop)
+						low = middle;
+					else
+						high = middle - 1;
+				}
+
+				const bottom = this.scrollTop + this.height;
+				let end = low;
+				while (end < count && this.offsetOf(end) < bottom)
+					end++;
+
+				return {
+					start: Math.max(low - this.buffer, 0),
+					end: Math.min(end + this.buffer, count)
+				};
+			},
+			onScroll: function (event) {
+				this.scrollTop = event.target.scrollTop;
+				const range = this.computeRange(this.itemsArray.length);
+				if (range.start !== this.renderedStart || range.end !== this.renderedEnd)
+					this.$forceUpdate();
+			},
+			measureRows: function () {
+				const rowsContainer = this.$el.firstChild.firstChild;
+				let changed = false;
+				for (let i = this.renderedStart, row = rowsContainer.firstChild; row; i++, row = row.nextSibling) {
+					if (this.heightDeltas.set(i, row.offsetHeight - this.estimatedRowHeight))
+						changed = true;
+				}
+
+				if (changed)
+					this.$forceUpdate();
+			}
+		},
+		render: function (h) {
+			const items = this.itemsArray;
+			this.heightDeltas = this.heightDeltas.resize(items.length);
+
+			const range = this.computeRange(items.length);
+			this.renderedStart = range.start;
+			this.renderedEnd = range.end;
+
+			const rowSlot = this.$scopedSlots.default;
+			const keyProvider = this.keyProvider;
+			const rows = [];
+			for (let i = range.start; i < range.end; i++) {
+				const row = rowSlot ? rowSlot({item: items[i], index: i}) : null;
+				const rowData = {staticClass: 'vue-gwt-virtual-list-row'};
+				if (keyProvider)
+					rowData.key = keyProvider(items[i]);
+				rows.push(h('div', rowData, Array.isArray(row) ? row : [row]));
+			}
+
+			return h('div', {
+				staticClass: 'vue-gwt-virtual-list',
+				style: {height: this.height + 'px', overflowY: 'auto'},
+				on: {scroll: this.onScroll}
+			}, [
+				h('div', {style: {height: this.offsetOf(items.length) + 'px'}}, [
+					h('div', {style: {transform: 'translateY(' + this.offsetOf(range.start) + 'px)'}}, rows)
+				])
+			]);
+		}
+	};
+
+	Vue.component('vue-gwt-virtual-list', virtualList.componentOptions);
+})(window);
@@ -20,41 +20,55 @@
 		// No conversion is needed, but Java compiler won't agree otherwise
 		return javaArray;
 	};
-	tools.wrapMethodWithBefore = function (object, methodName, beforeMethodCall) {
-		const proto = Object.getPrototypeOf(object);
-		const originalFunc = proto[methodName];
-		if (originalFunc === null)
+	/**
+	 * Wrap a method on the prototype defining it, so all the objects sharing this prototype call
+	 * the wrapper. The callbacks are called with the object the method is called on.
+	 * Wrapping the same method again with the same callbacks does nothing, so this can be called
+	 * for each object without stacking wrappers.
+	 */
+	const wrapPrototypeMethod = function (object, methodName, beforeMethodCall, afterMethodCall, createWrapper) {
+		let proto = Object.getPrototypeOf(object);
+		while (proto && !proto.hasOwnProperty(methodName))
+			proto = Object.getPrototypeOf(proto);
+
+		if (!proto) {
 			console.error("Attempting to wrap a non existing method", object, methodName);
+			return;
+		}
+
+		const originalFunc = proto[methodName];
+		for (let func = originalFunc; func; func = func.vueGwtWrappedFunc) {
+			if (func.vueGwtBeforeMethodCall === beforeMethodCall
+				&& func.vueGwtAfterMethodCall === afterMethodCall)
+				return;
+		}
 
-		proto[methodName] = function () {
-			beforeMethodCall(object, methodName, arguments);
+		const wrapper = createWrapper(originalFunc);
+		wrapper.vueGwtWrappedFunc = originalFunc;
+		wrapper.vueGwtBeforeMethodCall = beforeMethodCall;
+		wrapper.vueGwtAfterMethodCall = afterMethodCall;
+		proto[methodName] = wrapper;
+	};
+	tools.wrapMethodWithBefore = function (object, methodName, beforeMethodCall) {
+		wrapPrototypeMethod(object, methodName, beforeMethodCall, undefined, originalFunc => function () {
+			beforeMethodCall(this, methodName, arguments);
 			return originalFunc.apply(this, arguments);
-		};
+		});
 	};
 	tools.wrapMethodWithAfter = function (object, methodName, afterMethodCall) {
-		const proto = Object.getPrototypeOf(object);
-		const originalFunc = proto[methodName];
-		if (originalFunc === null)
-			console.error("Attempting to wrap a non existing method", object, methodName);
-
-		proto[methodName] = function () {
-			var result = originalFunc.apply(this, arguments);
-			afterMethodCall(object, methodName, result, arguments);
+		wrapPrototypeMethod(object, methodName, undefined, afterMethodCall, originalFunc => function () {
+			const result = originalFunc.apply(this, arguments);
+			afterMethodCall(this, methodName, result, arguments);
 			return result;
-		};
+		});
 	};
 	tools.wrapMethod = function (object, methodName, beforeMethodCall, afterMethodCall) {
-		const proto = Object.getPrototypeOf(object);
-		const originalFunc = proto[methodName];
-		if (originalFunc === null)
-			console.error("Attempting to wrap a non existing method", object, methodName);
-
-		proto[methodName] = function () {
-			beforeMethodCall(object, methodName, arguments);
+		wrapPrototypeMethod(object, methodName, beforeMethodCall, afterMethodCall, originalFunc => function () {
+			beforeMethodCall(this, methodName, arguments);
 			const result = originalFunc.apply(this, arguments);
-			afterMethodCall(object, methodName, result, arguments);
+			afterMethodCall(this, methodName, result, arguments);
 			return result;
-		};
+		});
 	};
 	tools.extendVueConstructorWithJavaPrototype = function (extendedVueConstructor, componentJavaPrototype) {
 		const vueProto = extendedVueConstructor.prototype;
@@ -89,10 +103,39 @@
 			if (observerManager.observeJavaObject(obj))
 				return;
 
+			if (obj.vueGwtShallowFields) {
+				walkWithShallowFields(obj, obj.vueGwtShallowFields);
+				return;
+			}
+
 			return vueWalk.apply(this, arguments);
 		};
 	};
 
+	/**
+	 * Make the properties of an object reactive, like the Vue Observer walk method.
+	 * Shallow fields are reactive, but the value they contain is not observed.
+	 * @param obj The object to observe
+	 * @param shallowFields An object with the names of the shallow fields as keys
+	 */
+	const walkWithShallowFields = function (obj, shallowFields) {
+		const keys = Object.keys(obj);
+		for (let i = 0; i < keys.length; i++) {
+			const key = keys[i];
+			Vue.util.defineReactive(obj, key, obj[key], undefined, shallowFields[key] === true);
+		}
+	};
+
+	/**
+	 * Set the shallow fields of a Component data object.
+	 * The property holding them is not enumerable, so it's not part of the data.
+	 * @param data The data object of a Component
+	 * @param shallowFields An object with the names of the shallow fields as keys
+	 */
+	observerManager.setShallowReactiveFields = function (data, shallowFields) {
+		Object.defineProperty(data, "vueGwtShallowFields", {value: shallowFields});
+	};
+
 	/**
 	 * Due to GWT optimization, properties on java object defined like this are not observable in Vue.js:
 	 * <br>
@@ -102,25 +145,48 @@
 	 * Therefore Vue.js don't see those properties when initializing it's observer.
 	 * To fix the issue, we manually look for those properties and set them explicitly on the
 	 * object.
+	 * <br>
+	 * The properties to set are computed once per Java class, and cached using the class prototype
+	 * as a key.
 	 */
-	const staticPropertiesCache = {};
-	observerManager.makeStaticallyInitializedPropertiesReactive = function (javaObject, className) {
-		let cache = staticPropertiesCache[className];
+	const staticPropertiesCache = new Map();
+	let patchedObjectsCount = 0;
+	let patchedPropertiesCount = 0;
+	observerManager.makeStaticallyInitializedPropertiesReactive = function (javaObject) {
+		const proto = Object.getPrototypeOf(javaObject);
+		let cache = staticPropertiesCache.get(proto);
 		if (!cache) {
 			cache = [];
-			const proto = Object.getPrototypeOf(javaObject);
 			for (let key in proto) {
 				const value = proto[key];
 				if (value === null || (typeof value !== "function" && typeof value !== "object"))
 					cache.push({key: key, value: value});
 			}
+			staticPropertiesCache.set(proto, cache);
 		}
 
 		// Set values on the object
-		cache.forEach(entry => {
-			if (!javaObject.hasOwnProperty(entry.key))
+		let patchedProperties = 0;
+		for (let i = 0; i < cache.length; i++) {
+			const entry = cache[i];
+			if (!javaObject.hasOwnProperty(entry.key)) {
 				javaObject[entry.key] = entry.value;
-		});
+				patchedProperties++;
+			}
+		}
+
+		if (patchedProperties > 0) {
+			patchedObjectsCount++;
+			patchedPropertiesCount += patchedProperties;
+		}
+	};
+
+	observerManager.getPatchedObjectsCount = function () {
+		return patchedObjectsCount;
+	};
+
+	observerManager.getPatchedPropertiesCount = function () {
+		return patchedPropertiesCount;
 	};
 
 	/**
@@ -132,4 +198,450 @@
 			observerManager.customizeVueObserver(this.$data.__ob__);
 		}
 	});
-})(window);
\ No newline at end of file
+})(window);(function (context) {
+	if (!context.VueGWT)
+		context.VueGWT = {};
+	if (!context.VueGWT.virtualList)
+		context.VueGWT.virtualList = {};
+
+	const virtualList = context.VueGWT.virtualList;
+
+	/**
+	 * Differences between the measured and the estimated height of each row.
+	 * They are stored in a Fenwick tree, so changing the height of a row and getting the offset
+	 * of a row are both O(log(n)).
+	 * @param deltas A Float64Array with the height difference of each row
+	 */
+	const HeightDeltas = function (deltas) {
+		this.size = deltas.length;
+		this.deltas = deltas;
+		this.tree = new Float64Array(this.size + 1);
+		for (let i = 1; i <= this.size; i++) {
+			this.tree[i] += deltas[i - 1];
+			const parent = i + (i & -i);
+			if (parent <= this.size)
+				this.tree[parent] += this.tree[i];
+		}
+	};
+	/**
+	 * Return HeightDeltas for the given number of rows, keeping the heights already measured.
+	 */
+	HeightDeltas.prototype.resize = function (size) {
+		if (size === this.size)
+			return this;
+
+		const deltas = new Float64Array(size);
+		deltas.set(size < this.size ? this.deltas.subarray(0, size) : this.deltas);
+		return new HeightDeltas(deltas);
+	};
+	/**
+	 * Set the height difference of a row.
+	 * @return true if it has changed, false otherwise
+	 */
+	HeightDeltas.prototype.set = function (index, delta) {
+		const change = delta - this.deltas[index];
+		if (change === 0)
+			return false;
+
+		this.deltas[index] = delta;
+		for (let i = index + 1; i <= this.size; i += i & -i)
+			this.tree[i] += change;
+		return true;
+	};
+	/**
+	 * Sum of the height differences of the rows before the given index.
+	 */
+	HeightDeltas.prototype.sumBefore = function (index) {
+		let sum = 0;
+		for (let i = index; i > 0; i -= i & -i)
+			sum += this.tree[i];
+		return sum;
+	};
+
+	const getItemsArray = function (items) {
+		if (items == null)
+			return [];
+		if (Array.isArray(items))
+			return items;
+
+		// Java Collections, converted by the Java side of the virtual list
+		return virtualList.toJsArray(items);
+	};
+
+	/**
+	 * A list rendering only the rows visible in its viewport.
+	 * Rows are not keyed by default, so when scrolling Vue patches the existing rows with the new
+	 * items instead of creating new ones. State not coming from the item (Component data, input
+	 * values, focus...) then stays on the row. A keyProvider keys the rows by item instead.
+	 * Row heights can vary, they are measured once rendered.
+	 */
+	virtualList.componentOptions = {
+		name: 'vue-gwt-virtual-list',
+		props: {
+			items: {required: true},
+			height: {type: Number, default: 400},
+			estimatedRowHeight: {type: Number, default: 30},
+			buffer: {type: Number, default: 5},
+			keyProvider: {type: Function, default: null}
+		},
+		computed: {
+			itemsArray: function () {
+				return getItemsArray(this.items);
+			}
+		},
+		created: function () {
+			// Not reactive, the list re-renders itself when the visible rows change
+			this.scrollTop = 0;
+			this.renderedStart = 0;
+			this.renderedEnd = 0;
+			this.heightDeltas = new HeightDeltas(new Float64Array(0));
+		},
+		mounted: function () {
+			this.measureRows();
+		},
+		updated: function () {
+			this.measureRows();
+		},
+		methods: {
+			offsetOf: function (index) {
+				return index * this.estimatedRowHeight + this.heightDeltas.sumBefore(index);
+			},
+			computeRange: function (count) {
+				// Last row starting above the top of the viewport
+				let low = 0;
+				let high = Math.max(count - 1, 0);
+				while (low < high) {
+					const middle = (low + high + 1) >> 1;
+					if (this.offsetOf(middle) <= this.scrollTop)
+						low = middle;
+					else
+						high = middle - 1;
+				}
+
+				const bottom = this.scrollTop + this.height;
+				let end = low;
+				while (end < count && this.offsetOf(end) < bottom)
+					end++;
+
+				return {
+					start: Math.max(low - this.buffer, 0),
+					end: Math.min(end + this.buffer, count)
+				};
+			},
+			onScroll: function (event) {
+				this.scrollTop = event.target.scrollTop;
+				const range = this.computeRange(this.itemsArray.length);
+				if (range.start !== this.renderedStart || range.end !== this.renderedEnd)
+					this.$forceUpdate();
+			},
+			measureRows: function () {
+				const rowsContainer = this.$el.firstChild.firstChild;
+				let changed = false;
+				for (let i = this.renderedStart, row = rowsContainer.firstChild; row; i++, row = row.nextSibling) {
+					if (this.heightDeltas.set(i, row.offsetHeight - this.estimatedRowHeight))
+						changed = true;
+				}
+
+				if (changed)
+					this.$forceUpdate();
+			}
+		},
+		render: function (h) {
+			const items = this.itemsArray;
+			this.heightDeltas = this.heightDeltas.resize(items.length);
+
+			const range = this.computeRange(items.length);
+			this.renderedStart = range.start;
+			this.renderedEnd = range.end;
+
+			const rowSlot = this.$scopedSlots.default;
+			const keyProvider = this.keyProvider;
+			const rows = [];
+			for (let i = range.start; i < range.end; i++) {
+				const row = rowSlot ? rowSlot({item: items[i], index: i}) : null;
+				const rowData = {staticClass: 'vue-gwt-virtual-list-row'};
+				if (keyProvider)
+					rowData.key = keyProvider(items[i]);
+				rows.push(h('div', rowData, Array.isArray(row) ? row : [row]));
+			}
+
+			return h('div', {
+				staticClass: 'vue-gwt-virtual-list',
+				style: {height: this.height + 'px', overflowY: 'auto'},
+				on: {scroll: this.onScroll}
+			}, [
+				h('div', {style: {height: this.offsetOf(items.length) + 'px'}}, [
+					h('div', {style: {transform: 'translateY(' + this.offsetOf(range.start) + 'px)'}}, rows)
+				])
+			]);
+		}
+	};
+
+	Vue.component('vue-gwt-virtual-list', virtualList.componentOptions);
+})(window);
+(function (context) {
+	if (!context.VueGWT)
+		context.VueGWT = {};
+	if (!context.VueGWT.instrumentation)
+		context.VueGWT.instrumentation = {};
+
+	const instrumentation = context.VueGWT.instrumentation;
+	const now = context.performance && context.performance.now ? function () {
+		return context.performance.now();
+	} : Date.now;
+
+	const vueProto = Vue.prototype;
+	const vueInit = vueProto._init;
+	const vueRender = vueProto._render;
+	const vueUpdate = vueProto._update;
+
+	let enabled = false;
+	// Timings of each Component, in the order they were first recorded
+	let timings = [];
+	// Timings of each Vue constructor, to avoid resolving the Component each time
+	let constructorsTimings = new Map();
+	// Timings of each Java Component class, a class can have several Vue constructors
+	let classesTimings = new Map();
+
+	const getComponentName = function (vm) {
+		// getComponentName is exported by the Java side of the instrumentation
+		return (instrumentation.getComponentName && instrumentation.getComponentName(vm))
+			|| vm.$options.name || '<anonymous>';
+	};
+
+	/**
+	 * Timings are keyed by Java class for Java Components, and by Vue constructor for JS
+	 * Components. Names are only used for display: class names are obfuscated in production
+	 * builds, and several JS Components can have the same name.
+	 */
+	const getTimings = function (vm) {
+		let componentTimings = constructorsTimings.get(vm.constructor);
+		if (componentTimings)
+			return componentTimings;
+
+		// getComponentClass is exported by the Java side of the instrumentation
+		const componentClass = (instrumentation.getComponentClass
+			&& instrumentation.getComponentClass(vm)) || null;
+		if (componentClass)
+			componentTimings = classesTimings.get(componentClass);
+
+		if (!componentTimings) {
+			componentTimings = {
+				name: getComponentName(vm),
+				instantiations: 0,
+				instantiationTime: 0,
+				renders: 0,
+				reRenders: 0,
+				renderTime: 0,
+				patches: 0,
+				patchTime: 0
+			};
+			// Not enumerable, so it's not part of the JSON
+			Object.defineProperty(componentTimings, 'componentClass', {value: componentClass});
+			timings.push(componentTimings);
+			if (componentClass)
+				classesTimings.set(componentClass, componentTimings);
+		}
+		constructorsTimings.set(vm.constructor, componentTimings);
+		return componentTimings;
+	};
+
+	// Time spent in the instrumented calls nested in the current one
+	let nestedTime = 0;
+
+	/**
+	 * Wrap a Vue method to record its time, excluding the time of the instrumented calls nested
+	 * in it. A parent patch creates and renders its children, their time is only recorded for
+	 * them.
+	 */
+	const timed = function (method, record) {
+		return function () {
+			const parentNestedTime = nestedTime;
+			nestedTime = 0;
+			const start = now();
+			try {
+				return method.apply(this, arguments);
+			} finally {
+				const time = now() - start;
+				record(getTimings(this), time - nestedTime, this);
+				nestedTime = parentNestedTime + time;
+			}
+		};
+	};
+
+	/**
+	 * Start recording the timings of all the Components.
+	 * Vue methods are only wrapped while the instrumentation is enabled, so it has no cost
+	 * otherwise.
+	 */
+	instrumentation.enable = function () {
+		if (enabled)
+			return;
+
+		enabled = true;
+		nestedTime = 0;
+		vueProto._init = timed(vueInit, function (componentTimings, time) {
+			componentTimings.instantiations++;
+			componentTimings.instantiationTime += time;
+		});
+		vueProto._render = timed(vueRender, function (componentTimings, time, vm) {
+			componentTimings.renders++;
+			if (vm._isMounted)
+				componentTimings.reRenders++;
+			componentTimings.renderTime += time;
+		});
+		vueProto._update = timed(vueUpdate, function (componentTimings, time) {
+			componentTimings.patches++;
+			componentTimings.patchTime += time;
+		});
+	};
+	instrumentation.disable = function () {
+		enabled = false;
+		vueProto._init = vueInit;
+		vueProto._render = vueRender;
+		vueProto._update = vueUpdate;
+	};
+	instrumentation.isEnabled = function () {
+		return enabled;
+	};
+	instrumentation.getTimings = function () {
+		return timings.slice();
+	};
+	instrumentation.reset = function () {
+		timings = [];
+		constructorsTimings = new Map();
+		classesTimings = new Map();
+	};
+	instrumentation.toJSON = function () {
+		return JSON.stringify(instrumentation.getTimings());
+	};
+
+	/**
+	 * Catch Vue Dep Prototype from an observed array
+	 * Arrays are not walked, so this doesn't call the Java side of the observer manager
+	 */
+	const depHolder = {};
+	Vue.util.defineReactive(depHolder, 'array', []);
+	const depProto = Object.getPrototypeOf(depHolder.array.__ob__.dep);
+	const depNotify = depProto.notify;
+
+	/**
+	 * Catch Vue Watcher Prototype from a lazy watcher
+	 * Lazy watchers are not evaluated on creation, so this doesn't need a Vue instance
+	 */
+	const watcherHolder = {_watchers: []};
+	vueProto.$watch.call(watcherHolder, function () {
+	}, function () {
+	}, {lazy: true});
+	const watcherProto = Object.getPrototypeOf(watcherHolder._watchers[0]);
+	const watcherRun = watcherProto.run;
+
+	let tracing = false;
+	// Ring buffer of the re-render traces
+	let traces = [];
+	let tracesCapacity = 0;
+	let nextTraceIndex = 0;
+	// The Java mutation being notified, if any
+	let mutation = null;
+	// Render watchers with a trace recorded, until they re-render
+	let pendingWatchers = new Set();
+
+	const recordTrace = function (trace) {
+		if (traces.length < tracesCapacity)
+			traces.push(trace);
+		else
+			traces[nextTraceIndex] = trace;
+		nextTraceIndex = (nextTraceIndex + 1) % tracesCapacity;
+	};
+
+	/**
+	 * Start recording the re-renders caused by each mutation.
+	 * A trace is recorded for each re-render of a mounted Component, with the first mutation
+	 * that caused it. Only the last traces are kept.
+	 * @param capacity The number of traces to keep, must be positive
+	 */
+	instrumentation.enableTracing = function (capacity) {
+		if (!(capacity > 0))
+			throw new Error('The capacity of the traces must be positive, got: ' + capacity);
+
+		if (tracesCapacity !== capacity) {
+			tracesCapacity = capacity;
+			instrumentation.clearTraces();
+		}
+		if (tracing)
+			return;
+
+		tracing = true;
+		depProto.notify = function () {
+			const timestamp = now();
+			const subs = this.subs;
+			for (let i = 0; i < subs.length; i++) {
+				const watcher = subs[i];
+				const vm = watcher.vm;
+				// Only the render watcher of mounted Components, other watchers don't re-render
+				if (!vm || vm._watcher !== watcher || !vm._isMounted || vm._isDestroyed)
+					continue;
+				// The re-render is already traced, the watcher is only queued once by Vue
+				if (pendingWatchers.has(watcher))
+					continue;
+
+				pendingWatchers.add(watcher);
+				recordTrace({
+					component: vm,
+					componentName: getComponentName(vm),
+					object: mutation && mutation.object,
+					methodName: mutation && mutation.methodName,
+					timestamp: timestamp
+				});
+			}
+			return depNotify.apply(this, arguments);
+		};
+		watcherProto.run = function () {
+			pendingWatchers.delete(this);
+			return watcherRun.apply(this, arguments);
+		};
+	};
+	instrumentation.disableTracing = function () {
+		tracing = false;
+		depProto.notify = depNotify;
+		watcherProto.run = watcherRun;
+		pendingWatchers = new Set();
+	};
+	instrumentation.isTracingEnabled = function () {
+		return tracing;
+	};
+	/**
+	 * @return The traces recorded, the oldest first
+	 */
+	instrumentation.getTraces = function () {
+		if (traces.length < tracesCapacity)
+			return traces.slice();
+
+		return traces.slice(nextTraceIndex).concat(traces.slice(0, nextTraceIndex));
+	};
+	instrumentation.clearTraces = function () {
+		traces = [];
+		nextTraceIndex = 0;
+	};
+
+	/**
+	 * Notify the dependency of a Vue Observer for a mutation done by a Java method.
+	 * The object and method are recorded in the traces caused by this notification.
+	 * @param observer The Vue Observer of the mutated object
+	 * @param methodName The name of the method that mutated the object, may be null
+	 */
+	instrumentation.notifyMutation = function (observer, methodName) {
+		if (!tracing) {
+			observer.dep.notify();
+			return;
+		}
+
+		const previousMutation = mutation;
+		mutation = {object: observer.value, methodName: methodName};
+		try {
+			observer.dep.notify();
+		} finally {
+			mutation = previousMutation;
+		}
+	};
+})(window);
@@ -1,4 +1,7 @@
-(function(a){a.VueGWT||(a.VueGWT={});a.VueGWT.tools||(a.VueGWT.tools={});a=a.VueGWT.tools;a.createInstanceForVueClass=function(b){return new b};a.extendVueClass=function(b,c){return b.extend(c)};a.javaArrayToJsArray=function(b){return b};a.wrapMethodWithBefore=function(b,c,a){var d=Object.getPrototypeOf(b),f=d[c];null===f&&console.error("Attempting to wrap a non existing method",b,c);d[c]=function(){a(b,c,arguments);return f.apply(this,arguments)}};a.wrapMethodWithAfter=function(b,c,a){var d=Object.getPrototypeOf(b),
-f=d[c];null===f&&console.error("Attempting to wrap a non existing method",b,c);d[c]=function(){var d=f.apply(this,arguments);a(b,c,d,arguments);return d}};a.wrapMethod=function(b,a,d,h){var c=Object.getPrototypeOf(b),e=c[a];null===e&&console.error("Attempting to wrap a non existing method",b,a);c[a]=function(){d(b,a,arguments);var c=e.apply(this,arguments);h(b,a,c,arguments);return c}};a.extendVueConstructorWithJavaPrototype=function(a,c){a=a.prototype;for(var b in c)a.hasOwnProperty(b)||(a[b]=c[b])}})(window);
-(function(a){a.VueGWT||(a.VueGWT={});a.VueGWT.observerManager||(a.VueGWT.observerManager={});var b=a.VueGWT.observerManager;b.customizeVueObserver=function(a){a=Object.getPrototypeOf(a);var c=a.walk;a.walk=function(){if(!b.observeJavaObject(arguments[0]))return c.apply(this,arguments)}};var c={};b.makeStaticallyInitializedPropertiesReactive=function(a,b){b=c[b];if(!b){b=[];var d=Object.getPrototypeOf(a),e;for(e in d){var g=d[e];(null===g||"function"!==typeof g&&"object"!==typeof g)&&b.push({key:e,
-value:g})}}b.forEach(function(b){a.hasOwnProperty(b.key)||(a[b.key]=b.value)})};new Vue({created:function(){b.customizeVueObserver(this.$data.__ob__)}})})(window);
\ No newline at end of file
+(function(a){a.VueGWT||(a.VueGWT={});a.VueGWT.tools||(a.VueGWT.tools={});a=a.VueGWT.tools;a.createInstanceForVueClass=function(b){return new b};a.extendVueClass=function(b,c){return b.extend(c)};a.javaArrayToJsArray=function(b){return b};var g=function(b,c,d,f,k){for(var e=Object.getPrototypeOf(b);e&&!e.hasOwnProperty(c);)e=Object.getPrototypeOf(e);if(e){var h=e[c];for(b=h;b;b=b.vueGwtWrappedFunc)if(b.vueGwtBeforeMethodCall===d&&b.vueGwtAfterMethodCall===f)return;b=k(h);b.vueGwtWrappedFunc=h;b.vueGwtBeforeMethodCall=d;b.vueGwtAfterMethodCall=f;e[c]=b}else console.error("Attempting to wrap a non existing method",b,c)};
+a.wrapMethodWithBefore=function(b,c,a){g(b,c,a,void 0,function(b){return function(){a(this,c,arguments);return b.apply(this,arguments)}})};a.wrapMethodWithAfter=function(b,c,a){g(b,c,void 0,a,function(b){return function(){var d=b.apply(this,arguments);a(this,c,d,arguments);return d}})};
+a.wrapMethod=function(b,c,d,f){g(b,c,d,f,function(b){return function(){d(this,c,arguments);var a=b.apply(this,arguments);f(this,c,a,arguments);return a}})};a.extendVueConstructorWithJavaPrototype=function(a,c){a=a.prototype;for(var b in c)a.hasOwnProperty(b)||(a[b]=c[b])}})(window);
+(function(a){a.VueGWT||(a.VueGWT={});a.VueGWT.observerManager||(a.VueGWT.observerManager={});var b=a.VueGWT.observerManager;b.customizeVueObserver=function(a){a=Object.getPrototypeOf(a);var c=a.walk;a.walk=function(){var a=arguments[0];if(!b.observeJavaObject(a)){if(a.vueGwtShallowFields)l(a,a.vueGwtShallowFields);else return c.apply(this,arguments)}}};var l=function(a,b){for(var c=Object.keys(a),d=0;d<c.length;d++){var e=c[d];Vue.util.defineReactive(a,e,a[e],void 0,!0===b[e])}};b.setShallowReactiveFields=function(a,b){Object.defineProperty(a,"vueGwtShallowFields",{value:b})};var c=new Map,f=0,h=0;b.makeStaticallyInitializedPropertiesReactive=function(a){var b=Object.getPrototypeOf(a),d=c.get(b);if(!d){d=[];for(var e in b){var g=b[e];(null===g||"function"!==typeof g&&"object"!==typeof g)&&d.push({key:e,value:g})}c.set(b,d)}
+for(b=e=0;b<d.length;b++)g=d[b],a.hasOwnProperty(g.key)||(a[g.key]=g.value,e++);0<e&&(f++,h+=e)};b.getPatchedObjectsCount=function(){return f};b.getPatchedPropertiesCount=function(){return h};new Vue({created:function(){b.customizeVueObserver(this.$data.__ob__)}})})(window);
+(function(a){a.VueGWT||(a.VueGWT={});a.VueGWT.virtualList||(a.VueGWT.virtualList={});var e=a.VueGWT.virtualList,f=function(b){this.size=b.length;this.deltas=b;this.tree=new Float64Array(this.size+1);for(var c=1;c<=this.size;c++){this.tree[c]+=b[c-1];var d=c+(c&-c);d<=this.size&&(this.tree[d]+=this.tree[c])}};f.prototype.resize=function(b){if(b===this.size)return this;var c=new Float64Array(b);c.set(b<this.size?this.deltas.subarray(0,b):this.deltas);return new f(c)};f.prototype.set=function(b,c){var d=c-this.deltas[b];if(0===d)return!1;this.deltas[b]=c;for(b+=1;b<=this.size;b+=b&-b)this.tree[b]+=d;return!0};f.prototype.sumBefore=function(b){for(var c=0;0<b;b-=b&-b)c+=this.tree[b];return c};var g=function(b){return null==b?[]:Array.isArray(b)?b:e.toJsArray(b)};e.componentOptions={name:"vue-gwt-virtual-list",props:{items:{required:!0},height:{type:Number,"default":400},estimatedRowHeight:{type:Number,"default":30},buffer:{type:Number,"default":5},keyProvider:{type:Function,"default":null}},computed:{itemsArray:function(){return g(this.items)}},created:function(){this.renderedEnd=this.renderedStart=this.scrollTop=0;this.heightDeltas=new f(new Float64Array(0))},mounted:function(){this.measureRows()},updated:function(){this.measureRows()},methods:{offsetOf:function(b){return b*this.estimatedRowHeight+this.heightDeltas.sumBefore(b)},computeRange:function(b){for(var c=0,d=Math.max(b-1,0);c<d;){var a=c+d+1>>1;this.offsetOf(a)<=this.scrollTop?c=a:d=a-1}a=this.scrollTop+this.height;for(d=c;d<b&&this.offsetOf(d)<a;)d++;return{start:Math.max(c-this.buffer,0),end:Math.min(d+this.buffer,b)}},onScroll:function(b){this.scrollTop=b.target.scrollTop;b=this.computeRange(this.itemsArray.length);b.start===this.renderedStart&&b.end===this.renderedEnd||this.$forceUpdate()},measureRows:function(){for(var b=this.$el.firstChild.firstChild,c=!1,d=this.renderedStart,b=b.firstChild;b;d++,b=b.nextSibling)this.heightDeltas.set(d,b.offsetHeight-this.estimatedRowHeight)&&(c=!0);c&&this.$forceUpdate()}},render:function(b){var c=this.itemsArray;this.heightDeltas=this.heightDeltas.resize(c.length);var d=this.computeRange(c.length);this.renderedStart=d.start;this.renderedEnd=d.end;for(var a=this.$scopedSlots["default"],h=this.keyProvider,e=[],f=d.start;f<d.end;f++){var g=a?a({item:c[f],index:f}):null,k={staticClass:"vue-gwt-virtual-list-row"};h&&(k.key=h(c[f]));e.push(b("div",k,Array.isArray(g)?g:[g]))}return b("div",{staticClass:"vue-gwt-virtual-list",style:{height:this.height+"px",overflowY:"auto"},on:{scroll:this.onScroll}},[b("div",{style:{height:this.offsetOf(c.length)+"px"}},[b("div",{style:{transform:"translateY("+this.offsetOf(d.start)+"px)"}},e)])])}};Vue.component("vue-gwt-virtual-list",e.componentOptions)})(window);
+(function(b){b.VueGWT||(b.VueGWT={});b.VueGWT.instrumentation||(b.VueGWT.instrumentation={});var c=b.VueGWT.instrumentation,d=b.performance&&b.performance.now?function(){return b.performance.now()}:Date.now,e=Vue.prototype,m=e._init,n=e._render,p=e._update,f=!1,g=[],h=new Map,F=new Map,q=function(a){return c.getComponentName&&c.getComponentName(a)||a.$options.name||"<anonymous>"},k=function(a){var b=h.get(a.constructor);if(b)return b;var d=c.getComponentClass&&c.getComponentClass(a)||null;d&&(b=F.get(d));b||(b={name:q(a),instantiations:0,instantiationTime:0,renders:0,reRenders:0,renderTime:0,patches:0,patchTime:0},Object.defineProperty(b,"componentClass",{value:d}),g.push(b),d&&F.set(d,b));h.set(a.constructor,b);return b},D=0,E=function(a,b){return function(){var c=D;D=0;var e=d();try{return a.apply(this,arguments)}finally{var f=d()-e;b(k(this),f-D,this);D=c+f}}};c.enable=function(){f||(f=!0,D=0,e._init=E(m,function(a,b){a.instantiations++;a.instantiationTime+=b}),e._render=E(n,function(a,b,c){a.renders++;c._isMounted&&a.reRenders++;a.renderTime+=b}),e._update=E(p,function(a,b){a.patches++;a.patchTime+=b}))};c.disable=function(){f=!1;e._init=m;e._render=n;e._update=p};c.isEnabled=function(){return f};c.getTimings=function(){return g.slice()};c.reset=function(){g=[];h=new Map;F=new Map};c.toJSON=function(){return JSON.stringify(c.getTimings())};var r={};Vue.util.defineReactive(r,"array",[]);var t=Object.getPrototypeOf(r.array.__ob__.dep),u=t.notify,z={_watchers:[]};e.$watch.call(z,function(){},function(){},{lazy:!0});var A=Object.getPrototypeOf(z._watchers[0]),B=A.run,v=!1,l=[],w=0,x=0,y=null,C=new Set;c.enableTracing=function(a){if(!(0<a))throw Error("The capacity of the traces must be positive, got: "+a);w!==a&&(w=a,c.clearTraces());v||(v=!0,t.notify=function(){for(var a=d(),b=this.subs,c=0;c<b.length;c++){var f=b[c],e=f.vm;!e||e._watcher!==f||!e._isMounted||e._isDestroyed||C.has(f)||(C.add(f),l.length<w?l.push({component:e,componentName:q(e),object:y&&y.object,methodName:y&&y.methodName,timestamp:a}):l[x]={component:e,componentName:q(e),object:y&&y.object,methodName:y&&y.methodName,timestamp:a},x=(x+1)%w)}return u.apply(this,arguments)},A.run=function(){C.delete(this);return B.apply(this,arguments)})};c.disableTracing=function(){v=!1;t.notify=u;A.run=B;C=new Set};c.isTracingEnabled=function(){return v};c.getTraces=function(){return l.length<w?l.slice():l.slice(x).concat(l.slice(0,x))};c.clearTraces=function(){l=[];x=0};c.notifyMutation=function(a,b){if(v){var c=y;y={object:a.value,methodName:b};try{a.dep.notify()}finally{y=c}}else a.dep.notify()}})(window);
\ No newline at end of file
@@ -0,0 +1,62 @@
+package com.axellience.vuegwt.client.tools;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Compare the previous getDeepValue implementation, splitting the path on each call, to the
+ * compiled path accessors of the bundled js-tools script.
+ * This is not part of the unit tests, run its main method to print the timings.
+ * @author Adrien Baron
+ */
+public class JsToolsBenchmark
+{
+    private static final String JS_TOOLS_SCRIPT =
+        "/com/axellience/vuegwt/client/resources/js-tools.min.js";
+    private static final int ITERATIONS = 200000;
+
+    public static void main(String[] args) throws Exception
+    {
+        ScriptEngine engine = new ScriptEngineManager().getEngineByName("nashorn");
+        engine.eval("var window = this;");
+        try (Reader script = new InputStreamReader(JsToolsBenchmark.class.getResourceAsStream(
+            JS_TOOLS_SCRIPT), StandardCharsets.UTF_8))
+        {
+            engine.eval(script);
+        }
+
+        engine.eval("var benchObject = {todo: {owner: {name: 'Bob'}}};"
+            + "function splitGetDeepValue(obj, path) {"
+            + "  for (var i = 0, pathObj = path.split('.'), len = pathObj.length; i < len; i++)"
+            + "    obj = obj[pathObj[i]];"
+            + "  return obj;"
+            + "}"
+            + "function bench(getDeepValue, iterations) {"
+            + "  var start = Date.now();"
+            + "  for (var i = 0; i < iterations; i++)"
+            + "    getDeepValue(benchObject, 'todo.owner.name');"
+            + "  return Date.now() - start;"
+            + "}");
+
+        String splitBench = "bench(splitGetDeepValue, " + ITERATIONS + ")";
+        String compiledBench = "bench(VueGWT.jsTools.getDeepValue, " + ITERATIONS + ")";
+
+        // Warm up both implementations before measuring
+        engine.eval(splitBench);
+        engine.eval(compiledBench);
+
+        Number splitTime = (Number) engine.eval(splitBench);
+        Number compiledTime = (Number) engine.eval(compiledBench);
+
+        System.out.println("getDeepValue x"
+            + ITERATIONS
+            + ": split path "
+            + splitTime
+            + "ms, compiled path "
+            + compiledTime
+            + "ms");
+    }
+}
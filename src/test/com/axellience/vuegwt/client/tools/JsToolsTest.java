@@ -0,0 +1,107 @@
+package com.axellience.vuegwt.client.tools;
+
+import jdk.nashorn.api.scripting.ScriptObjectMirror;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineManager;
+import javax.script.ScriptException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Run the bundled js-tools script in Nashorn.
+ * @author Adrien Baron
+ */
+public class JsToolsTest
+{
+    private static final String JS_TOOLS_SCRIPT =
+        "/com/axellience/vuegwt/client/resources/js-tools.min.js";
+
+    private ScriptEngine engine;
+    private ScriptObjectMirror jsTools;
+
+    @BeforeEach
+    void init() throws Exception
+    {
+        engine = new ScriptEngineManager().getEngineByName("nashorn");
+        engine.eval("var window = this;");
+        try (Reader script = new InputStreamReader(getClass().getResourceAsStream(JS_TOOLS_SCRIPT),
+            StandardCharsets.UTF_8))
+        {
+            engine.eval(script);
+        }
+        jsTools = (ScriptObjectMirror) engine.eval("VueGWT.jsTools");
+    }
+
+    @Test
+    void getDeepValue() throws ScriptException
+    {
+        Object object = engine.eval("({todo: {owner: {name: 'Bob'}}, 'my-key': {'a\"b': 12}})");
+
+        assertEquals("Bob", jsTools.callMember("getDeepValue", object, "todo.owner.name"));
+        assertEquals(12, jsTools.callMember("getDeepValue", object, "my-key.a\"b"));
+    }
+
+    @Test
+    void compilePathIsCached()
+    {
+        // Mirrors are equal when they wrap the same JS object
+        assertEquals(jsTools.callMember("compilePath", "todo.owner.name"),
+            jsTools.callMember("compilePath", "todo.owner.name"));
+    }
+
+    @Test
+    void compilePathSet() throws ScriptException
+    {
+        Object object = engine.eval("({todo: {owner: {name: 'Bob'}}})");
+
+        ScriptObjectMirror compiledPath =
+            (ScriptObjectMirror) jsTools.callMember("compilePath", "todo.owner.name");
+        compiledPath.callMember("set", object, "Alice");
+
+        assertEquals("Alice", compiledPath.callMember("get", object));
+    }
+
+    @Test
+    void compilePathOfAnyLength() throws ScriptException
+    {
+        Object object = engine.eval("({a: {b: {c: {d: {e: 'deep'}}}}, top: 1})");
+
+        assertEquals(1, getPath(object, "top"));
+        assertEquals("deep", getPath(object, "a.b.c.d.e"));
+        assertEquals(jsTools.callMember("getDeepValue", object, "a.b.c.d"),
+            getPath(object, "a.b.c.d"));
+
+        String[] paths = { "top", "a.x", "a.b.x", "a.b.c.x", "a.b.c.d.x" };
+        for (int i = 0; i < paths.length; i++)
+        {
+            ScriptObjectMirror compiledPath =
+                (ScriptObjectMirror) jsTools.callMember("compilePath", paths[i]);
+            compiledPath.callMember("set", object, i);
+            assertEquals(i, compiledPath.callMember("get", object), paths[i]);
+        }
+        assertEquals("deep", getPath(object, "a.b.c.d.e"));
+    }
+
+    @Test
+    void compilePathMissingProperty() throws ScriptException
+    {
+        Object object = engine.eval("({todo: {}})");
+
+        assertTrue(ScriptObjectMirror.isUndefined(getPath(object, "todo.owner")));
+        assertThrows(RuntimeException.class, () -> getPath(object, "todo.owner.name"));
+    }
+
+    private Object getPath(Object object, String path)
+    {
+        return ((ScriptObjectMirror) jsTools.callMember("compilePath", path)).callMember("get",
+            object);
+    }
+}
@@ -0,0 +1,191 @@
+package com.axellience.vuegwt.template.compiler;
+
+import com.google.gwt.dev.resource.Resource;
+import com.google.gwt.dev.resource.ResourceOracle;
+import org.jsoup.nodes.Document;
+import org.jsoup.parser.ParseSettings;
+import org.jsoup.parser.Parser;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+
+import java.io.IOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Expected render functions are the ones produced by vue-template-compiler 2.4.2.
+ * The templates of the documentation are also compiled with the bundled vue-template-compiler,
+ * to check that both compilers produce the same render functions.
+ * @author Adrien Baron
+ */
+public class JavaTemplateCompilerTest
+{
+    private static final Path DOCS_SOURCE = Paths.get("docs-source");
+
+    private JavaTemplateCompiler compiler;
+
+    @BeforeEach
+    void init()
+    {
+        compiler = new JavaTemplateCompiler();
+    }
+
+    @Test
+    void compileIf()
+    {
+        assertRender("<div><span>static</span><p v-if=\"a\">{{ b }}</p></div>",
+            "with(this){return _c('div',[_c('span',[_v(\"static\")]),(a)?_c('p',[_v(_s(b))]):_e()])}");
+    }
+
+    @Test
+    void compileIfElseChain()
+    {
+        assertRender(
+            "<div><p v-if=\"a\">A</p><p v-else-if=\"b\">B</p><p v-else>C</p></div>",
+            "with(this){return _c('div',[(a)?_c('p',[_v(\"A\")]):(b)?_c('p',[_v(\"B\")]):_c('p',[_v(\"C\")])])}");
+    }
+
+    @Test
+    void compileFor()
+    {
+        assertRender(
+            "<ul><li v-for=\"(item, index) in items\" :key=\"item.id\">{{ item.name }}</li></ul>",
+            "with(this){return _c('ul',_l((items),function(item,index){return _c('li',{key:item.id},[_v(_s(item.name))])}))}");
+    }
+
+    @Test
+    void compileModel()
+    {
+        assertRender("<div><input v-model=\"msg\"><my-comp v-model=\"value\"></my-comp></div>",
+            "with(this){return _c('div',[_c('input',{directives:[{name:\"model\",rawName:\"v-model\",value:(msg),expression:\"msg\"}],domProps:{\"value\":(msg)},on:{\"input\":function($event){if($event.target.composing)return;msg=$event.target.value}}}),_c('my-comp',{model:{value:(value),callback:function ($$v) {value=$$v},expression:\"value\"}})],1)}");
+    }
+
+    @Test
+    void compileEvents()
+    {
+        assertRender(
+            "<div @click.stop=\"doIt\" @keyup.enter=\"go($event)\"><my-comp @click.native=\"n\"></my-comp></div>",
+            "with(this){return _c('div',{on:{\"click\":function($event){$event.stopPropagation();doIt($event)},\"keyup\":function($event){if(!('button' in $event)&&_k($event.keyCode,\"enter\",13))return null;go($event)}}},[_c('my-comp',{nativeOn:{\"click\":function($event){n($event)}}})],1)}");
+    }
+
+    @Test
+    void compileSlots()
+    {
+        assertRender(
+            "<div><slot name=\"header\" :item=\"it\">fallback</slot><my-list><template slot=\"item\" scope=\"props\"><span>{{ props.text }}</span></template></my-list></div>",
+            "with(this){return _c('div',[_t(\"header\",[_v(\"fallback\")],{item:it}),_c('my-list',{scopedSlots:_u([{key:\"item\",fn:function(props){return [_c('span',[_v(_s(props.text))])]}}])})],2)}");
+    }
+
+    @Test
+    void compileClassStyleAndFilters()
+    {
+        assertRender(
+            "<div :class=\"{ active: isActive }\" class=\"static\" style=\"color: red\">{{ msg | capitalize }}</div>",
+            "with(this){return _c('div',{staticClass:\"static\",class:{ active: isActive },staticStyle:{\"color\":\"red\"}},[_v(_s(_f(\"capitalize\")(msg)))])}");
+    }
+
+    @Test
+    void hoistStaticRoots()
+    {
+        VueTemplateCompilerResult result = compile(
+            "<div><div><span>deep</span><span>static</span></div><p>{{ dyn }}</p></div>");
+        assertEquals("with(this){return _c('div',[_m(0),_c('p',[_v(_s(dyn))])])}",
+            result.getRenderFunction());
+        assertArrayEquals(new String[] {
+            "with(this){return _c('div',[_c('span',[_v(\"deep\")]),_c('span',[_v(\"static\")])])}"
+        }, result.getStaticRenderFunctions());
+    }
+
+    @Test
+    void compileEmptyTemplate()
+    {
+        assertRender("", "with(this){return _c(\"div\")}");
+    }
+
+    @TestFactory
+    Stream<DynamicTest> compileDocsTemplatesLikeVueTemplateCompiler() throws IOException
+    {
+        VueTemplateCompiler vueTemplateCompiler = new VueTemplateCompiler(classpathResources());
+
+        List<Path> templates;
+        try (Stream<Path> paths = Files.walk(DOCS_SOURCE))
+        {
+            templates = paths
+                .filter(JavaTemplateCompilerTest::isComponentTemplate)
+                .sorted()
+                .collect(Collectors.toList());
+        }
+
+        return templates.stream().map(path -> dynamicTest(path.toString(), () -> {
+            String template = new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+            VueTemplateCompilerResult expected = vueTemplateCompiler.compile(template);
+            VueTemplateCompilerResult result = compile(template);
+
+            assertEquals(expected.getRenderFunction(), result.getRenderFunction());
+            assertArrayEquals(expected.getStaticRenderFunctions(),
+                result.getStaticRenderFunctions());
+        }));
+    }
+
+    /**
+     * Component templates are next to the Component class, other HTML files are host pages.
+     */
+    private static boolean isComponentTemplate(Path path)
+    {
+        String fileName = path.getFileName().toString();
+        if (!fileName.endsWith(".html"))
+            return false;
+
+        String componentFileName = fileName.substring(0, fileName.length() - 5) + ".java";
+        return Files.exists(path.resolveSibling(componentFileName));
+    }
+
+    /**
+     * A {@link ResourceOracle} loading the vue-template-compiler from the classpath, like GWT.
+     */
+    private ResourceOracle classpathResources()
+    {
+        ResourceOracle resourceOracle = mock(ResourceOracle.class);
+        when(resourceOracle.getResource(anyString())).thenAnswer(
+            invocation -> {
+                URL url = getClass().getClassLoader().getResource(invocation.getArgument(0));
+                if (url == null)
+                    return null;
+
+                Resource resource = mock(Resource.class);
+                when(resource.getLocation()).thenReturn(url.toExternalForm());
+                return resource;
+            });
+        return resourceOracle;
+    }
+
+    private void assertRender(String template, String expectedRender)
+    {
+        VueTemplateCompilerResult result = compile(template);
+        assertEquals(expectedRender, result.getRenderFunction());
+        assertEquals(0, result.getStaticRenderFunctions().length);
+    }
+
+    private VueTemplateCompilerResult compile(String template)
+    {
+        Parser parser = Parser.htmlParser();
+        parser.settings(new ParseSettings(true, true));
+        Document doc = parser.parseInput(template, "");
+        return compiler.compile(doc.body());
+    }
+}
@@ -0,0 +1,51 @@
+package com.axellience.vuegwt.template.compiler;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * @author Adrien Baron
+ */
+public class WithStatementStripperTest
+{
+    private static final String VM =
+        "var _vm=this;var _h=_vm.$createElement;var _c=_vm._self._c||_h;";
+
+    @Test
+    void stripHelpersAndProperties()
+    {
+        assertStrip("with(this){return _c('div',[_v(_s(text))])}",
+            VM + "return _c('div',[_vm._v(_vm._s(_vm.text))])");
+    }
+
+    @Test
+    void keepFunctionParameters()
+    {
+        assertStrip(
+            "with(this){return _c('ul',_l((items),function(item,index){return _c('li',{key:item.id},[_v(_s(index))])}))}",
+            VM
+                + "return _c('ul',_vm._l((_vm.items),function(item,index){return _c('li',{key:item.id},[_vm._v(_vm._s(index))])}))");
+    }
+
+    @Test
+    void keepObjectKeysStringsAndGlobals()
+    {
+        assertStrip(
+            "with(this){return _c('div',{class:{ active: isActive },attrs:{\"title\":\"a b\"},on:{\"input\":function($event){msg=Math.max($event.target.value, 0)}}})}",
+            VM
+                + "return _c('div',{class:{ active: _vm.isActive },attrs:{\"title\":\"a b\"},on:{\"input\":function($event){_vm.msg=Math.max($event.target.value, 0)}}})");
+    }
+
+    @Test
+    void stripStaticRenderFunction()
+    {
+        assertStrip("with(this){return _c('p',[_v(\"static\")])}",
+            VM + "return _c('p',[_vm._v(\"static\")])");
+    }
+
+    private void assertStrip(String functionBody, String expected)
+    {
+        assertEquals(expected, WithStatementStripper.strip(functionBody));
+    }
+}
@@ -0,0 +1,137 @@
+package com.axellience.vuegwt.template.parser;
+
+import com.axellience.vuegwt.template.parser.result.TemplateParserResult;
+import com.google.gwt.core.ext.typeinfo.JClassType;
+import com.google.gwt.core.ext.typeinfo.JField;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Paths;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Only compile-time constants should be inlined in the templates.
+ * @author Adrien Baron
+ */
+public class TemplateParserConstantTest
+{
+    private static final String IMPORT_CONSTANTS = "<vue-gwt:import class=\""
+        + Constants.class.getCanonicalName()
+        + "\"/>";
+
+    private JClassType component;
+    private ClassLoader classLoader;
+
+    @BeforeEach
+    void init() throws MalformedURLException
+    {
+        // The constants are read from the sources, like in the GWT compilation
+        classLoader = Thread.currentThread().getContextClassLoader();
+        URL testSources = Paths.get("src/test").toUri().toURL();
+        Thread.currentThread()
+            .setContextClassLoader(new URLClassLoader(new URL[] { testSources }, classLoader));
+
+        component = mock(JClassType.class);
+        when(component.getQualifiedSourceName()).thenReturn("demo.DemoComponentJsType");
+        when(component.getFields()).thenReturn(new JField[] {});
+    }
+
+    @AfterEach
+    void restoreClassLoader()
+    {
+        Thread.currentThread().setContextClassLoader(classLoader);
+    }
+
+    @Test
+    void inlineStringConstant()
+    {
+        TemplateParserResult result = parse("<div :title=\"Constants.TITLE\"></div>");
+        assertEquals("<div :title=\"&quot;Hello World&quot;\"></div>",
+            result.getProcessedTemplate());
+        assertEquals(0, result.getExpressions().size());
+    }
+
+    @Test
+    void inlineConstantText()
+    {
+        TemplateParserResult result = parse("<p>{{ Constants.TITLE }} {{ Constants.COUNT }}</p>");
+        assertEquals("<p>Hello World 3</p>", result.getProcessedTemplate());
+        assertEquals(0, result.getExpressions().size());
+    }
+
+    @Test
+    void inlineBooleanConstant()
+    {
+        TemplateParserResult result = parse("<div v-if=\"Constants.ENABLED\"></div>");
+        assertEquals("<div v-if=\"true\"></div>", result.getProcessedTemplate());
+        assertEquals(0, result.getExpressions().size());
+    }
+
+    @Test
+    void inlineConstantExpressions()
+    {
+        TemplateParserResult result = parse(
+            "<p>{{ Constants.GREETING }} {{ Constants.MASK }} {{ Constants.LABEL }}</p>");
+        assertEquals("<p>Hello Vue 15 Hello Vue!</p>", result.getProcessedTemplate());
+        assertEquals(0, result.getExpressions().size());
+    }
+
+    @Test
+    void keepFieldsInitializedAtRuntime()
+    {
+        TemplateParserResult result =
+            parse("<div v-if=\"Constants.SCRIPT\" :title=\"Constants.COMPUTED\"></div>");
+        assertEquals(2, result.getExpressions().size());
+    }
+
+    @Test
+    void keepNonFinalFields()
+    {
+        TemplateParserResult result = parse("<div :title=\"Constants.mutable\"></div>");
+        assertEquals(1, result.getExpressions().size());
+    }
+
+    @Test
+    void dontInitializeClasses()
+    {
+        parse("<div :title=\"Constants.TITLE\" v-if=\"Constants.SCRIPT\"></div>");
+        assertFalse(InitializationTracker.initialized);
+    }
+
+    private TemplateParserResult parse(String template)
+    {
+        return new TemplateParser().parseHtmlTemplate(IMPORT_CONSTANTS + template, component);
+    }
+
+    public static class InitializationTracker
+    {
+        public static boolean initialized = false;
+    }
+
+    public static class Constants
+    {
+        static
+        {
+            InitializationTracker.initialized = true;
+        }
+
+        private static final String PREFIX = "Hello ";
+        public static final String TITLE = "Hello " + "World";
+        public static final int COUNT = 1 + 2;
+        public static final boolean ENABLED = true;
+        public static final String GREETING = PREFIX + "Vue";
+        public static final int MASK = ~0 >>> (COUNT * 10 - 2);
+        public static final String LABEL = ENABLED ? GREETING + '!' : "";
+        public static final String COMPUTED = String.valueOf(42);
+        public static final boolean SCRIPT = Boolean.getBoolean("vuegwt.test");
+        public static String mutable = "mutable";
+    }
+}